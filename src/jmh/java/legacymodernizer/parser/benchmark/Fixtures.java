@@ -0,0 +1,68 @@
+package legacymodernizer.parser.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 벤치마크 입력 (워밍업 코퍼스 재사용)
+ * - small: 단일 함수/트리거 수준
+ * - medium: 패키지 또는 복잡한 UPDATE 한 개 (test_complex_update.sql)
+ * - huge: medium 계열 입력을 반복 연결한 대용량 파일
+ */
+final class Fixtures {
+
+    private static final int HUGE_REPEAT = 40;
+
+    private Fixtures() {
+    }
+
+    static String oracle(String size) {
+        switch (size) {
+            case "small":
+                return load("warmup/oracle/fn_and_trigger.sql");
+            case "medium":
+                return load("warmup/oracle/pkg_order.sql");
+            case "huge":
+                return repeat(load("warmup/oracle/pkg_order.sql")
+                        + "\n" + load("warmup/oracle/proc_sync.sql")
+                        + "\n" + load("warmup/oracle/fn_and_trigger.sql"), HUGE_REPEAT);
+            default:
+                throw new IllegalArgumentException("알 수 없는 입력 크기: " + size);
+        }
+    }
+
+    static String postgresql(String size) {
+        switch (size) {
+            case "small":
+                return load("warmup/postgresql/functions.sql");
+            case "medium":
+                return load("warmup/postgresql/complex_update.sql");
+            case "huge":
+                return repeat(load("warmup/postgresql/complex_update.sql")
+                        + "\n" + load("warmup/postgresql/functions.sql"), HUGE_REPEAT);
+            default:
+                throw new IllegalArgumentException("알 수 없는 입력 크기: " + size);
+        }
+    }
+
+    private static String repeat(String source, int times) {
+        StringBuilder sb = new StringBuilder(source.length() * times + times);
+        for (int i = 0; i < times; i++) {
+            sb.append(source).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static String load(String resource) {
+        try (InputStream in = Fixtures.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("벤치마크 입력을 찾을 수 없습니다: " + resource);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package legacymodernizer.parser.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import legacymodernizer.parser.antlr.CaseChangingCharStream;
+import legacymodernizer.parser.antlr.CustomPlSqlListener;
+import legacymodernizer.parser.antlr.NodeTree;
+import legacymodernizer.parser.antlr.plsql.PlSqlLexer;
+import legacymodernizer.parser.antlr.plsql.PlSqlParser;
+
+/**
+ * Oracle PL/SQL 단계별 벤치마크 (렉싱 / sql_script 파싱 / 리스너 순회 / JSON 직렬화)
+ * - 각 단계는 이전 단계 결과를 @Setup에서 미리 만들어 두고 해당 단계만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlSqlBenchmark {
+
+    @Param({ "small", "medium", "huge" })
+    public String size;
+
+    private String source;
+    private List<? extends Token> tokens;
+    private CommonTokenStream parsedTokens;
+    private ParserRuleContext tree;
+    private NodeTree root;
+
+    @Setup
+    public void setUp() {
+        source = Fixtures.oracle(size);
+        tokens = lex(source).getTokens();
+        parsedTokens = new CommonTokenStream(new ListTokenSource(tokens));
+        tree = new PlSqlParser(parsedTokens).sql_script();
+        root = walk(parsedTokens, tree);
+    }
+
+    /** 렉싱 (토큰 수 반환) */
+    @Benchmark
+    public int lex() {
+        return lex(source).size();
+    }
+
+    /** sql_script() 파싱 (미리 렉싱한 토큰 사용) */
+    @Benchmark
+    public ParserRuleContext parse() {
+        return new PlSqlParser(new CommonTokenStream(new ListTokenSource(tokens))).sql_script();
+    }
+
+    /** CustomPlSqlListener 순회 */
+    @Benchmark
+    public NodeTree walk() {
+        return walk(parsedTokens, tree);
+    }
+
+    /** NodeTree.toJson 직렬화 */
+    @Benchmark
+    public String toJson() {
+        return root.toJson();
+    }
+
+    private static CommonTokenStream lex(String source) {
+        PlSqlLexer lexer = new PlSqlLexer(new CaseChangingCharStream(CharStreams.fromString(source), true));
+        CommonTokenStream stream = new CommonTokenStream(lexer);
+        stream.fill();
+        return stream;
+    }
+
+    private static NodeTree walk(CommonTokenStream tokens, ParserRuleContext tree) {
+        CustomPlSqlListener listener = new CustomPlSqlListener(tokens);
+        listener.walk(tree);
+        return listener.getTree();
+    }
+}
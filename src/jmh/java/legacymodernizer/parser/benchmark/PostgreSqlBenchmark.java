@@ -0,0 +1,133 @@
+package legacymodernizer.parser.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import legacymodernizer.parser.antlr.NodeTree;
+import legacymodernizer.parser.antlr.postgresql.CustomPostgreSQLListener;
+import legacymodernizer.parser.antlr.postgresql.PostgreSQLLexer;
+import legacymodernizer.parser.antlr.postgresql.PostgreSQLParser;
+import legacymodernizer.parser.service.parsing.ParserPoolRegistry;
+import legacymodernizer.parser.service.parsing.ParsingExecutor;
+import legacymodernizer.parser.service.parsing.PlpgsqlBodyParser;
+import legacymodernizer.parser.service.parsing.TwoStageParser;
+
+/**
+ * PostgreSQL 단계별 벤치마크 (렉싱 / root 파싱 / 리스너 순회 / PL/pgSQL 본문 연결 / JSON 직렬화)
+ * - 각 단계는 이전 단계 결과를 @Setup에서 미리 만들어 두고 해당 단계만 측정
+ * - 순회는 운영 경로와 같이 PL/pgSQL 본문을 미뤄 두고, 본문 파싱/연결은 attach로 따로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostgreSqlBenchmark {
+
+    @Param({ "small", "medium", "huge" })
+    public String size;
+
+    private String source;
+    private List<? extends Token> tokens;
+    private CommonTokenStream parsedTokens;
+    private ParserRuleContext tree;
+    private NodeTree root;
+    private ParsingExecutor parsingExecutor;
+    private PlpgsqlBodyParser plpgsqlBodyParser;
+
+    @Setup
+    public void setUp() {
+        source = Fixtures.postgresql(size);
+        tokens = lex(source).getTokens();
+        parsedTokens = new CommonTokenStream(new ListTokenSource(tokens));
+        tree = new PostgreSQLParser(parsedTokens).root();
+        parsingExecutor = new ParsingExecutor(0, false);
+        plpgsqlBodyParser = new PlpgsqlBodyParser(parsingExecutor, new ParserPoolRegistry(parsingExecutor), new TwoStageParser(true));
+        CustomPostgreSQLListener listener = walk(parsedTokens, tree);
+        plpgsqlBodyParser.attach("benchmark", listener.getTree(), listener.getPlpgsqlBodies());
+        root = listener.getTree();
+    }
+
+    @TearDown
+    public void tearDown() {
+        parsingExecutor.shutdown();
+    }
+
+    /**
+     * 본문 연결 전 순회 결과 (연결이 트리를 바꾸므로 호출마다 새로 순회)
+     */
+    @State(Scope.Thread)
+    public static class Walked {
+
+        CustomPostgreSQLListener listener;
+
+        @Setup(Level.Invocation)
+        public void setUp(PostgreSqlBenchmark benchmark) {
+            listener = walk(benchmark.parsedTokens, benchmark.tree);
+        }
+    }
+
+    /** 렉싱 (토큰 수 반환) */
+    @Benchmark
+    public int lex() {
+        return lex(source).size();
+    }
+
+    /** root() 파싱 (미리 렉싱한 토큰 사용) */
+    @Benchmark
+    public ParserRuleContext parse() {
+        return new PostgreSQLParser(new CommonTokenStream(new ListTokenSource(tokens))).root();
+    }
+
+    /** CustomPostgreSQLListener 순회 (PL/pgSQL 본문은 위치만 기록) */
+    @Benchmark
+    public NodeTree walk() {
+        return walk(parsedTokens, tree).getTree();
+    }
+
+    /** PlpgsqlBodyParser.attach: 순회 중 모아 둔 PL/pgSQL 본문 파싱 + 연결 (파싱 스레드 풀 사용) */
+    @Benchmark
+    public NodeTree attach(Walked walked) {
+        plpgsqlBodyParser.attach("benchmark", walked.listener.getTree(), walked.listener.getPlpgsqlBodies());
+        return walked.listener.getTree();
+    }
+
+    /** NodeTree.toJson 직렬화 */
+    @Benchmark
+    public String toJson() {
+        return root.toJson();
+    }
+
+    private static CommonTokenStream lex(String source) {
+        PostgreSQLLexer lexer = new PostgreSQLLexer(CharStreams.fromString(source));
+        CommonTokenStream stream = new CommonTokenStream(lexer);
+        stream.fill();
+        return stream;
+    }
+
+    private static CustomPostgreSQLListener walk(CommonTokenStream tokens, ParserRuleContext tree) {
+        CustomPostgreSQLListener listener = new CustomPostgreSQLListener(tokens);
+        listener.walk(tree);
+        return listener;
+    }
+}
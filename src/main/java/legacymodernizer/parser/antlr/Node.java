@@ -1,38 +0,0 @@
-package legacymodernizer.parser.antlr;
-
-import java.util.ArrayList;
-
-public class Node {
-    public String type;
-    public int startLine;
-    public int endLine;
-    public Node parent;
-    public ArrayList<Node> children = new ArrayList<>();
-
-    public Node(String type, int startLine, Node parent) {
-        this.type = type;
-        this.startLine = startLine;
-        this.parent = parent;
-        if (parent != null) {
-            parent.children.add(this);
-        }
-    }
-
-    public String toJson() {
-        StringBuilder jsonBuilder = new StringBuilder();
-        jsonBuilder.append("{");
-        jsonBuilder.append("\"type\": \"").append(type).append("\", ");
-        jsonBuilder.append("\"startLine\": ").append(startLine).append(", ");
-        jsonBuilder.append("\"endLine\": ").append(endLine).append(", ");
-        jsonBuilder.append("\"children\": [");
-        for (int i = 0; i < children.size(); i++) {
-            jsonBuilder.append(children.get(i).toJson());
-            if (i < children.size() - 1) {
-                jsonBuilder.append(", ");
-            }
-        }
-        jsonBuilder.append("]");
-        jsonBuilder.append("}");
-        return jsonBuilder.toString();
-    }
-}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package legacymodernizer.parser.antlr;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 바이너리 분석 파일(.ast) → 분석 트리(NodeTree) 복원
+ * - NodeBinaryWriter 형식의 역변환 (노드 객체 없이 배열에 바로 추가)
+ */
+public final class NodeBinaryReader {
+
+    private NodeBinaryReader() {
+    }
+
+    /**
+     * 스트림에서 트리 복원 (스트림은 닫지 않음)
+     * @param in 입력 스트림
+     * @return 분석 트리
+     * @throws IOException 형식이 올바르지 않거나 읽기 실패 시
+     */
+    public static NodeTree read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        byte[] magic = new byte[NodeBinaryWriter.MAGIC.length];
+        data.readFully(magic);
+        if (!Arrays.equals(magic, NodeBinaryWriter.MAGIC)) {
+            throw new IOException("AST 바이너리 형식이 아닙니다");
+        }
+        int version = data.readUnsignedByte();
+        if (version != NodeBinaryWriter.VERSION) {
+            throw new IOException("지원하지 않는 AST 바이너리 버전: " + version);
+        }
+
+        String[] types = new String[readVarint(data)];
+        for (int i = 0; i < types.length; i++) {
+            byte[] bytes = new byte[readVarint(data)];
+            data.readFully(bytes);
+            types[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        // 전위 순회 순서로 기록되어 있으므로 {노드 id, 남은 자식 수} 스택으로 부모 복원
+        String rootType = types[readVarint(data)];
+        int rootStartLine = unzigzag(readVarint(data));
+        NodeTree tree = new NodeTree(rootType, rootStartLine);
+        tree.setEndLine(NodeTree.ROOT, rootStartLine + unzigzag(readVarint(data)));
+        int[] parents = new int[16];
+        int[] remaining = new int[16];
+        int depth = 0;
+        int childCount = readVarint(data);
+        if (childCount > 0) {
+            parents[0] = NodeTree.ROOT;
+            remaining[0] = childCount;
+            depth = 1;
+        }
+        while (depth > 0) {
+            String type = types[readVarint(data)];
+            int startLine = unzigzag(readVarint(data));
+            int endLine = startLine + unzigzag(readVarint(data));
+            childCount = readVarint(data);
+
+            int node = tree.add(parents[depth - 1], type, startLine);
+            tree.setEndLine(node, endLine);
+            remaining[depth - 1]--;
+            if (childCount > 0) {
+                if (depth == parents.length) {
+                    parents = Arrays.copyOf(parents, depth * 2);
+                    remaining = Arrays.copyOf(remaining, depth * 2);
+                }
+                parents[depth] = node;
+                remaining[depth] = childCount;
+                depth++;
+            }
+            while (depth > 0 && remaining[depth - 1] == 0) {
+                depth--;
+            }
+        }
+        return tree;
+    }
+
+    /**
+     * 파일에서 트리 복원
+     * @param file .ast 파일
+     * @return 분석 트리
+     */
+    public static NodeTree readFromFile(File file) throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int readVarint(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("AST 바이너리가 중간에 끝났습니다");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 varint");
+    }
+}
@@ -0,0 +1,104 @@
+package legacymodernizer.parser.antlr;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 분석 트리(NodeTree) 바이너리 직렬화 (.ast)
+ * - 형식: 매직 "AST" + 버전(1바이트) → 타입 사전 → 노드(전위 순회)
+ * - 타입 사전: varint 개수, 각 항목 varint 길이 + UTF-8 바이트 (등장 순서대로 인덱스 부여)
+ * - 노드: varint 타입 인덱스, zigzag varint startLine, zigzag varint (endLine - startLine), varint 자식 수
+ * - 읽기는 NodeBinaryReader 사용
+ */
+public final class NodeBinaryWriter {
+
+    static final byte[] MAGIC = { 'A', 'S', 'T' };
+    static final int VERSION = 1;
+
+    /** 분석 바이너리 파일 확장자 */
+    public static final String EXTENSION = ".ast";
+
+    private NodeBinaryWriter() {
+    }
+
+    /**
+     * 트리를 스트림에 직렬화 (스트림은 닫지 않음)
+     * @param tree 분석 트리
+     * @param out 출력 스트림 (버퍼링된 스트림 권장)
+     */
+    public static void write(NodeTree tree, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(MAGIC);
+        data.writeByte(VERSION);
+
+        int[] preorder = preorder(tree);
+
+        // 타입 사전 (전위 순회 등장 순서, 트리 타입 id → 사전 인덱스)
+        int[] typeIndex = new int[tree.typeCount()];
+        Arrays.fill(typeIndex, -1);
+        List<String> types = new ArrayList<>();
+        for (int node : preorder) {
+            int typeId = tree.typeId(node);
+            if (typeIndex[typeId] < 0) {
+                typeIndex[typeId] = types.size();
+                types.add(String.valueOf(tree.typeName(typeId)));
+            }
+        }
+        writeVarint(data, types.size());
+        for (String type : types) {
+            byte[] bytes = type.getBytes(StandardCharsets.UTF_8);
+            writeVarint(data, bytes.length);
+            data.write(bytes);
+        }
+
+        for (int node : preorder) {
+            int startLine = tree.startLine(node);
+            writeVarint(data, typeIndex[tree.typeId(node)]);
+            writeVarint(data, zigzag(startLine));
+            writeVarint(data, zigzag(tree.endLine(node) - startLine));
+            writeVarint(data, tree.childCount(node));
+        }
+        data.flush();
+    }
+
+    /**
+     * 트리를 파일로 저장
+     * @param tree 분석 트리
+     * @param file 저장 파일
+     */
+    public static void writeToFile(NodeTree tree, File file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            write(tree, out);
+        }
+    }
+
+    /**
+     * 전위 순회 노드 id 목록
+     */
+    private static int[] preorder(NodeTree tree) {
+        int[] result = new int[tree.nodeCount()];
+        int[] next = new int[1];
+        tree.walk((t, node) -> result[next[0]++] = node);
+        return result;
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+}
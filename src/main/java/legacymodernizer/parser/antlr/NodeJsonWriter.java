@@ -0,0 +1,130 @@
+package legacymodernizer.parser.antlr;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * 분석 트리(NodeTree) 스트리밍 JSON 직렬화
+ * - 재귀/중간 문자열 없이 명시적 스택으로 한 번 순회하며 Writer에 바로 출력
+ * - 타입 문자열은 트리 타입 표의 항목을 그대로 출력
+ * - 출력 형식
+ *   {"type": "X", "startLine": 1, "endLine": 2, "children": [..., ...]}
+ */
+public final class NodeJsonWriter {
+
+    private NodeJsonWriter() {
+    }
+
+    /**
+     * 트리를 Writer에 직렬화 (Writer는 닫지 않음)
+     * @param tree 분석 트리
+     * @param out 출력 대상 (버퍼링된 Writer 권장)
+     */
+    public static void write(NodeTree tree, Writer out) throws IOException {
+        write(tree, NodeTree.ROOT, out);
+    }
+
+    /**
+     * 하위 트리를 Writer에 직렬화 (Writer는 닫지 않음)
+     * @param tree 분석 트리
+     * @param from 시작 노드 id
+     * @param out 출력 대상
+     */
+    public static void write(NodeTree tree, int from, Writer out) throws IOException {
+        // 스택 원소: 열어 둔 노드 id (자식을 다 쓰면 닫고 다음 형제로)
+        int[] stack = new int[16];
+        int depth = 0;
+        int node = from;
+        open(tree, node, out);
+        while (true) {
+            int child = tree.firstChild(node);
+            if (child != NodeTree.NONE) {
+                if (depth == stack.length) {
+                    stack = Arrays.copyOf(stack, depth * 2);
+                }
+                stack[depth++] = node;
+                node = child;
+                open(tree, node, out);
+                continue;
+            }
+            while (true) {
+                out.write("]}");
+                if (depth == 0) {
+                    return;
+                }
+                int next = tree.nextSibling(node);
+                if (next != NodeTree.NONE) {
+                    out.write(", ");
+                    node = next;
+                    open(tree, node, out);
+                    break;
+                }
+                node = stack[--depth];
+            }
+        }
+    }
+
+    /**
+     * 트리를 파일로 저장 (버퍼링된 FileWriter 사용)
+     * @param tree 분석 트리
+     * @param file 저장 파일
+     */
+    public static void writeToFile(NodeTree tree, File file) throws IOException {
+        try (Writer out = new BufferedWriter(new FileWriter(file))) {
+            write(tree, out);
+        }
+    }
+
+    // ========================================
+    // 최상위 자식 단위 스트리밍
+    // ========================================
+
+    /**
+     * 루트 머리부만 출력 (이어서 writeChild()로 최상위 자식을 순서대로, writeClose()로 닫음)
+     * - 결과는 모든 자식을 붙인 트리를 write()로 출력한 것과 동일
+     * @param tree 분석 트리 (자식은 출력하지 않음)
+     * @param out 출력 대상
+     */
+    public static void writeOpen(NodeTree tree, Writer out) throws IOException {
+        open(tree, NodeTree.ROOT, out);
+    }
+
+    /**
+     * 루트의 자식 하나를 하위 트리 전체와 함께 출력
+     * @param tree 분석 트리
+     * @param child 자식 노드 id
+     * @param first 루트의 첫 자식 여부 (구분자 생략)
+     * @param out 출력 대상
+     */
+    public static void writeChild(NodeTree tree, int child, boolean first, Writer out) throws IOException {
+        if (!first) {
+            out.write(", ");
+        }
+        write(tree, child, out);
+    }
+
+    /**
+     * 루트 닫기
+     * @param out 출력 대상
+     */
+    public static void writeClose(Writer out) throws IOException {
+        out.write("]}");
+    }
+
+    /**
+     * 노드 머리부 출력 ("children": [ 까지)
+     */
+    private static void open(NodeTree tree, int node, Writer out) throws IOException {
+        out.write("{\"type\": \"");
+        out.write(String.valueOf(tree.type(node)));
+        out.write("\", \"startLine\": ");
+        out.write(Integer.toString(tree.startLine(node)));
+        out.write(", \"endLine\": ");
+        out.write(Integer.toString(tree.endLine(node)));
+        out.write(", \"children\": [");
+    }
+}
@@ -0,0 +1,377 @@
+package legacymodernizer.parser.antlr;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * 배열 기반 분석 트리 (노드마다 객체/자식 목록을 만들지 않음)
+ * - 노드는 정수 id (0 = 루트), 속성은 병렬 int 배열: 타입 id, 시작/끝 라인, 첫 자식, 다음 형제 (+ 추가용 마지막 자식)
+ * - 타입 문자열은 트리별 타입 표에 한 번만 보관하고 노드는 타입 id만 가짐
+ * - 자식은 첫 자식 → 다음 형제 연결 목록: add()는 맨 뒤에, graft()는 지정한 형제 뒤에 연결
+ * - 읽기는 id 접근자(type/startLine/endLine/firstChild/nextSibling) 또는 walk(Visitor) (재귀 없음)
+ * - 한 스레드에서만 수정 (분할/본문 병렬 파싱은 트리를 따로 만든 뒤 graft()로 합침)
+ */
+public final class NodeTree {
+
+    /** 없는 노드 (첫 자식/다음 형제가 없을 때) */
+    public static final int NONE = -1;
+
+    /** 루트 노드 id */
+    public static final int ROOT = 0;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * 전위 순회 방문자
+     */
+    public interface Visitor {
+        void enter(NodeTree tree, int node);
+
+        default void exit(NodeTree tree, int node) {
+        }
+    }
+
+    private String[] typeNames = new String[16];
+    private final Map<String, Integer> typeIds = new HashMap<>();
+    private int typeCount;
+
+    private int[] types = new int[INITIAL_CAPACITY];
+    private int[] startLines = new int[INITIAL_CAPACITY];
+    private int[] endLines = new int[INITIAL_CAPACITY];
+    private int[] firstChildren = new int[INITIAL_CAPACITY];
+    private int[] nextSiblings = new int[INITIAL_CAPACITY];
+    private int[] lastChildren = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * 루트만 있는 트리 생성
+     * @param rootType 루트 타입 (FILE/ROOT)
+     * @param rootStartLine 루트 시작 라인
+     */
+    public NodeTree(String rootType, int rootStartLine) {
+        append(internType(rootType), rootStartLine);
+    }
+
+    // ========================================
+    // 구성
+    // ========================================
+
+    /**
+     * 부모의 마지막 자식으로 노드 추가
+     * @param parent 부모 노드 id
+     * @param type 노드 타입
+     * @param startLine 시작 라인 (끝 라인은 0, setEndLine()으로 지정)
+     * @return 추가한 노드 id
+     */
+    public int add(int parent, String type, int startLine) {
+        int node = append(internType(type), startLine);
+        link(parent, node);
+        return node;
+    }
+
+    /**
+     * 부모의 마지막 자식으로 노드 추가 (internType()으로 미리 얻은 타입 id 사용, 타입 표 조회 없음)
+     * @param parent 부모 노드 id
+     * @param typeId 이 트리의 타입 id
+     * @param startLine 시작 라인
+     * @return 추가한 노드 id
+     */
+    public int add(int parent, int typeId, int startLine) {
+        int node = append(typeId, startLine);
+        link(parent, node);
+        return node;
+    }
+
+    /**
+     * 타입 문자열을 타입 표에 등록하고 id 반환 (이미 있으면 기존 id, clear() 후에도 유지)
+     * @param type 노드 타입
+     * @return 이 트리의 타입 id
+     */
+    public int internType(String type) {
+        Integer id = typeIds.get(type);
+        if (id != null) {
+            return id;
+        }
+        if (typeCount == typeNames.length) {
+            typeNames = Arrays.copyOf(typeNames, typeCount * 2);
+        }
+        typeNames[typeCount] = type;
+        typeIds.put(type, typeCount);
+        return typeCount++;
+    }
+
+    public void setEndLine(int node, int endLine) {
+        endLines[node] = endLine;
+    }
+
+    /**
+     * 조건에 맞는 자식을 연결 목록에서 제거 (제거한 노드의 저장 공간은 clear() 전까지 남음)
+     * @param parent 부모 노드 id
+     * @param filter 제거할 자식 id 판정
+     */
+    public void removeChildren(int parent, IntPredicate filter) {
+        int previous = NONE;
+        for (int child = firstChildren[parent]; child != NONE; child = nextSiblings[child]) {
+            if (!filter.test(child)) {
+                previous = child;
+            } else if (previous == NONE) {
+                firstChildren[parent] = nextSiblings[child];
+            } else {
+                nextSiblings[previous] = nextSiblings[child];
+            }
+        }
+        lastChildren[parent] = previous;
+    }
+
+    /**
+     * 다른 트리 노드의 자식들을 하위 트리째 복사해 지정한 형제 뒤에 연결 (순서 유지)
+     * @param parent 연결할 부모 노드 id
+     * @param after 이 형제 뒤에 연결 (NONE이면 맨 앞)
+     * @param source 복사할 트리
+     * @param sourceParent source에서 자식을 복사할 노드 id
+     */
+    public void graft(int parent, int after, NodeTree source, int sourceParent) {
+        int[] typeMap = new int[source.typeCount];
+        Arrays.fill(typeMap, NONE);
+        int first = NONE;
+        int last = NONE;
+        for (int child = source.firstChildren[sourceParent]; child != NONE; child = source.nextSiblings[child]) {
+            int copy = copy(source, child, typeMap);
+            if (first == NONE) {
+                first = copy;
+            } else {
+                nextSiblings[last] = copy;
+            }
+            last = copy;
+        }
+        if (first == NONE) {
+            return;
+        }
+        if (after == NONE) {
+            nextSiblings[last] = firstChildren[parent];
+            firstChildren[parent] = first;
+        } else {
+            nextSiblings[last] = nextSiblings[after];
+            nextSiblings[after] = first;
+        }
+        if (lastChildren[parent] == after) {
+            lastChildren[parent] = last;
+        }
+    }
+
+    /**
+     * 루트만 남기고 모든 노드 제거 (타입 표와 배열 용량은 재사용)
+     */
+    public void clear() {
+        size = 1;
+        firstChildren[ROOT] = NONE;
+        lastChildren[ROOT] = NONE;
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    public String type(int node) {
+        return typeNames[types[node]];
+    }
+
+    /**
+     * 노드 타입 id (typeName()으로 문자열 조회, 트리마다 다름)
+     */
+    public int typeId(int node) {
+        return types[node];
+    }
+
+    public String typeName(int typeId) {
+        return typeNames[typeId];
+    }
+
+    public int typeCount() {
+        return typeCount;
+    }
+
+    public int startLine(int node) {
+        return startLines[node];
+    }
+
+    public int endLine(int node) {
+        return endLines[node];
+    }
+
+    public int firstChild(int node) {
+        return firstChildren[node];
+    }
+
+    public int nextSibling(int node) {
+        return nextSiblings[node];
+    }
+
+    public int lastChild(int node) {
+        return lastChildren[node];
+    }
+
+    public int childCount(int node) {
+        int count = 0;
+        for (int child = firstChildren[node]; child != NONE; child = nextSiblings[child]) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 루트에서 닿는 노드 수 (루트 포함)
+     */
+    public int nodeCount() {
+        return nodeCount(ROOT);
+    }
+
+    /**
+     * 하위 트리 노드 수 (node 포함)
+     */
+    public int nodeCount(int node) {
+        int[] count = new int[1];
+        walk(node, (tree, n) -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * JSON 문자열 변환 (NodeJsonWriter로 직렬화)
+     * - 큰 트리는 NodeJsonWriter.write()로 Writer에 직접 출력 권장
+     * @return JSON 문자열
+     */
+    public String toJson() {
+        StringWriter out = new StringWriter();
+        try {
+            NodeJsonWriter.write(this, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * 루트부터 전위 순회 (enter → 자식들 → exit)
+     */
+    public void walk(Visitor visitor) {
+        walk(ROOT, visitor);
+    }
+
+    /**
+     * 하위 트리 전위 순회 (명시적 스택, 깊이 제한 없음)
+     * @param from 시작 노드 id
+     * @param visitor 방문자
+     */
+    public void walk(int from, Visitor visitor) {
+        int[] stack = new int[16];
+        int depth = 0;
+        int node = from;
+        visitor.enter(this, node);
+        while (true) {
+            int child = firstChildren[node];
+            if (child != NONE) {
+                if (depth == stack.length) {
+                    stack = Arrays.copyOf(stack, depth * 2);
+                }
+                stack[depth++] = node;
+                node = child;
+                visitor.enter(this, node);
+                continue;
+            }
+            // 자식이 없으면 닫고 다음 형제로, 형제가 없으면 부모를 닫으며 올라감
+            while (true) {
+                visitor.exit(this, node);
+                if (depth == 0) {
+                    return;
+                }
+                int next = nextSiblings[node];
+                if (next != NONE) {
+                    node = next;
+                    visitor.enter(this, node);
+                    break;
+                }
+                node = stack[--depth];
+            }
+        }
+    }
+
+    // ========================================
+    // 내부
+    // ========================================
+
+    private int append(int type, int startLine) {
+        if (size == types.length) {
+            int capacity = size + (size >> 1);
+            types = Arrays.copyOf(types, capacity);
+            startLines = Arrays.copyOf(startLines, capacity);
+            endLines = Arrays.copyOf(endLines, capacity);
+            firstChildren = Arrays.copyOf(firstChildren, capacity);
+            nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+            lastChildren = Arrays.copyOf(lastChildren, capacity);
+        }
+        int node = size++;
+        types[node] = type;
+        startLines[node] = startLine;
+        endLines[node] = 0;
+        firstChildren[node] = NONE;
+        nextSiblings[node] = NONE;
+        lastChildren[node] = NONE;
+        return node;
+    }
+
+    private void link(int parent, int node) {
+        int last = lastChildren[parent];
+        if (last == NONE) {
+            firstChildren[parent] = node;
+        } else {
+            nextSiblings[last] = node;
+        }
+        lastChildren[parent] = node;
+    }
+
+    /**
+     * source 하위 트리를 복사 (복사본 루트는 부모에 연결하지 않음)
+     */
+    private int copy(NodeTree source, int from, int[] typeMap) {
+        int[] pairs = new int[32];
+        int top = 0;
+        int root = NONE;
+        pairs[top++] = from;
+        pairs[top++] = NONE;
+        while (top > 0) {
+            int parent = pairs[--top];
+            int node = pairs[--top];
+            int type = typeMap[source.types[node]];
+            if (type == NONE) {
+                type = internType(source.typeNames[source.types[node]]);
+                typeMap[source.types[node]] = type;
+            }
+            int copy = append(type, source.startLines[node]);
+            endLines[copy] = source.endLines[node];
+            if (parent == NONE) {
+                root = copy;
+            } else {
+                link(parent, copy);
+            }
+            // 자식은 역순으로 쌓아 앞쪽부터 복사 (부모에 차례로 연결되도록)
+            int count = source.childCount(node);
+            if (top + count * 2 > pairs.length) {
+                pairs = Arrays.copyOf(pairs, Math.max(pairs.length * 2, top + count * 2));
+            }
+            int end = top + count * 2;
+            int i = end;
+            for (int child = source.firstChildren[node]; child != NONE; child = source.nextSiblings[child]) {
+                i -= 2;
+                pairs[i] = child;
+                pairs[i + 1] = copy;
+            }
+            top = end;
+        }
+        return root;
+    }
+}
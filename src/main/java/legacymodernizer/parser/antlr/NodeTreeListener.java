@@ -0,0 +1,28 @@
+package legacymodernizer.parser.antlr;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * 파스 트리를 순회하며 분석 트리(NodeTree)를 만드는 리스너 공통 인터페이스
+ */
+public interface NodeTreeListener extends ParseTreeListener {
+
+    /**
+     * 파스 트리(하위 트리)를 순회하며 분석 트리 구성 (ParseTreeWalker.walk(this, tree)와 같은 결과)
+     * @param tree 시작 컨텍스트
+     */
+    void walk(ParseTree tree);
+
+    /**
+     * 분석 트리 (루트 = FILE/ROOT)
+     * @return 순회 중 채워지는 분석 트리
+     */
+    NodeTree getTree();
+
+    /**
+     * 열린 노드가 남지 않았는지 확인 (루트 바로 아래 노드가 모두 닫힌 상태)
+     * @return 루트만 남아 있으면 true
+     */
+    boolean isBalanced();
+}
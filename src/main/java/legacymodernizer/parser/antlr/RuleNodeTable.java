@@ -0,0 +1,187 @@
+package legacymodernizer.parser.antlr;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ATNState;
+import org.antlr.v4.runtime.atn.RuleTransition;
+import org.antlr.v4.runtime.atn.Transition;
+
+/**
+ * 규칙 인덱스 → 분석 노드 타입 표 (RuleTableListener가 ctx.getRuleIndex() 하나로 분기)
+ * - node(): 규칙 진입 시 타입 노드를 열고(시작 라인 = 시작 토큰) 종료 시 닫음(끝 라인 = 종료 토큰)
+ * - custom(): 타입이 문맥에 따라 달라지거나 추가 처리가 필요한 규칙 (리스너의 enterCustom/exitCustom 호출)
+ * - 등록하지 않은 규칙은 아무것도 하지 않음
+ * - 문법별 리스너의 정적 초기화에서만 구성하고 이후에는 읽기 전용으로 공유 (가지치기 규칙도 이 표 기준)
+ * - 파서 ATN의 규칙 호출 관계로 등록 규칙을 자손으로 가질 수 있는 규칙을 구해 두고, 순회는 그 밖의 하위 트리를 건너뜀
+ */
+public final class RuleNodeTable {
+
+    /** 처리하지 않는 규칙 */
+    public static final int NONE = -1;
+
+    /** 리스너가 직접 처리하는 규칙 */
+    public static final int CUSTOM = -2;
+
+    private final int[] ruleSlots;
+    private final List<String> typeNames = new ArrayList<>();
+    private final Map<String, Integer> typeSlots = new HashMap<>();
+    private final ATN atn;
+    private final SubtreeSkipStatistics skipStatistics;
+    private volatile boolean[] descended; // 첫 순회 때 계산, 이후 등록 불가
+
+    /**
+     * @param ruleNames 문법의 규칙 이름 (생성된 파서의 ruleNames)
+     * @param atn 생성된 파서의 ATN (_ATN, 규칙 호출 관계 계산용)
+     */
+    public RuleNodeTable(String[] ruleNames, ATN atn) {
+        this.ruleSlots = new int[ruleNames.length];
+        Arrays.fill(ruleSlots, NONE);
+        this.atn = atn;
+        this.skipStatistics = new SubtreeSkipStatistics(ruleNames);
+    }
+
+    /**
+     * 규칙들을 같은 타입 노드로 등록
+     * @param type 노드 타입
+     * @param rules 규칙 인덱스 (RULE_xxx)
+     * @return this
+     */
+    public RuleNodeTable node(String type, int... rules) {
+        Integer slot = typeSlots.get(type);
+        if (slot == null) {
+            slot = typeNames.size();
+            typeNames.add(type);
+            typeSlots.put(type, slot);
+        }
+        for (int rule : rules) {
+            register(rule, slot);
+        }
+        return this;
+    }
+
+    /**
+     * 리스너가 직접 처리할 규칙 등록
+     * @param rules 규칙 인덱스 (RULE_xxx)
+     * @return this
+     */
+    public RuleNodeTable custom(int... rules) {
+        for (int rule : rules) {
+            register(rule, CUSTOM);
+        }
+        return this;
+    }
+
+    /**
+     * 규칙의 처리 방식
+     * @param rule 규칙 인덱스
+     * @return 타입 슬롯(0 이상), CUSTOM 또는 NONE
+     */
+    public int slot(int rule) {
+        return ruleSlots[rule];
+    }
+
+    /**
+     * 리스너가 보는 규칙인지 확인 (노드 규칙 + 직접 처리 규칙)
+     */
+    public boolean isListened(int rule) {
+        return ruleSlots[rule] != NONE;
+    }
+
+    public int ruleCount() {
+        return ruleSlots.length;
+    }
+
+    /**
+     * 노드 타입 수 (슬롯은 0 ~ typeCount-1)
+     */
+    public int typeCount() {
+        return typeNames.size();
+    }
+
+    public String typeName(int slot) {
+        return typeNames.get(slot);
+    }
+
+    /**
+     * 선택적 순회의 하위 트리 건너뛰기 누적 통계
+     */
+    public SubtreeSkipStatistics getSkipStatistics() {
+        return skipStatistics;
+    }
+
+    /**
+     * 순회가 내려가는 규칙 = 등록 규칙 + 등록 규칙을 자손으로 가질 수 있는 규칙 (규칙 인덱스로 조회, 수정 금지)
+     * - 그 밖의 규칙 하위 트리에는 등록 규칙 컨텍스트가 생길 수 없으므로 건너뛰어도 순회 결과가 같음
+     *   (가지치기로 끌어올린 자손도 원래 조상 규칙에서 호출 관계로 닿는 규칙)
+     */
+    boolean[] descendedRules() {
+        boolean[] result = descended;
+        if (result == null) {
+            synchronized (this) {
+                if (descended == null) {
+                    descended = computeDescended();
+                }
+                result = descended;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 규칙 ATN 안의 규칙 호출(RuleTransition)을 거꾸로 따라 등록 규칙에서 호출자 쪽으로 표시
+     */
+    private boolean[] computeDescended() {
+        int ruleCount = ruleSlots.length;
+        BitSet[] callers = new BitSet[ruleCount];
+        for (ATNState state : atn.states) {
+            if (state == null) continue;
+            for (int i = 0; i < state.getNumberOfTransitions(); i++) {
+                Transition transition = state.transition(i);
+                if (transition instanceof RuleTransition) {
+                    int callee = transition.target.ruleIndex;
+                    if (callers[callee] == null) {
+                        callers[callee] = new BitSet(ruleCount);
+                    }
+                    callers[callee].set(state.ruleIndex);
+                }
+            }
+        }
+
+        boolean[] result = new boolean[ruleCount];
+        int[] queue = new int[ruleCount];
+        int tail = 0;
+        for (int rule = 0; rule < ruleCount; rule++) {
+            if (isListened(rule)) {
+                result[rule] = true;
+                queue[tail++] = rule;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            BitSet ruleCallers = callers[queue[head]];
+            if (ruleCallers == null) continue;
+            for (int caller = ruleCallers.nextSetBit(0); caller >= 0; caller = ruleCallers.nextSetBit(caller + 1)) {
+                if (!result[caller]) {
+                    result[caller] = true;
+                    queue[tail++] = caller;
+                }
+            }
+        }
+        return result;
+    }
+
+    private void register(int rule, int slot) {
+        if (descended != null) {
+            throw new IllegalStateException("순회가 시작된 규칙 표에는 등록할 수 없습니다: " + rule);
+        }
+        if (ruleSlots[rule] != NONE) {
+            throw new IllegalStateException("이미 등록된 규칙입니다: " + rule);
+        }
+        ruleSlots[rule] = slot;
+    }
+}
@@ -0,0 +1,233 @@
+package legacymodernizer.parser.antlr;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.List;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * 규칙 표(RuleNodeTable) 기반 분석 리스너 공통 구현
+ * - 규칙 진입/종료를 한 곳에서 ctx.getRuleIndex()로 분기 (규칙별 enterXxx/exitXxx 가상 호출 없음)
+ * - walk()는 규칙 컨텍스트만 따라 내려가는 전용 순회 (ParseTreeWalker로 순회해도 결과는 같음)
+ * - walk()는 표의 규칙을 자손으로 가질 수 없는 규칙의 하위 트리(식별자/타입/옵션 등)를 통째로 건너뛰고 규칙별로 집계
+ * - 노드 규칙은 표의 타입으로 노드를 열고 닫음, 직접 처리 규칙만 문법별 enterCustom/exitCustom으로 전달
+ * - 열린 노드는 동기화 없는 int 배열 스택에 보관 (박싱 없음, 바닥 = 루트)
+ * - 표의 노드 타입은 생성 시 트리 타입 표에 미리 등록해 노드 추가 시 문자열 조회를 하지 않음
+ */
+public abstract class RuleTableListener implements NodeTreeListener {
+
+    protected final NodeTree tree;
+    private final RuleNodeTable rules;
+    private final int[] typeIds; // 표 슬롯 → 트리 타입 id
+    private final boolean[] descended; // 규칙 인덱스 → 하위 트리로 내려갈지 여부 (표 공유 배열)
+    private final SubtreeSkipStatistics skipStatistics;
+    private int[] stack = new int[32];
+    private int depth;
+
+    /**
+     * @param rules 문법별 규칙 표
+     * @param rootType 루트 타입 (FILE/ROOT)
+     */
+    protected RuleTableListener(RuleNodeTable rules, String rootType) {
+        this.rules = rules;
+        this.tree = new NodeTree(rootType, 0);
+        this.typeIds = new int[rules.typeCount()];
+        for (int slot = 0; slot < typeIds.length; slot++) {
+            typeIds[slot] = tree.internType(rules.typeName(slot));
+        }
+        this.descended = rules.descendedRules();
+        this.skipStatistics = rules.getSkipStatistics();
+        stack[depth++] = NodeTree.ROOT;
+    }
+
+    @Override
+    public final NodeTree getTree() {
+        return tree;
+    }
+
+    /**
+     * 순회 후 열린 노드가 남지 않았는지 확인 (분할 파싱 시 구간 간 상태 전달이 없는지 판정)
+     * @return 루트만 남아 있으면 true
+     */
+    @Override
+    public boolean isBalanced() {
+        return depth == 1;
+    }
+
+    // ========================================
+    // 규칙 분기
+    // ========================================
+
+    /**
+     * 파스 트리 순회 (ParseTreeWalker 대신 사용)
+     * - 규칙 컨텍스트만 내려가며 표로 바로 분기: 컨텍스트마다 getRuleIndex() 한 번, 터미널 방문/ctx.enterRule() 이중 분기 없음
+     * - 표의 규칙을 자손으로 가질 수 없는 규칙의 자식은 진입하지 않고 건너뜀 (RuleNodeTable 참고, 건너뛴 수는 규칙 표 통계에 합산)
+     * - 명시적 스택 사용 (깊이 제한 없음), 호출 순서는 ParseTreeWalker 순회에서 건너뛴 하위 트리만 뺀 것과 동일
+     * @param root 시작 컨텍스트
+     */
+    @Override
+    public final void walk(ParseTree root) {
+        if (!(root instanceof ParserRuleContext)) {
+            return;
+        }
+        ParserRuleContext[] path = new ParserRuleContext[64];
+        int[] pathRules = new int[64];
+        int[] nextChildren = new int[64];
+        SubtreeSkipStatistics.Counter skips = skipStatistics.counter();
+        long walked = 1;
+        int top = 0;
+        path[0] = (ParserRuleContext) root;
+        pathRules[0] = path[0].getRuleIndex();
+        enterRule(path[0], pathRules[0]);
+        while (top >= 0) {
+            ParserRuleContext current = path[top];
+            List<ParseTree> children = current.children;
+            int size = children == null ? 0 : children.size();
+            int i = nextChildren[top];
+            while (i < size && !(children.get(i) instanceof ParserRuleContext)) {
+                i++;
+            }
+            if (i == size) {
+                exitRule(current, pathRules[top]);
+                path[top--] = null;
+                continue;
+            }
+            nextChildren[top] = i + 1;
+            ParserRuleContext child = (ParserRuleContext) children.get(i);
+            int childRule = child.getRuleIndex();
+            if (!descended[childRule]) {
+                skips.skipped(childRule, tokenCount(child));
+                continue;
+            }
+            if (++top == path.length) {
+                path = Arrays.copyOf(path, top * 2);
+                pathRules = Arrays.copyOf(pathRules, top * 2);
+                nextChildren = Arrays.copyOf(nextChildren, top * 2);
+            }
+            path[top] = child;
+            pathRules[top] = childRule;
+            nextChildren[top] = 0;
+            enterRule(child, childRule);
+            walked++;
+        }
+        skips.flush(walked, tokenCount((ParserRuleContext) root));
+    }
+
+    @Override
+    public final void enterEveryRule(ParserRuleContext ctx) {
+        enterRule(ctx, ctx.getRuleIndex());
+    }
+
+    @Override
+    public final void exitEveryRule(ParserRuleContext ctx) {
+        exitRule(ctx, ctx.getRuleIndex());
+    }
+
+    @Override
+    public final void visitTerminal(TerminalNode node) {
+    }
+
+    @Override
+    public final void visitErrorNode(ErrorNode node) {
+    }
+
+    /**
+     * 직접 처리 규칙 진입 (RuleNodeTable.custom()으로 등록한 규칙만 호출)
+     * @param ctx 규칙 컨텍스트 (getRuleIndex()로 구분해 형변환)
+     */
+    protected void enterCustom(ParserRuleContext ctx) {
+    }
+
+    /**
+     * 직접 처리 규칙 종료
+     * @param ctx 규칙 컨텍스트
+     */
+    protected void exitCustom(ParserRuleContext ctx) {
+    }
+
+    /**
+     * 컨텍스트의 토큰 구간 크기 (숨김 채널 토큰 포함, 중단된 부분 트리처럼 끝 토큰이 없으면 0)
+     */
+    private static int tokenCount(ParserRuleContext ctx) {
+        Token start = ctx.getStart();
+        Token stop = ctx.getStop();
+        if (start == null || stop == null) {
+            return 0;
+        }
+        return Math.max(0, stop.getTokenIndex() - start.getTokenIndex() + 1);
+    }
+
+    private void enterRule(ParserRuleContext ctx, int rule) {
+        int slot = rules.slot(rule);
+        if (slot >= 0) {
+            push(tree.add(currentNode(), typeIds[slot], ctx.getStart().getLine()));
+        } else if (slot == RuleNodeTable.CUSTOM) {
+            enterCustom(ctx);
+        }
+    }
+
+    private void exitRule(ParserRuleContext ctx, int rule) {
+        int slot = rules.slot(rule);
+        if (slot >= 0) {
+            exitStatement(ctx.getStop().getLine());
+        } else if (slot == RuleNodeTable.CUSTOM) {
+            exitCustom(ctx);
+        }
+    }
+
+    // ========================================
+    // 노드 스택
+    // ========================================
+
+    /**
+     * 현재 노드 아래에 노드를 열고 스택에 푸시
+     * @param statementType 노드 타입
+     * @param line 시작 라인
+     */
+    protected final void enterStatement(String statementType, int line) {
+        push(tree.add(currentNode(), statementType, line));
+    }
+
+    /**
+     * 현재 노드를 닫고 스택에서 제거 (노드 규칙 종료도 이 메서드를 거침)
+     * @param line 끝 라인
+     * @return 닫은 노드 id
+     */
+    protected int exitStatement(int line) {
+        if (depth == 0) {
+            throw new EmptyStackException();
+        }
+        int node = stack[--depth];
+        tree.setEndLine(node, line);
+        return node;
+    }
+
+    /**
+     * 현재(가장 안쪽에 열린) 노드 id
+     */
+    protected final int currentNode() {
+        if (depth == 0) {
+            throw new EmptyStackException();
+        }
+        return stack[depth - 1];
+    }
+
+    /**
+     * 열린 노드 수 (루트 포함)
+     */
+    protected final int depth() {
+        return depth;
+    }
+
+    private void push(int node) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = node;
+    }
+}
@@ -0,0 +1,274 @@
+package legacymodernizer.parser.antlr;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * 원본 소스용 CharStream (대소문자 변환을 미리 끝낸 입력)
+ * - ASCII 전용 소스: 원본 바이트 버퍼(메모리 매핑 가능)를 그대로 사용, 복사/디코딩 없음
+ * - 그 외: 디코딩된 문자열을 원본으로 두고 변환된 문자 배열을 한 번만 생성
+ * - LA()는 변환된 문자를, getText()는 원본 문자를 반환 (CaseChangingCharStream과 같은 동작)
+ * - 인덱스/크기는 코드 포인트 단위 (CharStreams.fromString()과 같음)
+ * - 버퍼는 읽기 전용으로만 사용하므로 여러 렉서에서 같은 내용을 공유해도 안전 (스트림 위치는 인스턴스별)
+ */
+public abstract class SourceCharStream implements CharStream {
+
+    /** 렉서에 보이는 문자 변환 방식 */
+    public enum Fold {
+        NONE, UPPER, LOWER
+    }
+
+    protected final int size;
+    protected final String name;
+    protected final Fold fold;
+    protected int position;
+
+    private SourceCharStream(int size, String name, Fold fold) {
+        this.size = size;
+        this.name = name;
+        this.fold = fold;
+    }
+
+    /**
+     * ASCII 전용 바이트로 스트림 생성 (모든 바이트가 0x00-0x7F여야 함)
+     * @param bytes 원본 바이트 (버퍼 위치/한도는 변경하지 않음)
+     * @param name 소스 이름
+     * @param fold 문자 변환 방식
+     * @return 문자 스트림
+     */
+    public static SourceCharStream ofAscii(ByteBuffer bytes, String name, Fold fold) {
+        return new Ascii(bytes.slice(), name, fold);
+    }
+
+    /**
+     * 디코딩된 문자열로 스트림 생성
+     * @param text 원본 문자열
+     * @param name 소스 이름
+     * @param fold 문자 변환 방식
+     * @return 문자 스트림
+     */
+    public static SourceCharStream ofText(String text, String name, Fold fold) {
+        int n = text.length();
+        boolean bmp = true;
+        for (int i = 0; i < n && bmp; i++) {
+            char c = text.charAt(i);
+            bmp = !Character.isSurrogate(c) && fold(c, fold) <= Character.MAX_VALUE;
+        }
+        if (bmp) {
+            return new Utf16(text, name, fold);
+        }
+        return new CodePoint(text.codePoints().toArray(), name, fold);
+    }
+
+    /**
+     * CharStream에 적용된 문자 변환 방식
+     * @param input 문자 스트림
+     * @return 변환 방식 (SourceCharStream이 아니면 NONE)
+     */
+    public static Fold foldOf(CharStream input) {
+        return input instanceof SourceCharStream ? ((SourceCharStream) input).fold : Fold.NONE;
+    }
+
+    public Fold getFold() {
+        return fold;
+    }
+
+    /** 변환된 문자 */
+    protected abstract int folded(int offset);
+
+    @Override
+    public final int LA(int i) {
+        int offset;
+        if (i > 0) {
+            offset = position + i - 1;
+            if (offset >= size) {
+                return IntStream.EOF;
+            }
+        } else if (i < 0) {
+            offset = position + i;
+            if (offset < 0) {
+                return IntStream.EOF;
+            }
+        } else {
+            return 0;
+        }
+        return folded(offset);
+    }
+
+    @Override
+    public final void consume() {
+        if (size - position == 0) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        position++;
+    }
+
+    @Override
+    public final int index() {
+        return position;
+    }
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    @Override
+    public final int mark() {
+        return -1;
+    }
+
+    @Override
+    public final void release(int marker) {
+    }
+
+    @Override
+    public final void seek(int index) {
+        position = index;
+    }
+
+    @Override
+    public final String getText(Interval interval) {
+        int start = Math.min(interval.a, size);
+        int len = Math.min(interval.b - interval.a + 1, size - start);
+        return text(start, Math.max(len, 0));
+    }
+
+    /** 원본 문자열 구간 */
+    protected abstract String text(int start, int len);
+
+    @Override
+    public final String getSourceName() {
+        return name == null || name.isEmpty() ? UNKNOWN_SOURCE_NAME : name;
+    }
+
+    @Override
+    public final String toString() {
+        return getText(Interval.of(0, size - 1));
+    }
+
+    private static int fold(int c, Fold fold) {
+        switch (fold) {
+            case UPPER:
+                return Character.toUpperCase(c);
+            case LOWER:
+                return Character.toLowerCase(c);
+            default:
+                return c;
+        }
+    }
+
+    // ========================================
+    // 구현
+    // ========================================
+
+    /**
+     * ASCII 전용 (원본 바이트 직접 사용, 변환은 128개 항목 표로 대체)
+     */
+    private static final class Ascii extends SourceCharStream {
+
+        private static final byte[] IDENTITY = table(Fold.NONE);
+        private static final byte[] UPPER = table(Fold.UPPER);
+        private static final byte[] LOWER = table(Fold.LOWER);
+
+        private final ByteBuffer bytes;
+        private final byte[] table;
+
+        private Ascii(ByteBuffer bytes, String name, Fold fold) {
+            super(bytes.remaining(), name, fold);
+            this.bytes = bytes;
+            this.table = fold == Fold.UPPER ? UPPER : fold == Fold.LOWER ? LOWER : IDENTITY;
+        }
+
+        @Override
+        protected int folded(int offset) {
+            return table[bytes.get(offset) & 0x7F];
+        }
+
+        @Override
+        protected String text(int start, int len) {
+            if (bytes.hasArray()) {
+                return new String(bytes.array(), bytes.arrayOffset() + start, len, StandardCharsets.ISO_8859_1);
+            }
+            byte[] copy = new byte[len];
+            bytes.get(start, copy);
+            return new String(copy, StandardCharsets.ISO_8859_1);
+        }
+
+        private static byte[] table(Fold fold) {
+            byte[] table = new byte[128];
+            for (int c = 0; c < 128; c++) {
+                table[c] = (byte) fold(c, fold);
+            }
+            return table;
+        }
+    }
+
+    /**
+     * 보조 평면 문자가 없는 소스 (문자 인덱스 = 코드 포인트 인덱스)
+     */
+    private static final class Utf16 extends SourceCharStream {
+
+        private final String text;
+        private final char[] folded;
+
+        private Utf16(String text, String name, Fold fold) {
+            super(text.length(), name, fold);
+            this.text = text;
+            if (fold == Fold.NONE) {
+                this.folded = null;
+            } else {
+                this.folded = text.toCharArray();
+                for (int i = 0; i < folded.length; i++) {
+                    folded[i] = (char) fold(folded[i], fold);
+                }
+            }
+        }
+
+        @Override
+        protected int folded(int offset) {
+            return folded != null ? folded[offset] : text.charAt(offset);
+        }
+
+        @Override
+        protected String text(int start, int len) {
+            return text.substring(start, start + len);
+        }
+    }
+
+    /**
+     * 보조 평면 문자가 있는 소스 (코드 포인트 배열)
+     */
+    private static final class CodePoint extends SourceCharStream {
+
+        private final int[] codePoints;
+        private final int[] folded;
+
+        private CodePoint(int[] codePoints, String name, Fold fold) {
+            super(codePoints.length, name, fold);
+            this.codePoints = codePoints;
+            if (fold == Fold.NONE) {
+                this.folded = codePoints;
+            } else {
+                this.folded = new int[codePoints.length];
+                for (int i = 0; i < codePoints.length; i++) {
+                    folded[i] = fold(codePoints[i], fold);
+                }
+            }
+        }
+
+        @Override
+        protected int folded(int offset) {
+            return folded[offset];
+        }
+
+        @Override
+        protected String text(int start, int len) {
+            return new String(codePoints, start, len);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package legacymodernizer.parser.antlr;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 선택적 순회(RuleTableListener.walk())의 하위 트리 건너뛰기 누적 통계 (규칙 표마다 하나, 프로세스 시작 이후 누적, 워밍업 포함)
+ * - 건너뛴 하위 트리 수와 그 토큰 구간 크기를 하위 트리 루트 규칙별로 집계
+ * - 건너뛴 하위 트리끼리는 겹치지 않으므로 건너뛴 토큰 수 / 순회한 토큰 수 = 순회에서 잘라낸 비율
+ * - 순회 중에는 스레드별 Counter에 모았다가 walk()가 끝날 때 한 번에 더함 (여러 파싱 스레드에서 동시에 호출)
+ */
+public final class SubtreeSkipStatistics {
+
+    private final String[] ruleNames;
+    private final AtomicLongArray skippedSubtrees;
+    private final AtomicLongArray skippedTokens;
+    private final LongAdder walks = new LongAdder();
+    private final LongAdder walkedContexts = new LongAdder();
+    private final LongAdder walkedTokens = new LongAdder();
+    private final ThreadLocal<Counter> counters = ThreadLocal.withInitial(Counter::new);
+
+    SubtreeSkipStatistics(String[] ruleNames) {
+        this.ruleNames = ruleNames;
+        this.skippedSubtrees = new AtomicLongArray(ruleNames.length);
+        this.skippedTokens = new AtomicLongArray(ruleNames.length);
+    }
+
+    /**
+     * 현재 스레드의 집계 (리스너마다 규칙 수 크기 배열을 만들지 않도록 스레드별로 재사용)
+     */
+    Counter counter() {
+        return counters.get();
+    }
+
+    /**
+     * 스레드별 집계 (건너뛴 규칙만 기록해 두었다가 flush()로 합산)
+     * - 같은 스레드에서 순회가 겹쳐도 flush()는 그때까지 모은 값을 한 번씩만 더하므로 합계는 같음
+     */
+    final class Counter {
+
+        private final int[] subtrees = new int[ruleNames.length];
+        private final long[] tokens = new long[ruleNames.length];
+        private int[] touched = new int[16];
+        private int touchedCount;
+
+        /**
+         * 건너뛴 하위 트리 추가
+         * @param rule 하위 트리 루트 규칙 인덱스
+         * @param tokenCount 하위 트리 토큰 구간 크기
+         */
+        void skipped(int rule, int tokenCount) {
+            if (subtrees[rule]++ == 0) {
+                if (touchedCount == touched.length) {
+                    touched = Arrays.copyOf(touched, touchedCount * 2);
+                }
+                touched[touchedCount++] = rule;
+            }
+            tokens[rule] += tokenCount;
+        }
+
+        /**
+         * 모은 값을 누적 통계에 더하고 초기화
+         * @param contexts 진입한 규칙 컨텍스트 수
+         * @param rootTokens 순회 시작 컨텍스트의 토큰 구간 크기
+         */
+        void flush(long contexts, int rootTokens) {
+            walks.increment();
+            walkedContexts.add(contexts);
+            walkedTokens.add(rootTokens);
+            for (int i = 0; i < touchedCount; i++) {
+                int rule = touched[i];
+                skippedSubtrees.addAndGet(rule, subtrees[rule]);
+                skippedTokens.addAndGet(rule, tokens[rule]);
+                subtrees[rule] = 0;
+                tokens[rule] = 0;
+            }
+            touchedCount = 0;
+        }
+    }
+
+    /**
+     * 응답용 맵 변환
+     * @param limit 규칙별 항목 최대 개수 (건너뛴 토큰 수 내림차순, 음수는 0으로 취급)
+     * @return {walks, walkedContexts, walkedTokens, skippedSubtrees, skippedTokens, skippedTokenRatio, rules: [{rule, subtrees, tokens}]}
+     */
+    public Map<String, Object> toMap(int limit) {
+        List<Map<String, Object>> rules = new ArrayList<>();
+        long totalSubtrees = 0;
+        long totalTokens = 0;
+        for (int rule = 0; rule < ruleNames.length; rule++) {
+            long subtrees = skippedSubtrees.get(rule);
+            if (subtrees == 0) continue;
+            long tokens = skippedTokens.get(rule);
+            totalSubtrees += subtrees;
+            totalTokens += tokens;
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("rule", ruleNames[rule]);
+            entry.put("subtrees", subtrees);
+            entry.put("tokens", tokens);
+            rules.add(entry);
+        }
+        rules.sort(Comparator.comparingLong((Map<String, Object> entry) -> (Long) entry.get("tokens")).reversed());
+        long walked = walkedTokens.sum();
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("walks", walks.sum());
+        map.put("walkedContexts", walkedContexts.sum());
+        map.put("walkedTokens", walked);
+        map.put("skippedSubtrees", totalSubtrees);
+        map.put("skippedTokens", totalTokens);
+        map.put("skippedTokenRatio", walked == 0 ? 0.0 : (double) totalTokens / walked);
+        int kept = Math.max(0, limit);
+        map.put("rules", rules.size() > kept ? new ArrayList<>(rules.subList(0, kept)) : rules);
+        return map;
+    }
+}
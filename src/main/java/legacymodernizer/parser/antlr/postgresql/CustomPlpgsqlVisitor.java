@@ -4,19 +4,21 @@ import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
 
-import legacymodernizer.parser.antlr.Node;
+import legacymodernizer.parser.antlr.NodeTree;
 
 /**
- * PL/pgSQL Parse Tree를 Node 트리로 변환하는 Visitor
+ * PL/pgSQL Parse Tree를 분석 트리(NodeTree) 노드로 변환하는 Visitor (방문 결과는 만든 노드 id)
  */
-public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
+public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Integer> {
 
-    private Node parentNode;  // PostgreSQL의 CREATE_FUNCTION 노드
+    private final NodeTree tree;
+    private int parentNode;  // PostgreSQL의 CREATE_FUNCTION 노드
     private int baseLineNumber;  // $$ 시작 라인 번호
     private CommonTokenStream tokens;
-    private Node currentBlockNode;
+    private int currentBlockNode = NodeTree.NONE;
 
-    public CustomPlpgsqlVisitor(Node parentNode, int baseLineNumber, CommonTokenStream tokens) {
+    public CustomPlpgsqlVisitor(NodeTree tree, int parentNode, int baseLineNumber, CommonTokenStream tokens) {
+        this.tree = tree;
         this.parentNode = parentNode;
         this.baseLineNumber = baseLineNumber;
         this.tokens = tokens;
@@ -46,22 +48,22 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
     /**
      * 노드 생성 헬퍼
      */
-    private Node createNode(String type, ParserRuleContext ctx, Node parent) {
+    private int createNode(String type, ParserRuleContext ctx, int parent) {
         int startLine = getActualLineNumber(ctx);
-        Node node = new Node(type, startLine, parent);
-        node.endLine = getActualEndLineNumber(ctx);
+        int node = tree.add(parent, type, startLine);
+        tree.setEndLine(node, getActualEndLineNumber(ctx));
 
         return node;
     }
 
     @Override
-    public Node visitPlpgsqlBlock(PlpgsqlParser.PlpgsqlBlockContext ctx) {
-        // 최초 호출 시 currentBlockNode가 null이면 parentNode로 초기화
-        if (currentBlockNode == null) {
+    public Integer visitPlpgsqlBlock(PlpgsqlParser.PlpgsqlBlockContext ctx) {
+        // 최초 호출 시 currentBlockNode가 없으면 parentNode로 초기화
+        if (currentBlockNode == NodeTree.NONE) {
         currentBlockNode = parentNode;
         }
 
-        Node previousBlock = currentBlockNode;
+        int previousBlock = currentBlockNode;
         
         // DECLARE 섹션은 항상 현재 블록의 자식으로 (BEGIN과 형제 관계)
         if (ctx.declareSection() != null) {
@@ -69,15 +71,15 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
         }
 
         // BEGIN 블록 노드 생성
-        Node beginNode = null;
+        Integer beginNode = null;
         
         // BEGIN 키워드의 위치를 찾아서 노드 생성
         if (ctx.BEGIN() != null) {
             int beginStartLine = getActualLineNumber(ctx.BEGIN().getSymbol());
             int beginEndLine = getActualEndLineNumber(ctx);
             
-            beginNode = new Node("BEGIN", beginStartLine, previousBlock);
-            beginNode.endLine = beginEndLine;
+            beginNode = tree.add(previousBlock, "BEGIN", beginStartLine);
+            tree.setEndLine(beginNode, beginEndLine);
             
             // BEGIN 블록 내부의 statements만 처리
             currentBlockNode = beginNode;
@@ -107,13 +109,13 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
     }
 
     @Override
-    public Node visitDeclareSection(PlpgsqlParser.DeclareSectionContext ctx) {
+    public Integer visitDeclareSection(PlpgsqlParser.DeclareSectionContext ctx) {
         // DECLARE 키워드의 실제 줄 번호 사용
         int declStartLine = getActualLineNumber(ctx.DECLARE().getSymbol());
         int declEndLine = getActualEndLineNumber(ctx.declarationList().declaration(ctx.declarationList().declaration().size() - 1));
         
-        Node declareNode = new Node("DECLARE", declStartLine, currentBlockNode);
-        declareNode.endLine = declEndLine;
+        int declareNode = tree.add(currentBlockNode, "DECLARE", declStartLine);
+        tree.setEndLine(declareNode, declEndLine);
 
         for (PlpgsqlParser.DeclarationContext declCtx : ctx.declarationList().declaration()) {
             visitDeclaration(declCtx, declareNode);
@@ -122,13 +124,13 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
         return declareNode;
     }
 
-    private void visitDeclaration(PlpgsqlParser.DeclarationContext ctx, Node parent) {
+    private void visitDeclaration(PlpgsqlParser.DeclarationContext ctx, int parent) {
         // VARIABLE_DECLARATION과 INITIAL_VALUE 노드를 만들지 않음
         // 필요하면 변수명 정보만 저장하는 방식으로 변경 가능
     }
 
     @Override
-    public Node visitStatementList(PlpgsqlParser.StatementListContext ctx) {
+    public Integer visitStatementList(PlpgsqlParser.StatementListContext ctx) {
         if (ctx.statement() == null) return null;
 
         for (PlpgsqlParser.StatementContext stmtCtx : ctx.statement()) {
@@ -139,75 +141,75 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
     }
 
     @Override
-    public Node visitAssignmentStmt(PlpgsqlParser.AssignmentStmtContext ctx) {
-        Node assignNode = createNode("ASSIGNMENT", ctx, currentBlockNode);
+    public Integer visitAssignmentStmt(PlpgsqlParser.AssignmentStmtContext ctx) {
+        int assignNode = createNode("ASSIGNMENT", ctx, currentBlockNode);
         return assignNode;
     }
 
     @Override
-    public Node visitInsertStmt(PlpgsqlParser.InsertStmtContext ctx) {
-        Node insertNode = createNode("INSERT", ctx, currentBlockNode);
+    public Integer visitInsertStmt(PlpgsqlParser.InsertStmtContext ctx) {
+        int insertNode = createNode("INSERT", ctx, currentBlockNode);
         return insertNode;
     }
 
     @Override
-    public Node visitUpdateStmt(PlpgsqlParser.UpdateStmtContext ctx) {
-        Node updateNode = createNode("UPDATE", ctx, currentBlockNode);
+    public Integer visitUpdateStmt(PlpgsqlParser.UpdateStmtContext ctx) {
+        int updateNode = createNode("UPDATE", ctx, currentBlockNode);
         return updateNode;
     }
 
     @Override
-    public Node visitDeleteStmt(PlpgsqlParser.DeleteStmtContext ctx) {
-        Node deleteNode = createNode("DELETE", ctx, currentBlockNode);
+    public Integer visitDeleteStmt(PlpgsqlParser.DeleteStmtContext ctx) {
+        int deleteNode = createNode("DELETE", ctx, currentBlockNode);
         return deleteNode;
     }
 
     @Override
-    public Node visitRaiseStmt(PlpgsqlParser.RaiseStmtContext ctx) {
+    public Integer visitRaiseStmt(PlpgsqlParser.RaiseStmtContext ctx) {
 
-        Node raiseNode = createNode("NOTICE", ctx, currentBlockNode);
+        int raiseNode = createNode("NOTICE", ctx, currentBlockNode);
         return raiseNode;
     }
 
     @Override
-    public Node visitReturnStmt(PlpgsqlParser.ReturnStmtContext ctx) {
+    public Integer visitReturnStmt(PlpgsqlParser.ReturnStmtContext ctx) {
         String returnType = "RETURN";
         if (ctx.NEXT() != null) {
             returnType = "RETURN_NEXT";
         } else if (ctx.QUERY() != null) {
             returnType = "RETURN_QUERY";
         }
-        Node returnNode = createNode(returnType, ctx, currentBlockNode);
+        int returnNode = createNode(returnType, ctx, currentBlockNode);
         return returnNode;
     }
 
     // ========== 커서 관련 문법 ==========
 
     @Override
-    public Node visitOpenCursorStmt(PlpgsqlParser.OpenCursorStmtContext ctx) {
+    public Integer visitOpenCursorStmt(PlpgsqlParser.OpenCursorStmtContext ctx) {
         return createNode("OPEN", ctx, currentBlockNode);
     }
 
     @Override
-    public Node visitCloseCursorStmt(PlpgsqlParser.CloseCursorStmtContext ctx) {
+    public Integer visitCloseCursorStmt(PlpgsqlParser.CloseCursorStmtContext ctx) {
         return createNode("CLOSE", ctx, currentBlockNode);
     }
 
     @Override
-    public Node visitFetchStmt(PlpgsqlParser.FetchStmtContext ctx) {
+    public Integer visitFetchStmt(PlpgsqlParser.FetchStmtContext ctx) {
         return createNode("FETCH", ctx, currentBlockNode);
     }
 
     @Override
-    public Node visitSelectIntoStmt(PlpgsqlParser.SelectIntoStmtContext ctx) {
-        Node selectNode = createNode("SELECT", ctx, currentBlockNode);
+    public Integer visitSelectIntoStmt(PlpgsqlParser.SelectIntoStmtContext ctx) {
+        int selectNode = createNode("SELECT", ctx, currentBlockNode);
         return selectNode;
     }
 
     @Override
-    public Node visitIfStmt(PlpgsqlParser.IfStmtContext ctx) {
-        Node ifNode = createNode("IF", ctx, currentBlockNode);
-        Node previousBlock = currentBlockNode;
+    public Integer visitIfStmt(PlpgsqlParser.IfStmtContext ctx) {
+        int ifNode = createNode("IF", ctx, currentBlockNode);
+        int previousBlock = currentBlockNode;
         currentBlockNode = ifNode;
 
         // THEN 절
@@ -225,8 +227,8 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
                 int elsifStartLine = getActualLineNumber(ctx.ELSIF(i).getSymbol());
                 int elsifEndLine = getActualEndLineNumber(elsifStmtList);
 
-            Node elsifNode = new Node("ELSIF", elsifStartLine, ifNode);
-            elsifNode.endLine = elsifEndLine;
+            int elsifNode = tree.add(ifNode, "ELSIF", elsifStartLine);
+            tree.setEndLine(elsifNode, elsifEndLine);
 
             currentBlockNode = elsifNode;
             visitStatementList(elsifStmtList);
@@ -241,8 +243,8 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
             int elseStartLine = getActualLineNumber(ctx.ELSE().getSymbol());
             int elseEndLine = getActualEndLineNumber(elseStmtList);
 
-            Node elseNode = new Node("ELSE", elseStartLine, ifNode);
-            elseNode.endLine = elseEndLine;
+            int elseNode = tree.add(ifNode, "ELSE", elseStartLine);
+            tree.setEndLine(elseNode, elseEndLine);
 
             currentBlockNode = elseNode;
             visitStatementList(elseStmtList);
@@ -253,9 +255,9 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
     }
 
     @Override
-    public Node visitLoopStmt(PlpgsqlParser.LoopStmtContext ctx) {
-        Node loopNode = createNode("LOOP", ctx, currentBlockNode);
-        Node previousBlock = currentBlockNode;
+    public Integer visitLoopStmt(PlpgsqlParser.LoopStmtContext ctx) {
+        int loopNode = createNode("LOOP", ctx, currentBlockNode);
+        int previousBlock = currentBlockNode;
         currentBlockNode = loopNode;
 
         visitStatementList(ctx.statementList());
@@ -265,9 +267,9 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
     }
 
     @Override
-    public Node visitWhileStmt(PlpgsqlParser.WhileStmtContext ctx) {
-        Node whileNode = createNode("WHILE", ctx, currentBlockNode);
-        Node previousBlock = currentBlockNode;
+    public Integer visitWhileStmt(PlpgsqlParser.WhileStmtContext ctx) {
+        int whileNode = createNode("WHILE", ctx, currentBlockNode);
+        int previousBlock = currentBlockNode;
         currentBlockNode = whileNode;
 
         visitStatementList(ctx.statementList());
@@ -277,9 +279,9 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
     }
 
     @Override
-    public Node visitForStmt(PlpgsqlParser.ForStmtContext ctx) {
-        Node forNode = createNode("FOR", ctx, currentBlockNode);
-        Node previousBlock = currentBlockNode;
+    public Integer visitForStmt(PlpgsqlParser.ForStmtContext ctx) {
+        int forNode = createNode("FOR", ctx, currentBlockNode);
+        int previousBlock = currentBlockNode;
         currentBlockNode = forNode;
 
         visitStatementList(ctx.statementList());
@@ -289,9 +291,9 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
     }
 
     @Override
-    public Node visitForeachStmt(PlpgsqlParser.ForeachStmtContext ctx) {
-        Node foreachNode = createNode("FOREACH", ctx, currentBlockNode);
-        Node previousBlock = currentBlockNode;
+    public Integer visitForeachStmt(PlpgsqlParser.ForeachStmtContext ctx) {
+        int foreachNode = createNode("FOREACH", ctx, currentBlockNode);
+        int previousBlock = currentBlockNode;
         currentBlockNode = foreachNode;
 
         visitStatementList(ctx.statementList());
@@ -301,50 +303,50 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
     }
 
     @Override
-    public Node visitExitStmt(PlpgsqlParser.ExitStmtContext ctx) {
-        Node exitNode = createNode("EXIT", ctx, currentBlockNode);
+    public Integer visitExitStmt(PlpgsqlParser.ExitStmtContext ctx) {
+        int exitNode = createNode("EXIT", ctx, currentBlockNode);
         return exitNode;
     }
 
     @Override
-    public Node visitContinueStmt(PlpgsqlParser.ContinueStmtContext ctx) {
-        Node continueNode = createNode("CONTINUE", ctx, currentBlockNode);
+    public Integer visitContinueStmt(PlpgsqlParser.ContinueStmtContext ctx) {
+        int continueNode = createNode("CONTINUE", ctx, currentBlockNode);
         return continueNode;
     }
 
     @Override
-    public Node visitSetStmt(PlpgsqlParser.SetStmtContext ctx) {
-        Node setNode = createNode("SET", ctx, currentBlockNode);
+    public Integer visitSetStmt(PlpgsqlParser.SetStmtContext ctx) {
+        int setNode = createNode("SET", ctx, currentBlockNode);
         return setNode;
     }
 
     @Override
-    public Node visitExecuteStmt(PlpgsqlParser.ExecuteStmtContext ctx) {
-        Node executeNode = createNode("EXECUTE", ctx, currentBlockNode);
+    public Integer visitExecuteStmt(PlpgsqlParser.ExecuteStmtContext ctx) {
+        int executeNode = createNode("EXECUTE", ctx, currentBlockNode);
         return executeNode;
     }
 
     @Override
-    public Node visitPerformStmt(PlpgsqlParser.PerformStmtContext ctx) {
-        Node performNode = createNode("PERFORM", ctx, currentBlockNode);
+    public Integer visitPerformStmt(PlpgsqlParser.PerformStmtContext ctx) {
+        int performNode = createNode("PERFORM", ctx, currentBlockNode);
         return performNode;
     }
     
     @Override
-    public Node visitCommitStmt(PlpgsqlParser.CommitStmtContext ctx) {
-        Node commitNode = createNode("COMMIT", ctx, currentBlockNode);
+    public Integer visitCommitStmt(PlpgsqlParser.CommitStmtContext ctx) {
+        int commitNode = createNode("COMMIT", ctx, currentBlockNode);
         return commitNode;
     }
     
     @Override
-    public Node visitRollbackStmt(PlpgsqlParser.RollbackStmtContext ctx) {
-        Node rollbackNode = createNode("ROLLBACK", ctx, currentBlockNode);
+    public Integer visitRollbackStmt(PlpgsqlParser.RollbackStmtContext ctx) {
+        int rollbackNode = createNode("ROLLBACK", ctx, currentBlockNode);
         return rollbackNode;
     }
 
     @Override
-    public Node visitNestedBlock(PlpgsqlParser.NestedBlockContext ctx) {
-        Node previousBlock = currentBlockNode;
+    public Integer visitNestedBlock(PlpgsqlParser.NestedBlockContext ctx) {
+        int previousBlock = currentBlockNode;
         
         // DECLARE 섹션 처리 (있는 경우)
         if (ctx.declarationList() != null) {
@@ -358,8 +360,8 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
             }
             int declEndLine = getActualEndLineNumber(declList.declaration(declList.declaration().size() - 1));
 
-            Node declareNode = new Node("DECLARE", declStartLine, currentBlockNode);
-            declareNode.endLine = declEndLine;
+            int declareNode = tree.add(currentBlockNode, "DECLARE", declStartLine);
+            tree.setEndLine(declareNode, declEndLine);
 
             for (PlpgsqlParser.DeclarationContext declCtx : declList.declaration()) {
                 visitDeclaration(declCtx, declareNode);
@@ -370,8 +372,8 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
         int beginStartLine = getActualLineNumber(ctx.BEGIN().getSymbol());
         int beginEndLine = getActualEndLineNumber(ctx);
         
-        Node beginNode = new Node("BEGIN", beginStartLine, currentBlockNode);
-        beginNode.endLine = beginEndLine;
+        int beginNode = tree.add(currentBlockNode, "BEGIN", beginStartLine);
+        tree.setEndLine(beginNode, beginEndLine);
         
         // BEGIN 블록 내부 처리
         currentBlockNode = beginNode;
@@ -387,12 +389,12 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
     }
 
     @Override
-    public Node visitExceptionSection(PlpgsqlParser.ExceptionSectionContext ctx) {
-        Node exceptionNode = createNode("EXCEPTION", ctx, currentBlockNode);
+    public Integer visitExceptionSection(PlpgsqlParser.ExceptionSectionContext ctx) {
+        int exceptionNode = createNode("EXCEPTION", ctx, currentBlockNode);
 
         // for (PlpgsqlParser.ExceptionHandlerContext handlerCtx : ctx.exceptionHandlerList().exceptionHandler()) {
-        //     Node handlerNode = createNode("EXCEPTION_HANDLER", handlerCtx, exceptionNode);
-        //     Node previousBlock = currentBlockNode;
+        //     int handlerNode = createNode("EXCEPTION_HANDLER", handlerCtx, exceptionNode);
+        //     int previousBlock = currentBlockNode;
         //     currentBlockNode = handlerNode;
 
         //     visitStatementList(handlerCtx.statementList());
@@ -404,9 +406,9 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
     }
     
     @Override
-    public Node visitCaseStmt(PlpgsqlParser.CaseStmtContext ctx) {
-        Node caseNode = createNode("CASE", ctx, currentBlockNode);
-        Node previousBlock = currentBlockNode;
+    public Integer visitCaseStmt(PlpgsqlParser.CaseStmtContext ctx) {
+        int caseNode = createNode("CASE", ctx, currentBlockNode);
+        int previousBlock = currentBlockNode;
         currentBlockNode = caseNode;
         
         // WHEN 절들
@@ -416,8 +418,8 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
             int whenStartLine = getActualLineNumber(ctx.whenClauseList().whenClause(i));
             int whenEndLine = getActualEndLineNumber(whenStmtList);
             
-            Node whenNode = new Node("WHEN", whenStartLine, caseNode);
-            whenNode.endLine = whenEndLine;
+            int whenNode = tree.add(caseNode, "WHEN", whenStartLine);
+            tree.setEndLine(whenNode, whenEndLine);
             
             currentBlockNode = whenNode;
             visitStatementList(whenStmtList);
@@ -429,8 +431,8 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
             int elseStartLine = getActualLineNumber(ctx.ELSE().getSymbol());
             int elseEndLine = getActualEndLineNumber(elseStmtList);
             
-            Node elseNode = new Node("ELSE", elseStartLine, caseNode);
-            elseNode.endLine = elseEndLine;
+            int elseNode = tree.add(caseNode, "ELSE", elseStartLine);
+            tree.setEndLine(elseNode, elseEndLine);
             
             currentBlockNode = elseNode;
             visitStatementList(elseStmtList);
@@ -441,40 +443,40 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
     }
     
     @Override
-    public Node visitAssertStmt(PlpgsqlParser.AssertStmtContext ctx) {
-        Node assertNode = createNode("ASSERT", ctx, currentBlockNode);
+    public Integer visitAssertStmt(PlpgsqlParser.AssertStmtContext ctx) {
+        int assertNode = createNode("ASSERT", ctx, currentBlockNode);
         return assertNode;
     }
     
     @Override
-    public Node visitNullStmt(PlpgsqlParser.NullStmtContext ctx) {
-        Node nullNode = createNode("NULL", ctx, currentBlockNode);
+    public Integer visitNullStmt(PlpgsqlParser.NullStmtContext ctx) {
+        int nullNode = createNode("NULL", ctx, currentBlockNode);
         return nullNode;
     }
     
     @Override
-    public Node visitGetDiagnosticsStmt(PlpgsqlParser.GetDiagnosticsStmtContext ctx) {
-        Node diagNode = createNode("GET_DIAGNOSTICS", ctx, currentBlockNode);
+    public Integer visitGetDiagnosticsStmt(PlpgsqlParser.GetDiagnosticsStmtContext ctx) {
+        int diagNode = createNode("GET_DIAGNOSTICS", ctx, currentBlockNode);
         return diagNode;
     }
     
     @Override
-    public Node visitCreateTempTableStmt(PlpgsqlParser.CreateTempTableStmtContext ctx) {
-        Node createTableNode = createNode("CREATE_TEMP_TABLE", ctx, currentBlockNode);
+    public Integer visitCreateTempTableStmt(PlpgsqlParser.CreateTempTableStmtContext ctx) {
+        int createTableNode = createNode("CREATE_TEMP_TABLE", ctx, currentBlockNode);
         return createTableNode;
     }
     
     @Override
-    public Node visitCteStmt(PlpgsqlParser.CteStmtContext ctx) {
-        Node cteNode = createNode("CTE", ctx, currentBlockNode);
+    public Integer visitCteStmt(PlpgsqlParser.CteStmtContext ctx) {
+        int cteNode = createNode("CTE", ctx, currentBlockNode);
         return cteNode;
     }
     
     @Override
-    public Node visitSqlGenericStmt(PlpgsqlParser.SqlGenericStmtContext ctx) {
+    public Integer visitSqlGenericStmt(PlpgsqlParser.SqlGenericStmtContext ctx) {
         // CALL 문 처리
         if (ctx.CALL() != null) {
-            Node callNode = createNode("CALL", ctx, currentBlockNode);
+            int callNode = createNode("CALL", ctx, currentBlockNode);
             return callNode;
         }
         
@@ -483,17 +485,17 @@ public class CustomPlpgsqlVisitor extends PlpgsqlParserBaseVisitor<Node> {
         
         // CREATE INDEX 문 처리
         if (stmtText.startsWith("CREATEINDEX") || stmtText.contains("CREATEINDEX")) {
-            Node createIndexNode = createNode("CREATE_INDEX", ctx, currentBlockNode);
+            int createIndexNode = createNode("CREATE_INDEX", ctx, currentBlockNode);
             return createIndexNode;
         }
         
         // DROP TABLE 문 처리
         if (stmtText.startsWith("DROPTABLE") || stmtText.contains("DROPTABLE")) {
-            Node dropTableNode = createNode("DROP_TABLE", ctx, currentBlockNode);
+            int dropTableNode = createNode("DROP_TABLE", ctx, currentBlockNode);
             return dropTableNode;
         }
         
-        Node sqlNode = createNode("SQL_GENERIC", ctx, currentBlockNode);
+        int sqlNode = createNode("SQL_GENERIC", ctx, currentBlockNode);
         return sqlNode;
     }
 }
@@ -1,51 +1,183 @@
 package legacymodernizer.parser.antlr.postgresql;
 
-import java.util.Stack;
+import java.util.ArrayList;
+import java.util.List;
 import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.tree.*;
 
-import legacymodernizer.parser.antlr.Node;
+import legacymodernizer.parser.antlr.NodeTree;
+import legacymodernizer.parser.antlr.RuleNodeTable;
+import legacymodernizer.parser.antlr.RuleTableListener;
+
+public class CustomPostgreSQLListener extends RuleTableListener {
+
+    /**
+     * 규칙 → 노드 타입 표 (파스 트리 가지치기도 이 표의 규칙을 기준으로 남김)
+     * - SQL의 CASE 표현식(case_expr)은 노드로 만들지 않음 (DML 문의 일부로 처리)
+     */
+    public static final RuleNodeTable RULES = new RuleNodeTable(PostgreSQLParser.ruleNames, PostgreSQLParser._ATN)
+            // ========== DDL (Data Definition Language) ==========
+            // CREATE FUNCTION/DO: SPEC 노드 + PL/pgSQL 본문 파싱, DEFINE: 두 번째 토큰으로 타입 결정
+            .custom(PostgreSQLParser.RULE_createfunctionstmt,
+                    PostgreSQLParser.RULE_dostmt,
+                    PostgreSQLParser.RULE_definestmt)
+            .node("SET", PostgreSQLParser.RULE_variablesetstmt)
+            .node("RESET", PostgreSQLParser.RULE_variableresetstmt)
+            .node("DROP", PostgreSQLParser.RULE_dropstmt)
+            .node("DROP_ROLE", PostgreSQLParser.RULE_droprolestmt)
+            .node("CREATE_TABLE", PostgreSQLParser.RULE_createstmt)
+            .node("ALTER_TABLE", PostgreSQLParser.RULE_altertablestmt)
+            .node("ALTER_ROLE", PostgreSQLParser.RULE_alterrolestmt)
+            .node("ALTER_DATABASE", PostgreSQLParser.RULE_alterdatabasestmt)
+            .node("ALTER_FUNCTION", PostgreSQLParser.RULE_alterfunctionstmt)
+            .node("CREATE_INDEX", PostgreSQLParser.RULE_indexstmt)
+            .node("CREATE_OPERATOR_FAMILY", PostgreSQLParser.RULE_createopfamilystmt)
+            .node("ALTER_OPERATOR_FAMILY", PostgreSQLParser.RULE_alteropfamilystmt)
+            .node("DROP_OPERATOR_FAMILY", PostgreSQLParser.RULE_dropopfamilystmt)
+            .node("CREATE_OPERATOR_CLASS", PostgreSQLParser.RULE_createopclassstmt)
+            .node("DROP_OPERATOR_CLASS", PostgreSQLParser.RULE_dropopclassstmt)
+            .node("CREATE_SCHEMA", PostgreSQLParser.RULE_createschemastmt)
+            .node("CREATE_SEQUENCE", PostgreSQLParser.RULE_createseqstmt)
+            .node("CREATE_TRIGGER", PostgreSQLParser.RULE_createtrigstmt)
+            .node("CREATE_RULE", PostgreSQLParser.RULE_rulestmt)
+            .node("CREATE_DATABASE", PostgreSQLParser.RULE_createdbstmt)
+            .node("CREATE_USER", PostgreSQLParser.RULE_createuserstmt)
+            .node("CREATE_ROLE", PostgreSQLParser.RULE_createrolestmt)
+            .node("CREATE_GROUP", PostgreSQLParser.RULE_creategroupstmt)
+            .node("CREATE_VIEW", PostgreSQLParser.RULE_viewstmt)
+            .node("TRUNCATE", PostgreSQLParser.RULE_truncatestmt)
+            .node("COPY", PostgreSQLParser.RULE_copystmt)
+            .node("RENAME", PostgreSQLParser.RULE_renamestmt)
+            .node("ALTER_OWNER", PostgreSQLParser.RULE_alterownerstmt)
+            .node("ALTER_SCHEMA", PostgreSQLParser.RULE_alterobjectschemastmt)
+
+            // ========== DML (Data Manipulation Language) ==========
+            // SELECT: INSERT/EXPLAIN 안에서는 노드로 만들지 않음
+            .custom(PostgreSQLParser.RULE_selectstmt,
+                    PostgreSQLParser.RULE_insertstmt,
+                    PostgreSQLParser.RULE_explainstmt)
+            .node("UPDATE", PostgreSQLParser.RULE_updatestmt)
+            .node("DELETE", PostgreSQLParser.RULE_deletestmt)
+            .node("MERGE", PostgreSQLParser.RULE_mergestmt)
+            .node("MERGE_INSERT", PostgreSQLParser.RULE_merge_insert_clause)
+            .node("MERGE_UPDATE", PostgreSQLParser.RULE_merge_update_clause)
+            .node("MERGE_DELETE", PostgreSQLParser.RULE_merge_delete_clause)
+
+            // ========== DCL (Data Control Language) ==========
+            .node("GRANT", PostgreSQLParser.RULE_grantstmt)
+            .node("REVOKE", PostgreSQLParser.RULE_revokestmt)
+
+            // ========== TCL (Transaction Control Language) ==========
+            // TRANSACTION: 첫 토큰으로 BEGIN/COMMIT/ROLLBACK/SAVEPOINT 등 구분
+            .custom(PostgreSQLParser.RULE_transactionstmt)
+
+            // ========== 기타 유틸리티 명령어 ==========
+            .node("ANALYZE", PostgreSQLParser.RULE_analyzestmt)
+            .node("VACUUM", PostgreSQLParser.RULE_vacuumstmt)
+            .node("PREPARE", PostgreSQLParser.RULE_preparestmt)
+            .node("EXECUTE", PostgreSQLParser.RULE_executestmt)
+            .node("LOCK", PostgreSQLParser.RULE_lockstmt)
+            .node("REINDEX", PostgreSQLParser.RULE_reindexstmt)
+            .node("CLUSTER", PostgreSQLParser.RULE_clusterstmt)
+            .node("COMMENT", PostgreSQLParser.RULE_commentstmt);
 
-public class CustomPostgreSQLListener extends PostgreSQLParserBaseListener {
     private TokenStream tokens;
-    private Stack<Node> nodeStack = new Stack<>();
-    private Node root = new Node("ROOT", 0, null);
     private boolean insideInsert = false;
     private boolean insideExplain = false;
-    private boolean plpgsqlLogErrors = false; // PL/pgSQL 파싱 에러 로그 출력 여부
+    private final List<PlpgsqlBody> plpgsqlBodies = new ArrayList<>();
 
-    public Node getRoot() {
-        return root;
+    /**
+     * 순회 후 열린 노드/INSERT·EXPLAIN 상태가 남지 않았는지 확인 (분할 파싱 시 구간 간 상태 전달이 없는지 판정)
+     * @return 루트만 남아 있고 상태 플래그가 해제되어 있으면 true
+     */
+    @Override
+    public boolean isBalanced() {
+        return super.isBalanced() && !insideInsert && !insideExplain;
     }
 
+    /**
+     * PL/pgSQL 본문은 파싱하지 않고 getPlpgsqlBodies()에 모아 둠 (순회 후 호출자가 PlpgsqlBodyParser로 파싱/연결)
+     * @param tokens 토큰 스트림
+     */
     public CustomPostgreSQLListener(TokenStream tokens) {
+        super(RULES, "ROOT");
         this.tokens = tokens;
-        nodeStack.push(root);
     }
 
-    private void enterStatement(String statementType, int line) {
-        Node currentNode = new Node(statementType, line, nodeStack.peek());
-        nodeStack.push(currentNode);
+    /**
+     * 미뤄 둔 PL/pgSQL 본문 목록 (출현 순)
+     * @return 본문 목록
+     */
+    public List<PlpgsqlBody> getPlpgsqlBodies() {
+        return plpgsqlBodies;
+    }
+
+    @Override
+    protected void enterCustom(ParserRuleContext ctx) {
+        switch (ctx.getRuleIndex()) {
+            case PostgreSQLParser.RULE_createfunctionstmt:
+                enterCreatefunctionstmt((PostgreSQLParser.CreatefunctionstmtContext) ctx);
+                break;
+            case PostgreSQLParser.RULE_dostmt:
+                enterDostmt((PostgreSQLParser.DostmtContext) ctx);
+                break;
+            case PostgreSQLParser.RULE_definestmt:
+                enterStatement(defineType((PostgreSQLParser.DefinestmtContext) ctx), ctx.getStart().getLine());
+                break;
+            case PostgreSQLParser.RULE_selectstmt:
+                if (!insideInsert && !insideExplain) {
+                    enterStatement("SELECT", ctx.getStart().getLine());
+                }
+                break;
+            case PostgreSQLParser.RULE_insertstmt:
+                insideInsert = true;
+                enterStatement("INSERT", ctx.getStart().getLine());
+                break;
+            case PostgreSQLParser.RULE_explainstmt:
+                insideExplain = true;
+                enterStatement("EXPLAIN", ctx.getStart().getLine());
+                break;
+            case PostgreSQLParser.RULE_transactionstmt:
+                enterStatement(transactionType((PostgreSQLParser.TransactionstmtContext) ctx), ctx.getStart().getLine());
+                break;
+            default:
+                break;
+        }
     }
 
-    private void exitStatement(String statementType, int line) {
-        Node node = nodeStack.pop();
-        node.endLine = line;
+    @Override
+    protected void exitCustom(ParserRuleContext ctx) {
+        switch (ctx.getRuleIndex()) {
+            case PostgreSQLParser.RULE_selectstmt:
+                if (!insideInsert && !insideExplain) {
+                    exitStatement(ctx.getStop().getLine());
+                }
+                break;
+            case PostgreSQLParser.RULE_insertstmt:
+                exitStatement(ctx.getStop().getLine());
+                insideInsert = false;
+                break;
+            case PostgreSQLParser.RULE_explainstmt:
+                exitStatement(ctx.getStop().getLine());
+                insideExplain = false;
+                break;
+            default:
+                // CREATE FUNCTION/DO/DEFINE/TRANSACTION
+                exitStatement(ctx.getStop().getLine());
+                break;
+        }
     }
 
-    // ========== DDL (Data Definition Language) ==========
-
     // CREATE FUNCTION
-    @Override
-    public void enterCreatefunctionstmt(PostgreSQLParser.CreatefunctionstmtContext ctx) {
+    private void enterCreatefunctionstmt(PostgreSQLParser.CreatefunctionstmtContext ctx) {
         enterStatement("CREATE_FUNCTION", ctx.getStart().getLine());
         
         int dollarLineNumber = findDollarStringLine(ctx);
         
         int specStartLine = ctx.getStart().getLine();
         int specEndLine = dollarLineNumber > 0 ? dollarLineNumber : ctx.getStop().getLine();
-        Node specNode = new Node("SPEC", specStartLine, nodeStack.peek());
-        specNode.endLine = specEndLine;
+        int specNode = tree.add(currentNode(), "SPEC", specStartLine);
+        tree.setEndLine(specNode, specEndLine);
         
         if (dollarLineNumber > 0) {
         String plpgsqlCode = extractDollarQuotedString(ctx);
@@ -53,7 +185,7 @@ public class CustomPostgreSQLListener extends PostgreSQLParserBaseListener {
                 int leadingNewlines = countRemovedLeadingLines(plpgsqlCode);
                 int adjustedBaseLineNumber = dollarLineNumber + leadingNewlines - 1;
                 
-                parsePlpgsqlBlock(plpgsqlCode.trim(), adjustedBaseLineNumber);
+                deferPlpgsqlBlock(plpgsqlCode.trim(), adjustedBaseLineNumber);
             }
         }
     }
@@ -76,14 +208,9 @@ public class CustomPostgreSQLListener extends PostgreSQLParserBaseListener {
         return -1; 
     }
 
-    @Override
-    public void exitCreatefunctionstmt(PostgreSQLParser.CreatefunctionstmtContext ctx) {
-        exitStatement("CREATE_FUNCTION", ctx.getStop().getLine());
-    }
 
     // DO (익명 코드 블록)
-    @Override
-    public void enterDostmt(PostgreSQLParser.DostmtContext ctx) {
+    private void enterDostmt(PostgreSQLParser.DostmtContext ctx) {
         enterStatement("DO", ctx.getStart().getLine());
         
         int dollarLineNumber = findDollarStringLineForDo(ctx);
@@ -94,15 +221,11 @@ public class CustomPostgreSQLListener extends PostgreSQLParserBaseListener {
                 int leadingNewlines = countRemovedLeadingLines(plpgsqlCode);
                 int adjustedBaseLineNumber = dollarLineNumber + leadingNewlines - 1;
                 
-                parsePlpgsqlBlock(plpgsqlCode.trim(), adjustedBaseLineNumber);
+                deferPlpgsqlBlock(plpgsqlCode.trim(), adjustedBaseLineNumber);
             }
         }
     }
 
-    @Override
-    public void exitDostmt(PostgreSQLParser.DostmtContext ctx) {
-        exitStatement("DO", ctx.getStop().getLine());
-    }
 
     /**
      * DO 문에서 $$ 토큰 찾기
@@ -199,353 +322,17 @@ public class CustomPostgreSQLListener extends PostgreSQLParserBaseListener {
     }
 
     /**
-     * PL/pgSQL 코드를 파싱하고 Node 트리에 추가
+     * PL/pgSQL 본문을 순회 후 파싱하도록 기록 (현재 노드와 마지막 자식 위치)
      */
-    private void parsePlpgsqlBlock(String plpgsqlCode, int baseLineNumber) {
-        try {
-            CharStream input = CharStreams.fromString(plpgsqlCode);
-            PlpgsqlLexer lexer = new PlpgsqlLexer(input);
-            CommonTokenStream plTokens = new CommonTokenStream(lexer);
-            PlpgsqlParser parser = new PlpgsqlParser(plTokens);
-            
-            int adjustedBaseLineNumber = baseLineNumber;
-            
-            // 에러 리스너 추가
-            parser.removeErrorListeners();
-            parser.addErrorListener(new BaseErrorListener() {
-                @Override
-                public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol,
-                                      int line, int charPositionInLine, String msg,
-                                      RecognitionException e) {
-                    if (plpgsqlLogErrors) {
-                        System.err.println("PL/pgSQL Parse Error at line " + (adjustedBaseLineNumber + line)
-                                     + ":" + charPositionInLine + " - " + msg);
-                    }
-                }
-            });
-            
-            // 파싱 시작
-            ParseTree tree = parser.plpgsqlBlock();
-            
-
-            CustomPlpgsqlVisitor visitor = new CustomPlpgsqlVisitor(
-                nodeStack.peek(),
-                adjustedBaseLineNumber,
-                plTokens
-            );
-            visitor.visit(tree);
-            
-        } catch (Exception e) {
-            System.err.println("Error parsing PL/pgSQL: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-
-    // SET
-    @Override
-    public void enterVariablesetstmt(PostgreSQLParser.VariablesetstmtContext ctx) {
-        enterStatement("SET", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitVariablesetstmt(PostgreSQLParser.VariablesetstmtContext ctx) {
-        exitStatement("SET", ctx.getStop().getLine());
-    }
-
-    // RESET
-    @Override
-    public void enterVariableresetstmt(PostgreSQLParser.VariableresetstmtContext ctx) {
-        enterStatement("RESET", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitVariableresetstmt(PostgreSQLParser.VariableresetstmtContext ctx) {
-        exitStatement("RESET", ctx.getStop().getLine());
-    }
-
-    // DROP
-    @Override
-    public void enterDropstmt(PostgreSQLParser.DropstmtContext ctx) {
-        enterStatement("DROP", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitDropstmt(PostgreSQLParser.DropstmtContext ctx) {
-        exitStatement("DROP", ctx.getStop().getLine());
-    }
-
-    // DROP ROLE
-    @Override
-    public void enterDroprolestmt(PostgreSQLParser.DroprolestmtContext ctx) {
-        enterStatement("DROP_ROLE", ctx.getStart().getLine());
+    private void deferPlpgsqlBlock(String plpgsqlCode, int baseLineNumber) {
+        int parent = currentNode();
+        plpgsqlBodies.add(new PlpgsqlBody(parent, tree.lastChild(parent), plpgsqlCode, baseLineNumber));
     }
 
-    @Override
-    public void exitDroprolestmt(PostgreSQLParser.DroprolestmtContext ctx) {
-        exitStatement("DROP_ROLE", ctx.getStop().getLine());
-    }
-
-    // CREATE TABLE
-    @Override
-    public void enterCreatestmt(PostgreSQLParser.CreatestmtContext ctx) {
-        enterStatement("CREATE_TABLE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitCreatestmt(PostgreSQLParser.CreatestmtContext ctx) {
-        exitStatement("CREATE_TABLE", ctx.getStop().getLine());
-    }
-
-    // ALTER TABLE
-    @Override
-    public void enterAltertablestmt(PostgreSQLParser.AltertablestmtContext ctx) {
-        enterStatement("ALTER_TABLE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitAltertablestmt(PostgreSQLParser.AltertablestmtContext ctx) {
-        exitStatement("ALTER_TABLE", ctx.getStop().getLine());
-    }
-
-    // ALTER ROLE
-    @Override
-    public void enterAlterrolestmt(PostgreSQLParser.AlterrolestmtContext ctx) {
-        enterStatement("ALTER_ROLE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitAlterrolestmt(PostgreSQLParser.AlterrolestmtContext ctx) {
-        exitStatement("ALTER_ROLE", ctx.getStop().getLine());
-    }
-
-    // ALTER DATABASE
-    @Override
-    public void enterAlterdatabasestmt(PostgreSQLParser.AlterdatabasestmtContext ctx) {
-        enterStatement("ALTER_DATABASE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitAlterdatabasestmt(PostgreSQLParser.AlterdatabasestmtContext ctx) {
-        exitStatement("ALTER_DATABASE", ctx.getStop().getLine());
-    }
-
-    // ALTER FUNCTION
-    @Override
-    public void enterAlterfunctionstmt(PostgreSQLParser.AlterfunctionstmtContext ctx) {
-        enterStatement("ALTER_FUNCTION", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitAlterfunctionstmt(PostgreSQLParser.AlterfunctionstmtContext ctx) {
-        exitStatement("ALTER_FUNCTION", ctx.getStop().getLine());
-    }
-
-    // CREATE INDEX
-    @Override
-    public void enterIndexstmt(PostgreSQLParser.IndexstmtContext ctx) {
-        enterStatement("CREATE_INDEX", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitIndexstmt(PostgreSQLParser.IndexstmtContext ctx) {
-        exitStatement("CREATE_INDEX", ctx.getStop().getLine());
-    }
-
-    // CREATE OPERATOR FAMILY
-    @Override
-    public void enterCreateopfamilystmt(PostgreSQLParser.CreateopfamilystmtContext ctx) {
-        enterStatement("CREATE_OPERATOR_FAMILY", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitCreateopfamilystmt(PostgreSQLParser.CreateopfamilystmtContext ctx) {
-        exitStatement("CREATE_OPERATOR_FAMILY", ctx.getStop().getLine());
-    }
-
-    // ALTER OPERATOR FAMILY
-    @Override
-    public void enterAlteropfamilystmt(PostgreSQLParser.AlteropfamilystmtContext ctx) {
-        enterStatement("ALTER_OPERATOR_FAMILY", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitAlteropfamilystmt(PostgreSQLParser.AlteropfamilystmtContext ctx) {
-        exitStatement("ALTER_OPERATOR_FAMILY", ctx.getStop().getLine());
-    }
-
-    // DROP OPERATOR FAMILY
-    @Override
-    public void enterDropopfamilystmt(PostgreSQLParser.DropopfamilystmtContext ctx) {
-        enterStatement("DROP_OPERATOR_FAMILY", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitDropopfamilystmt(PostgreSQLParser.DropopfamilystmtContext ctx) {
-        exitStatement("DROP_OPERATOR_FAMILY", ctx.getStop().getLine());
-    }
-
-    // CREATE OPERATOR CLASS
-    @Override
-    public void enterCreateopclassstmt(PostgreSQLParser.CreateopclassstmtContext ctx) {
-        enterStatement("CREATE_OPERATOR_CLASS", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitCreateopclassstmt(PostgreSQLParser.CreateopclassstmtContext ctx) {
-        exitStatement("CREATE_OPERATOR_CLASS", ctx.getStop().getLine());
-    }
-
-    // DROP OPERATOR CLASS
-    @Override
-    public void enterDropopclassstmt(PostgreSQLParser.DropopclassstmtContext ctx) {
-        enterStatement("DROP_OPERATOR_CLASS", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitDropopclassstmt(PostgreSQLParser.DropopclassstmtContext ctx) {
-        exitStatement("DROP_OPERATOR_CLASS", ctx.getStop().getLine());
-    }
-
-    // CREATE SCHEMA
-    @Override
-    public void enterCreateschemastmt(PostgreSQLParser.CreateschemastmtContext ctx) {
-        enterStatement("CREATE_SCHEMA", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitCreateschemastmt(PostgreSQLParser.CreateschemastmtContext ctx) {
-        exitStatement("CREATE_SCHEMA", ctx.getStop().getLine());
-    }
-
-    // CREATE SEQUENCE
-    @Override
-    public void enterCreateseqstmt(PostgreSQLParser.CreateseqstmtContext ctx) {
-        enterStatement("CREATE_SEQUENCE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitCreateseqstmt(PostgreSQLParser.CreateseqstmtContext ctx) {
-        exitStatement("CREATE_SEQUENCE", ctx.getStop().getLine());
-    }
-
-    // CREATE TRIGGER
-    @Override
-    public void enterCreatetrigstmt(PostgreSQLParser.CreatetrigstmtContext ctx) {
-        enterStatement("CREATE_TRIGGER", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitCreatetrigstmt(PostgreSQLParser.CreatetrigstmtContext ctx) {
-        exitStatement("CREATE_TRIGGER", ctx.getStop().getLine());
-    }
-
-    // CREATE RULE
-    @Override
-    public void enterRulestmt(PostgreSQLParser.RulestmtContext ctx) {
-        enterStatement("CREATE_RULE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitRulestmt(PostgreSQLParser.RulestmtContext ctx) {
-        exitStatement("CREATE_RULE", ctx.getStop().getLine());
-    }
-
-    // CREATE DATABASE
-    @Override
-    public void enterCreatedbstmt(PostgreSQLParser.CreatedbstmtContext ctx) {
-        enterStatement("CREATE_DATABASE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitCreatedbstmt(PostgreSQLParser.CreatedbstmtContext ctx) {
-        exitStatement("CREATE_DATABASE", ctx.getStop().getLine());
-    }
-
-    // CREATE USER
-    @Override
-    public void enterCreateuserstmt(PostgreSQLParser.CreateuserstmtContext ctx) {
-        enterStatement("CREATE_USER", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitCreateuserstmt(PostgreSQLParser.CreateuserstmtContext ctx) {
-        exitStatement("CREATE_USER", ctx.getStop().getLine());
-    }
-
-    // CREATE ROLE
-    @Override
-    public void enterCreaterolestmt(PostgreSQLParser.CreaterolestmtContext ctx) {
-        enterStatement("CREATE_ROLE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitCreaterolestmt(PostgreSQLParser.CreaterolestmtContext ctx) {
-        exitStatement("CREATE_ROLE", ctx.getStop().getLine());
-    }
-
-    // CREATE GROUP
-    @Override
-    public void enterCreategroupstmt(PostgreSQLParser.CreategroupstmtContext ctx) {
-        enterStatement("CREATE_GROUP", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitCreategroupstmt(PostgreSQLParser.CreategroupstmtContext ctx) {
-        exitStatement("CREATE_GROUP", ctx.getStop().getLine());
-    }
-
-    // CREATE VIEW
-    @Override
-    public void enterViewstmt(PostgreSQLParser.ViewstmtContext ctx) {
-        enterStatement("CREATE_VIEW", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitViewstmt(PostgreSQLParser.ViewstmtContext ctx) {
-        exitStatement("CREATE_VIEW", ctx.getStop().getLine());
-    }
-
-    // TRUNCATE
-    @Override
-    public void enterTruncatestmt(PostgreSQLParser.TruncatestmtContext ctx) {
-        enterStatement("TRUNCATE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitTruncatestmt(PostgreSQLParser.TruncatestmtContext ctx) {
-        exitStatement("TRUNCATE", ctx.getStop().getLine());
-    }
-
-    // COPY
-    @Override
-    public void enterCopystmt(PostgreSQLParser.CopystmtContext ctx) {
-        enterStatement("COPY", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitCopystmt(PostgreSQLParser.CopystmtContext ctx) {
-        exitStatement("COPY", ctx.getStop().getLine());
-    }
-
-    // DEFINE (CREATE AGGREGATE, CREATE TYPE, CREATE OPERATOR 등)
-    @Override
-    public void enterDefinestmt(PostgreSQLParser.DefinestmtContext ctx) {
-        String defineType = "DEFINE";
-        String secondToken = ctx.getChild(1).getText().toUpperCase();
-        
-        if (secondToken.equals("AGGREGATE")) {
-            defineType = "CREATE_AGGREGATE";
-        } else if (secondToken.equals("OPERATOR")) {
-            defineType = "CREATE_OPERATOR";
-        } else if (secondToken.equals("TYPE")) {
-            defineType = "CREATE_TYPE";
-        }
-        
-        enterStatement(defineType, ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitDefinestmt(PostgreSQLParser.DefinestmtContext ctx) {
+    /**
+     * DEFINE 문 타입 (CREATE AGGREGATE, CREATE TYPE, CREATE OPERATOR 등, 두 번째 토큰으로 판정)
+     */
+    private static String defineType(PostgreSQLParser.DefinestmtContext ctx) {
         String defineType = "DEFINE";
         String secondToken = ctx.getChild(1).getText().toUpperCase();
         
@@ -556,168 +343,13 @@ public class CustomPostgreSQLListener extends PostgreSQLParserBaseListener {
         } else if (secondToken.equals("TYPE")) {
             defineType = "CREATE_TYPE";
         }
-        
-        exitStatement(defineType, ctx.getStop().getLine());
-    }
-
-    // RENAME (ALTER ... RENAME TO)
-    @Override
-    public void enterRenamestmt(PostgreSQLParser.RenamestmtContext ctx) {
-        enterStatement("RENAME", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitRenamestmt(PostgreSQLParser.RenamestmtContext ctx) {
-        exitStatement("RENAME", ctx.getStop().getLine());
-    }
-
-    // ALTER OWNER (ALTER ... OWNER TO)
-    @Override
-    public void enterAlterownerstmt(PostgreSQLParser.AlterownerstmtContext ctx) {
-        enterStatement("ALTER_OWNER", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitAlterownerstmt(PostgreSQLParser.AlterownerstmtContext ctx) {
-        exitStatement("ALTER_OWNER", ctx.getStop().getLine());
-    }
-
-    // ALTER SCHEMA (ALTER ... SET SCHEMA)
-    @Override
-    public void enterAlterobjectschemastmt(PostgreSQLParser.AlterobjectschemastmtContext ctx) {
-        enterStatement("ALTER_SCHEMA", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitAlterobjectschemastmt(PostgreSQLParser.AlterobjectschemastmtContext ctx) {
-        exitStatement("ALTER_SCHEMA", ctx.getStop().getLine());
-    }
-
-    // ========== DML (Data Manipulation Language) ==========
-
-    // SELECT
-    @Override
-    public void enterSelectstmt(PostgreSQLParser.SelectstmtContext ctx) {
-        if (insideInsert || insideExplain) {
-            return;
-        }
-        enterStatement("SELECT", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitSelectstmt(PostgreSQLParser.SelectstmtContext ctx) {
-        if (insideInsert || insideExplain) {
-            return;
-        }
-        exitStatement("SELECT", ctx.getStop().getLine());
-    }
-
-    // INSERT
-    @Override
-    public void enterInsertstmt(PostgreSQLParser.InsertstmtContext ctx) {
-        insideInsert = true;
-        enterStatement("INSERT", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitInsertstmt(PostgreSQLParser.InsertstmtContext ctx) {
-        exitStatement("INSERT", ctx.getStop().getLine());
-        insideInsert = false;
-    }
-
-    // UPDATE
-    @Override
-    public void enterUpdatestmt(PostgreSQLParser.UpdatestmtContext ctx) {
-        enterStatement("UPDATE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitUpdatestmt(PostgreSQLParser.UpdatestmtContext ctx) {
-        exitStatement("UPDATE", ctx.getStop().getLine());
-    }
-
-    // DELETE
-    @Override
-    public void enterDeletestmt(PostgreSQLParser.DeletestmtContext ctx) {
-        enterStatement("DELETE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitDeletestmt(PostgreSQLParser.DeletestmtContext ctx) {
-        exitStatement("DELETE", ctx.getStop().getLine());
-    }
-
-    // MERGE
-    @Override
-    public void enterMergestmt(PostgreSQLParser.MergestmtContext ctx) {
-        enterStatement("MERGE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitMergestmt(PostgreSQLParser.MergestmtContext ctx) {
-        exitStatement("MERGE", ctx.getStop().getLine());
-    }
-
-    @Override
-    public void enterMerge_insert_clause(PostgreSQLParser.Merge_insert_clauseContext ctx) {
-        enterStatement("MERGE_INSERT", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitMerge_insert_clause(PostgreSQLParser.Merge_insert_clauseContext ctx) {
-        exitStatement("MERGE_INSERT", ctx.getStop().getLine());
-    }
-
-    @Override
-    public void enterMerge_update_clause(PostgreSQLParser.Merge_update_clauseContext ctx) {
-        enterStatement("MERGE_UPDATE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitMerge_update_clause(PostgreSQLParser.Merge_update_clauseContext ctx) {
-        exitStatement("MERGE_UPDATE", ctx.getStop().getLine());
-    }
-
-    @Override
-    public void enterMerge_delete_clause(PostgreSQLParser.Merge_delete_clauseContext ctx) {
-        enterStatement("MERGE_DELETE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitMerge_delete_clause(PostgreSQLParser.Merge_delete_clauseContext ctx) {
-        exitStatement("MERGE_DELETE", ctx.getStop().getLine());
-    }
-
-    // ========== DCL (Data Control Language) ==========
-
-    // GRANT
-    @Override
-    public void enterGrantstmt(PostgreSQLParser.GrantstmtContext ctx) {
-        enterStatement("GRANT", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitGrantstmt(PostgreSQLParser.GrantstmtContext ctx) {
-        exitStatement("GRANT", ctx.getStop().getLine());
-    }
-
-    // REVOKE
-    @Override
-    public void enterRevokestmt(PostgreSQLParser.RevokestmtContext ctx) {
-        enterStatement("REVOKE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitRevokestmt(PostgreSQLParser.RevokestmtContext ctx) {
-        exitStatement("REVOKE", ctx.getStop().getLine());
+        return defineType;
     }
 
-    // ========== TCL (Transaction Control Language) ==========
-
-    // TRANSACTION (BEGIN/COMMIT/ROLLBACK/SAVEPOINT 등)
-    @Override
-    public void enterTransactionstmt(PostgreSQLParser.TransactionstmtContext ctx) {
-        // 트랜잭션 타입 구분
+    /**
+     * 트랜잭션 문 타입 (BEGIN/COMMIT/ROLLBACK/SAVEPOINT 등, 첫 토큰으로 판정)
+     */
+    private static String transactionType(PostgreSQLParser.TransactionstmtContext ctx) {
         String transactionType = "TRANSACTION";
         String firstToken = ctx.getStart().getText().toUpperCase();
         
@@ -734,155 +366,35 @@ public class CustomPostgreSQLListener extends PostgreSQLParserBaseListener {
         } else if (firstToken.equals("PREPARE")) {
             transactionType = "PREPARE_TRANSACTION";
         }
-        
-        enterStatement(transactionType, ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitTransactionstmt(PostgreSQLParser.TransactionstmtContext ctx) {
-        String firstToken = ctx.getStart().getText().toUpperCase();
-        String transactionType = "TRANSACTION";
-        
-        if (firstToken.equals("BEGIN") || firstToken.equals("START")) {
-            transactionType = "BEGIN";
-        } else if (firstToken.equals("COMMIT") || firstToken.equals("END")) {
-            transactionType = "COMMIT";
-        } else if (firstToken.equals("ROLLBACK") || firstToken.equals("ABORT")) {
-            transactionType = "ROLLBACK";
-        } else if (firstToken.equals("SAVEPOINT")) {
-            transactionType = "SAVEPOINT";
-        } else if (firstToken.equals("RELEASE")) {
-            transactionType = "RELEASE";
-        } else if (firstToken.equals("PREPARE")) {
-            transactionType = "PREPARE_TRANSACTION";
-        }
-        
-        exitStatement(transactionType, ctx.getStop().getLine());
-    }
-
-    // ========== 기타 유틸리티 명령어 ==========
-
-    // ANALYZE
-    @Override
-    public void enterAnalyzestmt(PostgreSQLParser.AnalyzestmtContext ctx) {
-        enterStatement("ANALYZE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitAnalyzestmt(PostgreSQLParser.AnalyzestmtContext ctx) {
-        exitStatement("ANALYZE", ctx.getStop().getLine());
-    }
-
-    // VACUUM
-    @Override
-    public void enterVacuumstmt(PostgreSQLParser.VacuumstmtContext ctx) {
-        enterStatement("VACUUM", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitVacuumstmt(PostgreSQLParser.VacuumstmtContext ctx) {
-        exitStatement("VACUUM", ctx.getStop().getLine());
-    }
-
-    // EXPLAIN
-    @Override
-    public void enterExplainstmt(PostgreSQLParser.ExplainstmtContext ctx) {
-        insideExplain = true;
-        enterStatement("EXPLAIN", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitExplainstmt(PostgreSQLParser.ExplainstmtContext ctx) {
-        exitStatement("EXPLAIN", ctx.getStop().getLine());
-        insideExplain = false; 
-    }
-
-    // PREPARE
-    @Override
-    public void enterPreparestmt(PostgreSQLParser.PreparestmtContext ctx) {
-        enterStatement("PREPARE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitPreparestmt(PostgreSQLParser.PreparestmtContext ctx) {
-        exitStatement("PREPARE", ctx.getStop().getLine());
-    }
-
-    // EXECUTE
-    @Override
-    public void enterExecutestmt(PostgreSQLParser.ExecutestmtContext ctx) {
-        enterStatement("EXECUTE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitExecutestmt(PostgreSQLParser.ExecutestmtContext ctx) {
-        exitStatement("EXECUTE", ctx.getStop().getLine());
-    }
-
-    // LOCK
-    @Override
-    public void enterLockstmt(PostgreSQLParser.LockstmtContext ctx) {
-        enterStatement("LOCK", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitLockstmt(PostgreSQLParser.LockstmtContext ctx) {
-        exitStatement("LOCK", ctx.getStop().getLine());
-    }
-
-    // REINDEX
-    @Override
-    public void enterReindexstmt(PostgreSQLParser.ReindexstmtContext ctx) {
-        enterStatement("REINDEX", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitReindexstmt(PostgreSQLParser.ReindexstmtContext ctx) {
-        exitStatement("REINDEX", ctx.getStop().getLine());
-    }
-
-    // CLUSTER
-    @Override
-    public void enterClusterstmt(PostgreSQLParser.ClusterstmtContext ctx) {
-        enterStatement("CLUSTER", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitClusterstmt(PostgreSQLParser.ClusterstmtContext ctx) {
-        exitStatement("CLUSTER", ctx.getStop().getLine());
-    }
-
-    // COMMENT
-    @Override
-    public void enterCommentstmt(PostgreSQLParser.CommentstmtContext ctx) {
-        enterStatement("COMMENT", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitCommentstmt(PostgreSQLParser.CommentstmtContext ctx) {
-        exitStatement("COMMENT", ctx.getStop().getLine());
-    }
-
-    @Override
-    public void enterCase_expr(PostgreSQLParser.Case_exprContext ctx) {
-        // SQL의 CASE 표현식은 노드로 만들지 않음 (DML 문의 일부로 처리)
-        // enterStatement("CASE", ctx.getStart().getLine());
-    }
-
-    @Override
-    public void exitCase_expr(PostgreSQLParser.Case_exprContext ctx) {
-        // SQL의 CASE 표현식은 노드로 만들지 않음
-        // exitStatement("CASE", ctx.getStop().getLine());
+        return transactionType;
     }
 
     // 트리 구조 출력
-    public void printTree(Node node, String indent) {
-        for (Node child : node.children) {
+    public void printTree(int node, String indent) {
+        for (int child = tree.firstChild(node); child != NodeTree.NONE; child = tree.nextSibling(child)) {
             printTree(child, indent + "  ");
         }
     }
 
     public void printStructure() {
-        printTree(root, "");
+        printTree(NodeTree.ROOT, "");
+    }
+
+    /**
+     * 순회 후 파싱할 PL/pgSQL 본문
+     * - 본문 결과 노드는 parent의 after 자식(기록 당시 마지막 자식) 바로 뒤에 삽입해야 즉시 파싱과 같은 트리가 됨
+     */
+    public static final class PlpgsqlBody {
+        public final int parent;
+        public final int after;
+        public final String code;
+        public final int baseLineNumber;
+
+        private PlpgsqlBody(int parent, int after, String code, int baseLineNumber) {
+            this.parent = parent;
+            this.after = after;
+            this.code = code;
+            this.baseLineNumber = baseLineNumber;
+        }
     }
-}
\ No newline at end of file
+}
@@ -33,6 +33,13 @@ public abstract class PostgreSQLLexerBase extends Lexer {
 
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        // 풀에서 재사용될 때 이전 입력의 달러 인용 태그가 남지 않도록 초기화
+        tags.clear();
+    }
+
     public void PushTag() {
         tags.push(getText());
     }
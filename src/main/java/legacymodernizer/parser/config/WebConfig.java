@@ -5,6 +5,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ResponseStatusException;
 import java.util.Map;
@@ -22,6 +23,9 @@ public class WebConfig implements WebMvcConfigurer {
     }
 }
 
+/**
+ * 예외 응답은 항상 JSON으로 작성 (Accept가 application/x-ndjson, text/event-stream인 스트리밍 요청의 검증 오류 포함)
+ */
 @ControllerAdvice
 class GlobalExceptionHandler {
 
@@ -30,12 +34,13 @@ class GlobalExceptionHandler {
         HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
         if (status == null) status = HttpStatus.INTERNAL_SERVER_ERROR;
         String detail = ex.getReason() != null ? ex.getReason() : ex.getMessage();
-        return ResponseEntity.status(status).body(Map.of("detail", detail != null ? detail : ""));
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(Map.of("detail", detail != null ? detail : ""));
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGenericException(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(Map.of("detail", "Unexpected error: " + (ex.getMessage() != null ? ex.getMessage() : "")));
     }
 }
\ No newline at end of file
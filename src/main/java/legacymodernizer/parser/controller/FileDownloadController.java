@@ -0,0 +1,95 @@
+package legacymodernizer.parser.controller;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import legacymodernizer.parser.service.PlSqlFileParserService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원본 소스/분석 결과 다운로드
+ * - includeContent=false 응답(fileSize, contentHash)을 받은 클라이언트가 필요한 파일만 조회
+ * - 디스크 파일을 그대로 전송 (ETag/If-None-Match, Range 지원)
+ */
+@RestController
+@RequiredArgsConstructor
+public class FileDownloadController {
+
+    private static final MediaType SOURCE_TYPE = MediaType.TEXT_PLAIN;
+
+    private final PlSqlFileParserService plSqlFileParserService;
+
+    /**
+     * 원본 소스 파일 조회 (원본 바이트 그대로, 인코딩 변환 없음)
+     *
+     * @param projectName 프로젝트명
+     * @param fileName    파일명
+     * @param request     HTTP 요청 (Session-UUID, If-None-Match, Range 헤더 사용)
+     * @param response    HTTP 응답
+     */
+    @GetMapping("/projects/{projectName}/sources/{fileName}")
+    public void downloadSource(@PathVariable String projectName, @PathVariable String fileName,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String sessionUUID = requireSession(request);
+        requireSafeName("projectName", projectName);
+        requireSafeName("fileName", fileName);
+
+        File file = plSqlFileParserService.findSourceFile(sessionUUID, projectName, fileName);
+        if (file == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "파일을 찾을 수 없습니다: " + fileName);
+        }
+        FileDownload.send(file, SOURCE_TYPE, request, response);
+    }
+
+    /**
+     * 분석 결과 JSON 조회
+     *
+     * @param projectName 프로젝트명
+     * @param systemName  시스템명
+     * @param fileName    원본 소스 파일명
+     * @param request     HTTP 요청 (Session-UUID, If-None-Match, Range 헤더 사용)
+     * @param response    HTTP 응답
+     */
+    @GetMapping("/projects/{projectName}/analysis/{systemName}/{fileName}")
+    public void downloadAnalysis(@PathVariable String projectName, @PathVariable String systemName,
+            @PathVariable String fileName, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String sessionUUID = requireSession(request);
+        requireSafeName("projectName", projectName);
+        requireSafeName("systemName", systemName);
+        requireSafeName("fileName", fileName);
+
+        File file = plSqlFileParserService.findAnalysisJsonFile(sessionUUID, projectName, systemName, fileName);
+        if (file == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "분석 결과가 없습니다: " + systemName + "/" + fileName);
+        }
+        FileDownload.send(file, MediaType.APPLICATION_JSON, request, response);
+    }
+
+    private String requireSession(HttpServletRequest request) {
+        String sessionUUID = request.getHeader("Session-UUID");
+        if (sessionUUID == null || sessionUUID.trim().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "세션 정보가 없습니다");
+        }
+        requireSafeName("Session-UUID", sessionUUID);
+        return sessionUUID;
+    }
+
+    /**
+     * 경로 구성 요소 검증 (세션 디렉터리 밖 접근 차단)
+     */
+    private static void requireSafeName(String label, String value) {
+        if (value == null || value.isBlank() || value.contains("/") || value.contains("\\")
+                || value.equals(".") || value.equals("..")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, label + " 값이 올바르지 않습니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package legacymodernizer.parser.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import legacymodernizer.parser.service.parsing.ParsingProgress;
+
+/**
+ * 파일별 결과 스트리밍 응답 작성기 (NDJSON / SSE)
+ * - 파일 하나가 처리될 때마다 레코드 하나를 즉시 기록하고 flush (전체 결과를 메모리에 모으지 않음)
+ * - 레코드: {type:"file", ...successFiles 항목}, {type:"failed", system, fileName, error},
+ *   마지막에 {type:"summary", ...} 또는 처리 중 예외 시 {type:"error", detail}
+ * - SSE는 type을 event 이름으로 사용 (event: file / data: {...})
+ * - 여러 파싱 스레드에서 동시에 호출되므로 기록은 인스턴스 모니터로 직렬화
+ * - 클라이언트 연결이 끊기면 이후 기록은 무시하고, 파싱 진행 콜백은 취소로 보고해 남은 파일을 건너뜀
+ */
+final class FileResultStream {
+
+    /**
+     * 스트리밍 형식
+     */
+    enum Format {
+        NDJSON(MediaType.APPLICATION_NDJSON),
+        SSE(MediaType.TEXT_EVENT_STREAM);
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        MediaType getMediaType() {
+            return mediaType;
+        }
+
+        /**
+         * Accept 헤더로 스트리밍 형식 결정
+         * - 스트리밍 엔드포인트는 produces 조건으로 이미 선택되었으므로 SSE가 아니면 NDJSON
+         * @param accept Accept 헤더 (null 허용)
+         * @return 스트리밍 형식
+         */
+        static Format resolve(String accept) {
+            String lower = accept != null ? accept.toLowerCase() : "";
+            if (lower.contains(MediaType.TEXT_EVENT_STREAM_VALUE)
+                    && !lower.contains(MediaType.APPLICATION_NDJSON_VALUE)) {
+                return SSE;
+            }
+            return NDJSON;
+        }
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Format format;
+    private final OutputStream out;
+    private boolean disconnected;
+    private int succeeded;
+    private int failed;
+
+    FileResultStream(Format format, OutputStream out) {
+        this.format = format;
+        this.out = out;
+    }
+
+    /**
+     * 성공 파일 레코드 기록
+     * @param fileInfo successFiles 항목
+     */
+    synchronized void file(Map<String, String> fileInfo) {
+        succeeded++;
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("type", "file");
+        record.putAll(fileInfo);
+        emit(record);
+    }
+
+    /**
+     * 실패 파일 레코드 기록
+     */
+    synchronized void failed(String system, String fileName, String error) {
+        failed++;
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("type", "failed");
+        record.put("system", system);
+        record.put("fileName", fileName);
+        record.put("error", error != null ? error : "");
+        emit(record);
+    }
+
+    /**
+     * 종료 요약 레코드 기록
+     * @param fields 요약 항목 (dbms, analysisFormat 등)
+     */
+    synchronized void summary(Map<String, Object> fields) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("type", "summary");
+        record.putAll(fields);
+        record.put("succeeded", succeeded);
+        record.put("failed", failed);
+        emit(record);
+    }
+
+    /**
+     * 처리 중단 레코드 기록 (GlobalExceptionHandler와 같은 detail 필드)
+     */
+    synchronized void error(String detail) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("type", "error");
+        record.put("detail", detail != null ? detail : "");
+        emit(record);
+    }
+
+    synchronized boolean isDisconnected() {
+        return disconnected;
+    }
+
+    /**
+     * 파싱 진행 콜백 어댑터 (결과는 보관하지 않고 즉시 기록)
+     * @return 진행 콜백
+     */
+    ParsingProgress asParsingProgress() {
+        return new ParsingProgress() {
+            private volatile List<String[]> targets = List.of();
+
+            @Override
+            public void onSubmitted(List<String[]> submitted) {
+                targets = submitted;
+            }
+
+            @Override
+            public void onFileCompleted(int index, Map<String, String> fileInfo) {
+                file(fileInfo);
+            }
+
+            @Override
+            public void onFileFailed(int index, String error) {
+                String[] target = targets.get(index);
+                failed(target[0], target[1], error);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return isDisconnected();
+            }
+
+            @Override
+            public boolean retainsResults() {
+                return false;
+            }
+        };
+    }
+
+    private void emit(Map<String, Object> record) {
+        if (disconnected) {
+            return;
+        }
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(record);
+            if (format == Format.SSE) {
+                out.write(("event: " + record.get("type") + "\ndata: ").getBytes(StandardCharsets.UTF_8));
+                out.write(json);
+                out.write("\n\n".getBytes(StandardCharsets.UTF_8));
+            } else {
+                out.write(json);
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            disconnected = true;
+        }
+    }
+}
@@ -3,20 +3,29 @@ package legacymodernizer.parser.controller;
 import java.util.Map;
 import java.util.List;
 import java.util.HashMap;
+import java.util.function.Function;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.http.MediaType;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.server.ResponseStatusException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
+import legacymodernizer.parser.service.parsing.AnalysisFormat;
 import legacymodernizer.parser.service.parsing.DbmsParserStrategy;
 import legacymodernizer.parser.service.parsing.ParserStrategyFactory;
+import legacymodernizer.parser.service.parsing.ParsingJob;
+import legacymodernizer.parser.service.parsing.ParsingJobManager;
+import legacymodernizer.parser.service.parsing.ParsingProgress;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,6 +35,7 @@ import lombok.extern.slf4j.Slf4j;
 public class FileUploadController {
 
     private final ParserStrategyFactory parserStrategyFactory;
+    private final ParsingJobManager parsingJobManager;
 
     // ========================================
     // API 엔드포인트
@@ -36,8 +46,10 @@ public class FileUploadController {
      * - testmode=true: 기존 파일만 조회
      * - testmode=false: 업로드 파일 저장
      * 
+     * - includeContent=false: fileContent 대신 fileSize, contentHash만 반환
+     * 
      * @param metadata    JSON 메타데이터 {dbms, projectName, systems, ddl, sequence,
-     *                    testmode}
+     *                    testmode, includeContent}
      * @param files       업로드 파일 배열
      * @param httpRequest HTTP 요청 (Session-UUID 헤더 사용)
      * @return {dbms, successFiles}
@@ -46,6 +58,155 @@ public class FileUploadController {
     public ResponseEntity<Map<String, Object>> fileUpload(@RequestPart("metadata") String metadata,
             @RequestPart("files") MultipartFile[] files,
             HttpServletRequest httpRequest) {
+        UploadRequest upload = readUploadRequest(metadata, files, httpRequest);
+        Map<String, Object> result = upload.strategy.processUploadByMetadata(upload.sessionUUID,
+                upload.projectName, upload.systemsObj, upload.ddlObj, upload.seqObj, upload.nameToFile,
+                upload.includeContent, null);
+        @SuppressWarnings("unchecked")
+        List<Map<String, String>> successFiles = (List<Map<String, String>>) result.get("successFiles");
+
+        log.info("\n  업로드 완료 - 총 {}개 파일", successFiles.size());
+        log.info("================================================================================\n");
+        return ResponseEntity.ok(Map.of("dbms", upload.dbms, "successFiles", successFiles));
+    }
+
+    /**
+     * 파일 업로드 (스트리밍 응답)
+     * - Accept: application/x-ndjson 또는 text/event-stream 요청 시 선택
+     * - 파일 하나가 저장/조회될 때마다 file 레코드 전송, 마지막에 summary 레코드
+     *
+     * @param metadata    JSON 메타데이터 (fileUpload와 동일)
+     * @param files       업로드 파일 배열
+     * @param httpRequest HTTP 요청 (Session-UUID, Accept 헤더 사용)
+     * @return 파일별 레코드 스트림
+     */
+    @PostMapping(value = "/fileUpload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE })
+    public ResponseEntity<StreamingResponseBody> fileUploadStream(@RequestPart("metadata") String metadata,
+            @RequestPart("files") MultipartFile[] files,
+            HttpServletRequest httpRequest) {
+        UploadRequest upload = readUploadRequest(metadata, files, httpRequest);
+        return stream(httpRequest, stream -> {
+            upload.strategy.processUploadByMetadata(upload.sessionUUID, upload.projectName,
+                    upload.systemsObj, upload.ddlObj, upload.seqObj, upload.nameToFile, upload.includeContent,
+                    stream::file);
+            log.info("\n  업로드 완료 (스트리밍)");
+            return Map.of("dbms", upload.dbms);
+        });
+    }
+
+    /**
+     * 파일 파싱 (ANTLR 분석)
+     * 
+     * - 분석 저장 형식: analysisFormat(json|binary|both) 플래그 우선,
+     *   없으면 Accept: application/x-ast 헤더 시 binary(.ast), 기본 json
+     * 
+     * - async=true: 파싱 작업을 등록하고 202 + {jobId, statusUrl} 즉시 반환
+     * 
+     * - includeContent=false: fileContent 대신 fileSize, contentHash만 반환
+     *   (본문은 GET /projects/{projectName}/sources/{fileName}로 필요한 파일만 조회)
+     *
+     * @param request     {dbms, projectName, systems:[{name, sp:[]}], analysisFormat, async, includeContent}
+     * @param httpRequest HTTP 요청 (Session-UUID, Accept 헤더 사용)
+     * @return {dbms, analysisFormat, successFiles, failedFiles} 또는 {jobId, statusUrl}
+     */
+    @PostMapping("/parsing")
+    public ResponseEntity<Map<String, Object>> analysisContext(@RequestBody Map<String, Object> request,
+            HttpServletRequest httpRequest) {
+        ParsingRequest parsing = readParsingRequest(request, httpRequest);
+        String sessionUUID = parsing.sessionUUID;
+        String projectName = parsing.projectName;
+        List<?> systems = parsing.systems;
+        AnalysisFormat format = parsing.format;
+        boolean includeContent = parsing.includeContent;
+        DbmsParserStrategy strategy = parsing.strategy;
+
+        // 비동기 모드: 작업 ID만 즉시 반환하고 진행 상황은 /parsing/jobs/{jobId}로 조회
+        if (Boolean.TRUE.equals(request.get("async"))) {
+            ParsingJob job = parsingJobManager.submit(sessionUUID, parsing.dbms, format,
+                    progress -> strategy.processParsingBySystems(sessionUUID, projectName, systems, format,
+                            includeContent, progress));
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("jobId", job.getJobId(),
+                    "statusUrl", "/parsing/jobs/" + job.getJobId()));
+        }
+
+        Map<String, Object> result = strategy.processParsingBySystems(sessionUUID, projectName, systems, format,
+                includeContent, ParsingProgress.NONE);
+        @SuppressWarnings("unchecked")
+        List<Map<String, String>> successFiles = (List<Map<String, String>>) result.get("successFiles");
+        @SuppressWarnings("unchecked")
+        List<Map<String, String>> failedFiles = (List<Map<String, String>>) result.getOrDefault("failedFiles", List.of());
+        return ResponseEntity.ok(Map.of("dbms", parsing.dbms, "analysisFormat", format.name().toLowerCase(),
+                "successFiles", successFiles, "failedFiles", failedFiles));
+    }
+
+    /**
+     * 파일 파싱 (스트리밍 응답)
+     * - Accept: application/x-ndjson 또는 text/event-stream 요청 시 선택
+     * - 파일 분석이 끝나는 순서대로 file/failed 레코드 전송, 마지막에 summary 레코드
+     * - successFiles를 모으지 않으므로 프로젝트 크기와 무관하게 서버 메모리 사용량 일정
+     * - 클라이언트 연결이 끊기면 아직 시작하지 않은 파일은 파싱하지 않음
+     *
+     * @param request     {dbms, projectName, systems:[{name, sp:[]}], analysisFormat, includeContent}
+     * @param httpRequest HTTP 요청 (Session-UUID, Accept 헤더 사용)
+     * @return 파일별 레코드 스트림
+     */
+    @PostMapping(value = "/parsing",
+            produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE })
+    public ResponseEntity<StreamingResponseBody> analysisContextStream(@RequestBody Map<String, Object> request,
+            HttpServletRequest httpRequest) {
+        ParsingRequest parsing = readParsingRequest(request, httpRequest);
+        if (Boolean.TRUE.equals(request.get("async"))) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "async 모드는 스트리밍 응답과 함께 사용할 수 없습니다");
+        }
+        return stream(httpRequest, stream -> {
+            parsing.strategy.processParsingBySystems(parsing.sessionUUID, parsing.projectName, parsing.systems,
+                    parsing.format, parsing.includeContent, stream.asParsingProgress());
+            return Map.of("dbms", parsing.dbms, "analysisFormat", parsing.format.name().toLowerCase());
+        });
+    }
+
+    /**
+     * 비동기 파싱 작업 상태 조회
+     *
+     * @param jobId       작업 ID
+     * @param httpRequest HTTP 요청 (Session-UUID 헤더 사용, 작업을 등록한 세션만 조회 가능)
+     * @return {jobId, state, total, done, failed, cancelled, elapsedMillis, etaMillis, files, ...}
+     */
+    @GetMapping("/parsing/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> parsingJobStatus(@PathVariable String jobId,
+            HttpServletRequest httpRequest) {
+        return ResponseEntity.ok(findJob(jobId, httpRequest).toMap());
+    }
+
+    /**
+     * 비동기 파싱 작업 취소
+     * - 아직 시작하지 않은 파일은 파싱하지 않고, 이미 파싱 중인 파일은 끝까지 진행
+     *
+     * @param jobId       작업 ID
+     * @param httpRequest HTTP 요청 (Session-UUID 헤더 사용)
+     * @return 취소 요청 후 작업 상태 (이미 종료된 작업이면 409)
+     */
+    @DeleteMapping("/parsing/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> cancelParsingJob(@PathVariable String jobId,
+            HttpServletRequest httpRequest) {
+        ParsingJob job = findJob(jobId, httpRequest);
+        if (!job.cancel()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 종료된 작업입니다");
+        }
+        log.info("[parsing] 작업 취소 요청: {}", jobId);
+        return ResponseEntity.accepted().body(job.toMap());
+    }
+
+    // ========================================
+    // 요청 검증
+    // ========================================
+
+    /**
+     * 업로드 요청 검증 및 해석
+     * @return 검증된 업로드 요청
+     */
+    private UploadRequest readUploadRequest(String metadata, MultipartFile[] files, HttpServletRequest httpRequest) {
         String sessionUUID = httpRequest.getHeader("Session-UUID");
         log.debug("세션 UUID: {}", sessionUUID);
         if (sessionUUID == null || sessionUUID.trim().isEmpty()) {
@@ -64,8 +225,6 @@ public class FileUploadController {
         String dbms = (String) request.getOrDefault("dbms", "");
         String projectName = (String) request.getOrDefault("projectName", "");
         Object systemsObj = request.get("systems");
-        Object ddlObj = request.get("ddl");
-        Object seqObj = request.get("sequence");
         boolean testMode = Boolean.TRUE.equals(request.get("testmode")) || Boolean.TRUE.equals(request.get("testMode"));
 
         int filesCount = files != null ? files.length : 0;
@@ -100,27 +259,15 @@ public class FileUploadController {
 
         // DBMS 타입에 따른 구현체 선택
         DbmsParserStrategy strategy = parserStrategyFactory.getStrategy(dbms);
-
-        Map<String, Object> result = strategy.processUploadByMetadata(
-                sessionUUID, projectName, systemsObj, ddlObj, seqObj, nameToFile);
-        @SuppressWarnings("unchecked")
-        List<Map<String, String>> successFiles = (List<Map<String, String>>) result.get("successFiles");
-
-        log.info("\n  업로드 완료 - 총 {}개 파일", successFiles.size());
-        log.info("================================================================================\n");
-        return ResponseEntity.ok(Map.of("dbms", dbms, "successFiles", successFiles));
+        return new UploadRequest(sessionUUID, dbms, projectName, systemsObj, request.get("ddl"),
+                request.get("sequence"), nameToFile, !Boolean.FALSE.equals(request.get("includeContent")), strategy);
     }
 
     /**
-     * 파일 파싱 (ANTLR 분석)
-     * 
-     * @param request     {dbms, projectName, systems:[{name, sp:[]}]}
-     * @param httpRequest HTTP 요청 (Session-UUID 헤더 사용)
-     * @return {dbms, successFiles}
+     * 파싱 요청 검증 및 해석
+     * @return 검증된 파싱 요청
      */
-    @PostMapping("/parsing")
-    public ResponseEntity<Map<String, Object>> analysisContext(@RequestBody Map<String, Object> request,
-            HttpServletRequest httpRequest) {
+    private ParsingRequest readParsingRequest(Map<String, Object> request, HttpServletRequest httpRequest) {
         String sessionUUID = httpRequest.getHeader("Session-UUID");
         if (sessionUUID == null || sessionUUID.trim().isEmpty()) {
             log.warn("[parsing] 세션 UUID가 없습니다");
@@ -135,14 +282,111 @@ public class FileUploadController {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "systems 정보가 없습니다");
         }
 
-        List<?> systems = (List<?>) systemsObj;
+        Object formatObj = request.get("analysisFormat");
+        AnalysisFormat format;
+        try {
+            format = AnalysisFormat.resolve(formatObj != null ? formatObj.toString() : null,
+                    httpRequest.getHeader("Accept"));
+        } catch (IllegalArgumentException e) {
+            log.warn("[parsing] {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
 
         // DBMS 타입에 따른 구현체 선택
         DbmsParserStrategy strategy = parserStrategyFactory.getStrategy(dbms);
+        return new ParsingRequest(sessionUUID, dbms, projectName, (List<?>) systemsObj, format,
+                !Boolean.FALSE.equals(request.get("includeContent")), strategy);
+    }
 
-        Map<String, Object> result = strategy.processParsingBySystems(sessionUUID, projectName, systems);
-        @SuppressWarnings("unchecked")
-        List<Map<String, String>> successFiles = (List<Map<String, String>>) result.get("successFiles");
-        return ResponseEntity.ok(Map.of("dbms", dbms, "successFiles", successFiles));
+    /**
+     * 검증된 업로드 요청 (동기/스트리밍 엔드포인트 공용)
+     */
+    private static final class UploadRequest {
+        final String sessionUUID;
+        final String dbms;
+        final String projectName;
+        final Object systemsObj;
+        final Object ddlObj;
+        final Object seqObj;
+        final Map<String, MultipartFile> nameToFile;
+        final boolean includeContent;
+        final DbmsParserStrategy strategy;
+
+        UploadRequest(String sessionUUID, String dbms, String projectName, Object systemsObj, Object ddlObj,
+                Object seqObj, Map<String, MultipartFile> nameToFile, boolean includeContent,
+                DbmsParserStrategy strategy) {
+            this.sessionUUID = sessionUUID;
+            this.dbms = dbms;
+            this.projectName = projectName;
+            this.systemsObj = systemsObj;
+            this.ddlObj = ddlObj;
+            this.seqObj = seqObj;
+            this.nameToFile = nameToFile;
+            this.includeContent = includeContent;
+            this.strategy = strategy;
+        }
+    }
+
+    /**
+     * 검증된 파싱 요청 (동기/비동기/스트리밍 엔드포인트 공용)
+     */
+    private static final class ParsingRequest {
+        final String sessionUUID;
+        final String dbms;
+        final String projectName;
+        final List<?> systems;
+        final AnalysisFormat format;
+        final boolean includeContent;
+        final DbmsParserStrategy strategy;
+
+        ParsingRequest(String sessionUUID, String dbms, String projectName, List<?> systems,
+                AnalysisFormat format, boolean includeContent, DbmsParserStrategy strategy) {
+            this.sessionUUID = sessionUUID;
+            this.dbms = dbms;
+            this.projectName = projectName;
+            this.systems = systems;
+            this.format = format;
+            this.includeContent = includeContent;
+            this.strategy = strategy;
+        }
+    }
+
+    // ========================================
+    // 스트리밍 응답
+    // ========================================
+
+    /**
+     * 파일별 결과 스트리밍 응답 생성
+     * - 작업이 끝나면 summary 레코드, 예외가 발생하면 error 레코드로 종료
+     *
+     * @param httpRequest HTTP 요청 (Accept 헤더로 NDJSON/SSE 결정)
+     * @param task        스트림에 파일별 레코드를 기록하고 summary 항목을 반환하는 작업
+     * @return 스트리밍 응답
+     */
+    private ResponseEntity<StreamingResponseBody> stream(HttpServletRequest httpRequest,
+            Function<FileResultStream, Map<String, Object>> task) {
+        FileResultStream.Format format = FileResultStream.Format.resolve(httpRequest.getHeader("Accept"));
+        StreamingResponseBody body = out -> {
+            FileResultStream stream = new FileResultStream(format, out);
+            try {
+                stream.summary(task.apply(stream));
+            } catch (Exception e) {
+                log.warn("[stream] 처리 중단 - {}", e.getMessage());
+                stream.error(e.getMessage());
+            }
+        };
+        return ResponseEntity.ok().contentType(format.getMediaType()).body(body);
+    }
+
+    private ParsingJob findJob(String jobId, HttpServletRequest httpRequest) {
+        String sessionUUID = httpRequest.getHeader("Session-UUID");
+        if (sessionUUID == null || sessionUUID.trim().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "세션 정보가 없습니다");
+        }
+        ParsingJob job = parsingJobManager.find(jobId, sessionUUID);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "파싱 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return job;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,89 @@
+package legacymodernizer.parser.controller;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import legacymodernizer.parser.antlr.CustomPlSqlListener;
+import legacymodernizer.parser.antlr.dml_postgresql.CustomDmlPostgreSQLListener;
+import legacymodernizer.parser.antlr.postgresql.CustomPostgreSQLListener;
+import legacymodernizer.parser.service.parsing.DfaCacheManager;
+import legacymodernizer.parser.service.parsing.DfaStatistics;
+import legacymodernizer.parser.service.parsing.ParseResultCache;
+import legacymodernizer.parser.service.parsing.ParserPool;
+import legacymodernizer.parser.service.parsing.ParserPoolRegistry;
+import legacymodernizer.parser.service.parsing.TwoStageParser;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+public class ParserCacheController {
+
+    private final ParserPoolRegistry parserPoolRegistry;
+    private final TwoStageParser twoStageParser;
+    private final DfaCacheManager dfaCacheManager;
+    private final ParseResultCache parseResultCache;
+
+    /**
+     * 문법별 공유 DFA 캐시/파서 풀 현황 조회
+     * @return {grammars: [{grammar, dfaStates, estimatedBytes, poolIdle, poolCreated, evictions, ...}], maxBytesPerGrammar, totalDfaStates, totalEstimatedBytes, stageCounts}
+     */
+    @GetMapping("/parser/dfa")
+    public ResponseEntity<Map<String, Object>> dfaStatistics() {
+        List<Map<String, Object>> grammars = new ArrayList<>();
+        long totalStates = 0;
+        long totalBytes = 0;
+        for (ParserPool<?, ?> pool : parserPoolRegistry.all()) {
+            DfaStatistics stats = pool.dfaStatistics();
+            Map<String, Object> entry = stats.toMap();
+            entry.put("poolIdle", pool.getIdleCount());
+            entry.put("poolCreated", pool.getCreatedCount());
+            entry.put("evictions", pool.getEvictionCount());
+            grammars.add(entry);
+            totalStates += stats.getStateCount();
+            totalBytes += stats.getEstimatedBytes();
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("grammars", grammars);
+        response.put("maxBytesPerGrammar", dfaCacheManager.getMaxBytes());
+        response.put("totalDfaStates", totalStates);
+        response.put("totalEstimatedBytes", totalBytes);
+        response.put("stageCounts", twoStageParser.getStageCounts());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 세션 공유 파싱 결과 캐시 현황 조회
+     * @return {enabled, directory, entries, totalBytes, maxBytes, hits, misses, evictions}
+     */
+    @GetMapping("/parser/cache")
+    public ResponseEntity<Map<String, Object>> parseResultCache() {
+        return ResponseEntity.ok(parseResultCache.getStatistics());
+    }
+
+    /**
+     * 분석 리스너 순회의 하위 트리 건너뛰기 통계 조회 (리스너 규칙 표별 누적)
+     * @param limit 규칙별 항목 최대 개수 (건너뛴 토큰 수 내림차순, 0 이상, 음수면 400)
+     * @return {oracle|postgresql|dml_postgresql: {walks, walkedContexts, walkedTokens, skippedSubtrees, skippedTokens, skippedTokenRatio, rules: [{rule, subtrees, tokens}]}}
+     */
+    @GetMapping("/parser/walk")
+    public ResponseEntity<Map<String, Object>> walkStatistics(@RequestParam(defaultValue = "20") int limit) {
+        if (limit < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit은 0 이상이어야 합니다: " + limit);
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("oracle", CustomPlSqlListener.RULES.getSkipStatistics().toMap(limit));
+        response.put("postgresql", CustomPostgreSQLListener.RULES.getSkipStatistics().toMap(limit));
+        response.put("dml_postgresql", CustomDmlPostgreSQLListener.RULES.getSkipStatistics().toMap(limit));
+        return ResponseEntity.ok(response);
+    }
+}
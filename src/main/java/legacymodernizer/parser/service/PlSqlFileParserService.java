@@ -1,13 +1,8 @@
 package legacymodernizer.parser.service;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.Charset;
-import java.nio.charset.MalformedInputException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -16,23 +11,43 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import legacymodernizer.parser.antlr.CaseChangingCharStream;
 import legacymodernizer.parser.antlr.CustomPlSqlListener;
+import legacymodernizer.parser.antlr.NodeJsonWriter;
+import legacymodernizer.parser.antlr.SourceCharStream.Fold;
 import legacymodernizer.parser.antlr.plsql.PlSqlLexer;
 import legacymodernizer.parser.antlr.plsql.PlSqlParser;
+import legacymodernizer.parser.service.parsing.AnalysisFormat;
+import legacymodernizer.parser.service.parsing.AnalysisManifest;
+import legacymodernizer.parser.service.parsing.EncodingManifest;
+import legacymodernizer.parser.service.parsing.ParseMetrics;
+import legacymodernizer.parser.service.parsing.ParseDeadline;
+import legacymodernizer.parser.service.parsing.ParseDeadlinePolicy;
+import legacymodernizer.parser.service.parsing.ParseMetrics.Phase;
+import legacymodernizer.parser.service.parsing.ParseTimeoutException;
+import legacymodernizer.parser.service.parsing.ParseResultCache;
+import legacymodernizer.parser.service.parsing.ParsingExecutor;
+import legacymodernizer.parser.service.parsing.ParsingProgress;
+import legacymodernizer.parser.service.parsing.ProjectFileIndex;
+import legacymodernizer.parser.service.parsing.ProjectFileIndexRegistry;
+import legacymodernizer.parser.service.parsing.SourceText;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class PlSqlFileParserService {
 
     private static final String BASE_DIR = System.getenv("DOCKER_COMPOSE_CONTEXT") != null ?
@@ -44,10 +59,32 @@ public class PlSqlFileParserService {
     private static final String SEQ_DIR = "sequence";
     private static final String ANALYSIS_DIR = "analysis";
 
+    /** 분석 결과 출처: 새로 파싱 / 매니페스트 일치로 재사용 / 동일 원본의 다른 시스템 결과 복사 / 세션 공유 캐시 */
+    private static final String ANALYSIS_PARSED = "parsed";
+    private static final String ANALYSIS_CACHED = "cached";
+    private static final String ANALYSIS_SHARED = "shared";
+    private static final String ANALYSIS_GLOBAL_CACHE = "global-cache";
+    /** 파일 단위 지표 출처: 파싱 제한 시간 초과 */
+    private static final String ANALYSIS_TIMEOUT = "timeout";
+
+    private final ParsingExecutor parsingExecutor;
+    private final ParseResultCache parseResultCache;
+    private final ParseMetrics parseMetrics;
+    private final ProjectFileIndexRegistry fileIndexRegistry;
+    private final ParseDeadlinePolicy parseDeadlinePolicy;
+
     // ========================================
     // 경로 유틸리티
     // ========================================
 
+    /**
+     * 데이터 루트 디렉터리 반환 (DOCKER_COMPOSE_CONTEXT 또는 {실행 경로 상위}/data)
+     * @return BASE_DIR 절대경로
+     */
+    public static String getBaseDirectory() {
+        return BASE_DIR;
+    }
+
     /**
      * 경로를 제거한 파일명 반환
      * @param name 파일 경로 (null 허용)
@@ -162,26 +199,15 @@ public class PlSqlFileParserService {
     // ========================================
 
     /**
-     * 다양한 인코딩으로 파일 읽기 (UTF-8 → EUC-KR → MS949)
+     * 인코딩을 판별하여 파일 읽기 (UTF-8 → EUC-KR → MS949, 한 번 읽고 한 번 디코딩)
      * @param file 파일 객체
      * @return 파일 내용
      */
     public String readFileContent(File file) throws IOException {
-        try {
-            String content = Files.readString(file.toPath(), StandardCharsets.UTF_8);
-            log.debug("[readFile] 인코딩 선택 - UTF-8, file={}", file.getName());
-            return content;
-        } catch (MalformedInputException e) {
-            try {
-                String content = Files.readString(file.toPath(), Charset.forName("EUC-KR"));
-                log.debug("[readFile] 인코딩 선택 - EUC-KR, file={}", file.getName());
-                return content;
-            } catch (Exception e2) {
-                String content = Files.readString(file.toPath(), Charset.forName("MS949"));
-                log.debug("[readFile] 인코딩 선택 - MS949, file={}", file.getName());
-                return content;
-            }
-        }
+        SourceText source = SourceText.read(file, null);
+        String content = source.getText();
+        log.debug("[readFile] 인코딩 선택 - {}, file={}", source.getCharset(), file.getName());
+        return content;
     }
 
     /**
@@ -209,6 +235,7 @@ public class PlSqlFileParserService {
         createDirectoryIfNotExists(targetDir.getAbsolutePath());
         File out = new File(targetDir, baseFileName);
         Files.copy(inputStream, out.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        fileIndexRegistry.peek(projectRoot, PLSQL_DIR, DDL_DIR, SEQ_DIR).add(out);
         return out.getAbsolutePath();
     }
 
@@ -248,49 +275,126 @@ public class PlSqlFileParserService {
         createDirectoryIfNotExists(analysisDir);
 
         log.debug("      [ANTLR 파싱 시작]");
-        try (InputStream in = new FileInputStream(candidate)) {
-            CharStream s = CharStreams.fromStream(in);
-            CaseChangingCharStream upper = new CaseChangingCharStream(s, true);
-            PlSqlLexer lexer = new PlSqlLexer(upper);
-            CommonTokenStream tokens = new CommonTokenStream(lexer);
-            PlSqlParser parser = new PlSqlParser(tokens);
-            ParserRuleContext tree = parser.sql_script();
-            CustomPlSqlListener listener = new CustomPlSqlListener(tokens);
-            new ParseTreeWalker().walk(listener, tree);
-            File analysisFile = new File(outputPath);
-            try (FileWriter file = new FileWriter(analysisFile)) {
-                file.write(listener.getRoot().toJson());
-            }
-            log.debug("      → 분석 결과 저장: {}", analysisFile.getName());
-        }
+        CharStream upper = SourceText.read(candidate, null).toCharStream(Fold.UPPER);
+        PlSqlLexer lexer = new PlSqlLexer(upper);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        PlSqlParser parser = new PlSqlParser(tokens);
+        ParserRuleContext tree = parser.sql_script();
+        CustomPlSqlListener listener = new CustomPlSqlListener(tokens);
+        listener.walk(tree);
+        File analysisFile = new File(outputPath);
+        NodeJsonWriter.writeToFile(listener.getTree(), analysisFile);
+        log.debug("      → 분석 결과 저장: {}", analysisFile.getName());
     }
 
     /**
      * ANTLR 파싱 후 분석 결과를 JSON으로 저장 (전략 패턴 지원)
-     * @param candidate 파싱 대상 파일
+     * @param source 파싱 대상 원본
      * @param displayFileName 표시용 파일명
      * @param sessionUUID 세션 UUID
      * @param projectName 프로젝트명
      * @param systemName 시스템명
-     * @param parsingFunction 파싱 실행 함수 (File, String outputPath를 받아 파싱)
+     * @param parsingFunction 파싱 실행 함수 (SourceText, String outputPath를 받아 파싱)
      */
-    public void parseAndSaveStructureWithStrategy(File candidate,
+    public void parseAndSaveStructureWithStrategy(SourceText source,
                                                   String displayFileName,
                                                   String sessionUUID,
                                                   String projectName,
                                                   String systemName,
                                                   ParsingFunction parsingFunction) throws IOException {
         String analysisDir = getAnalysisDirectory(sessionUUID, projectName, systemName);
-        String baseFileName = toBaseNameWithoutExt(displayFileName != null ? displayFileName : candidate.getName());
+        String baseFileName = toBaseNameWithoutExt(displayFileName != null ? displayFileName : source.getName());
         String outputPath = analysisDir + File.separator + baseFileName + ".json";
 
         createDirectoryIfNotExists(analysisDir);
 
+        // 파일 단위 제한 시각을 파싱 스레드에 연결 (풀 Lexer/Parser가 협조적으로 확인)
+        ParseDeadline deadline = parseDeadlinePolicy.start();
+        ParseDeadline.Scope scope = deadline.bind();
         try {
-            parsingFunction.parse(candidate, outputPath);
+            parsingFunction.parse(source, outputPath);
+        } catch (ParseTimeoutException e) {
+            writePartialAnalysis(e, outputPath);
+            throw e;
         } catch (Exception e) {
             throw new IOException("파싱 실패: " + e.getMessage(), e);
+        } finally {
+            scope.close();
+            deadline.cancel();
+        }
+    }
+
+    /**
+     * 제한 시간 초과 시 부분 분석 트리 저장 ({파일명}.partial.json, 매니페스트 없음 → 다음 요청에서 다시 파싱)
+     * - 스트리밍 출력 중 중단되었으면 이미 닫아 둔 출력 파일을 부분 분석 파일로 이동 (비활성화 시 삭제)
+     * @param timeout 제한 시간 초과 예외 (부분 트리가 없으면 저장하지 않음)
+     * @param outputPath 분석 결과 JSON 경로
+     */
+    private void writePartialAnalysis(ParseTimeoutException timeout, String outputPath) {
+        File partial = new File(toPartialPath(outputPath));
+        if (timeout.getPartialFile() != null) {
+            movePartialFile(timeout, partial);
+            return;
+        }
+        if (!parseDeadlinePolicy.isPartialEnabled() || timeout.getPartialRoot() == null) {
+            return;
+        }
+        try {
+            NodeJsonWriter.writeToFile(timeout.getPartialRoot(), partial);
+            timeout.setPartialAnalysis(partial.getName());
+            log.debug("      → 부분 분석 결과 저장: {}", partial.getName());
+        } catch (IOException e) {
+            log.warn("부분 분석 결과 저장 실패 - {}: {}", partial.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 스트리밍 출력 파일을 부분 분석 파일로 이동 (완성된 분석 결과로 남지 않도록 출력 경로에서는 항상 제거)
+     * @param timeout 제한 시간 초과 예외
+     * @param partial 부분 분석 파일
+     */
+    private void movePartialFile(ParseTimeoutException timeout, File partial) {
+        Path streamed = timeout.getPartialFile().toPath();
+        try {
+            if (!parseDeadlinePolicy.isPartialEnabled()) {
+                Files.deleteIfExists(streamed);
+                return;
+            }
+            Files.move(streamed, partial.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            timeout.setPartialAnalysis(partial.getName());
+            log.debug("      → 부분 분석 결과 저장: {}", partial.getName());
+        } catch (IOException e) {
+            log.warn("부분 분석 결과 저장 실패 - {}: {}", partial.getName(), e.getMessage());
+            try {
+                Files.deleteIfExists(streamed);
+            } catch (IOException ignored) {
+                // 정리 실패는 무시 (매니페스트가 없어 다음 요청에서 다시 파싱)
+            }
+        }
+    }
+
+    /**
+     * JSON 경로 기준 부분 분석 파일 경로 ({파일명}.json → {파일명}.partial.json)
+     * @param jsonPath JSON 출력 경로
+     * @return 부분 분석 파일 경로
+     */
+    private static String toPartialPath(String jsonPath) {
+        String base = jsonPath.endsWith(".json") ? jsonPath.substring(0, jsonPath.length() - ".json".length()) : jsonPath;
+        return base + ".partial.json";
+    }
+
+    /**
+     * 예외 원인 체인에서 제한 시간 초과 예외 검색
+     * @param error 예외
+     * @return 제한 시간 초과 예외 (없으면 null)
+     */
+    private static ParseTimeoutException findTimeout(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof ParseTimeoutException) {
+                return (ParseTimeoutException) t;
+            }
         }
+        return null;
     }
 
     /**
@@ -298,7 +402,7 @@ public class PlSqlFileParserService {
      */
     @FunctionalInterface
     public interface ParsingFunction {
-        void parse(File file, String outputPath) throws Exception;
+        void parse(SourceText source, String outputPath) throws Exception;
     }
 
     /**
@@ -310,11 +414,36 @@ public class PlSqlFileParserService {
      * @return 존재 여부
      */
     public boolean analysisExists(String sessionUUID, String projectName, String systemName, String fileName) throws IOException {
+        String jsonPath = getAnalysisJsonPath(sessionUUID, projectName, systemName, fileName);
+        return new File(jsonPath).exists() || new File(AnalysisFormat.toBinaryPath(jsonPath)).exists();
+    }
+
+    /**
+     * 저장 형식에 필요한 분석 결과 파일이 모두 존재하는지 확인
+     * @param sessionUUID 세션 UUID
+     * @param projectName 프로젝트명
+     * @param systemName 시스템명
+     * @param fileName 파일명
+     * @param format 분석 결과 저장 형식
+     * @return 존재 여부
+     */
+    public boolean analysisExists(String sessionUUID, String projectName, String systemName, String fileName, AnalysisFormat format) throws IOException {
+        return format.exists(getAnalysisJsonPath(sessionUUID, projectName, systemName, fileName));
+    }
+
+    /**
+     * 분석 결과 JSON 파일 경로 반환
+     * @param sessionUUID 세션 UUID
+     * @param projectName 프로젝트명
+     * @param systemName 시스템명
+     * @param fileName 소스 파일명
+     * @return {analysis}/{system}/{확장자 제외 파일명}.json
+     */
+    private String getAnalysisJsonPath(String sessionUUID, String projectName, String systemName, String fileName) throws IOException {
         String analysisDir = getAnalysisDirectory(sessionUUID, projectName, systemName);
         String base = toBaseName(fileName);
         String baseNoExt = base.contains(".") ? base.substring(0, base.lastIndexOf('.')) : base;
-        File analysisFile = new File(analysisDir, baseNoExt + ".json");
-        return analysisFile.exists();
+        return analysisDir + File.separator + baseNoExt + ".json";
     }
 
     /**
@@ -341,27 +470,164 @@ public class PlSqlFileParserService {
     }
 
     /**
-     * 필요 시 SP 파일 분석 실행 (전략 패턴 지원)
+     * 필요 시 SP 파일 분석 실행 (전략 패턴 지원, 내용 해시 기반)
+     * - 매니페스트(원본 SHA-256 + 전략 타입 + 분석 버전)가 일치하고 형식 파일이 있으면 재사용
+     * - 같은 원본을 이미 분석한 다른 시스템 결과가 있으면 파싱 없이 복사
+     * - 세션 공유 캐시(ParseResultCache)에 있으면 하드 링크/복사로 연결
+     * - 그 외에는 파싱 후 매니페스트 갱신 및 공유 캐시에 저장
+     * - 같은 매니페스트 키는 요청 내에서 한 번에 하나만 처리 (동일 파일 중복 파싱 방지)
      * @param sessionUUID 세션 UUID
      * @param projectName 프로젝트명
      * @param systemNameHint 시스템명 힌트
      * @param located 파일 객체
+     * @param source 원본 (SHA-256과 디코딩 결과를 응답과 공유)
+     * @param format 분석 결과 저장 형식
+     * @param context 요청 단위 분석 컨텍스트 (전략 타입/버전, 기존 분석 인덱스)
      * @param parsingFunction 파싱 실행 함수
-     * @return 분석 실행 여부
+     * @return 분석 결과 출처 (parsed/cached/shared/global-cache), SP 버킷이 아니면 null
      */
-    private boolean analyzeSpIfNeededWithStrategy(String sessionUUID, String projectName, String systemNameHint, File located, ParsingFunction parsingFunction) throws IOException {
+    private String analyzeSpIfNeededWithStrategy(String sessionUUID,
+                                                 String projectName,
+                                                 String systemNameHint,
+                                                 File located,
+                                                 SourceText source,
+                                                 AnalysisFormat format,
+                                                 AnalysisContext context,
+                                                 ParsingFunction parsingFunction) throws IOException {
         String bucket = getBucketForFile(sessionUUID, projectName, located);
         if (!PLSQL_DIR.equals(bucket)) {
-            return false;
+            return null;
         }
 
         String systemName = systemNameHint != null ? systemNameHint : detectSystemNameForFile(sessionUUID, projectName, located);
-        boolean already = analysisExists(sessionUUID, projectName, systemName, located.getName());
-        if (!already) {
-            parseAndSaveStructureWithStrategy(located, located.getName(), sessionUUID, projectName, systemName, parsingFunction);
-            return true;
+        String jsonPath = getAnalysisJsonPath(sessionUUID, projectName, systemName, located.getName());
+        File manifestFile = new File(AnalysisManifest.toManifestPath(jsonPath));
+        AnalysisManifest expected = new AnalysisManifest(source.getSha256(), context.strategyType, context.analysisVersion);
+
+        synchronized (context.locks.computeIfAbsent(expected, k -> new Object())) {
+            if (expected.equals(AnalysisManifest.read(manifestFile)) && format.exists(jsonPath)) {
+                return ANALYSIS_CACHED;
+            }
+
+            String sharedPath = context.analyzed.get(expected);
+            if (sharedPath != null && !sharedPath.equals(jsonPath) && format.exists(sharedPath)) {
+                createDirectoryIfNotExists(new File(jsonPath).getParent());
+                copyAnalysisOutputs(sharedPath, jsonPath, format);
+                expected.write(manifestFile);
+                log.debug("      → 동일 원본 분석 결과 복사: {}", sharedPath);
+                return ANALYSIS_SHARED;
+            }
+
+            createDirectoryIfNotExists(new File(jsonPath).getParent());
+            if (parseResultCache.restore(expected, format, jsonPath)) {
+                removeExcludedOutputs(jsonPath, format);
+                expected.write(manifestFile);
+                context.analyzed.put(expected, jsonPath);
+                log.debug("      → 공유 캐시에서 분석 결과 연결");
+                return ANALYSIS_GLOBAL_CACHE;
+            }
+
+            // 캐시에서 하드 링크된 파일일 수 있으므로 덮어쓰지 않고 삭제 후 새로 기록
+            removeAnalysisOutputs(jsonPath);
+            parseAndSaveStructureWithStrategy(source, located.getName(), sessionUUID, projectName, systemName, parsingFunction);
+            expected.write(manifestFile);
+            context.analyzed.put(expected, jsonPath);
+            parseResultCache.store(expected, format, jsonPath);
+            return ANALYSIS_PARSED;
+        }
+    }
+
+    /**
+     * 형식에 포함된 분석 파일 복사 (JSON/바이너리)
+     * @param fromJsonPath 원본 JSON 경로
+     * @param toJsonPath 대상 JSON 경로
+     * @param format 분석 결과 저장 형식
+     */
+    private void copyAnalysisOutputs(String fromJsonPath, String toJsonPath, AnalysisFormat format) throws IOException {
+        if (format.includesJson()) {
+            Files.copy(Paths.get(fromJsonPath), Paths.get(toJsonPath), StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (format.includesBinary()) {
+            Files.copy(Paths.get(AnalysisFormat.toBinaryPath(fromJsonPath)), Paths.get(AnalysisFormat.toBinaryPath(toJsonPath)),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+        removeExcludedOutputs(toJsonPath, format);
+    }
+
+    /**
+     * 분석 결과 파일(JSON/바이너리) 모두 삭제
+     * @param jsonPath JSON 경로
+     */
+    private void removeAnalysisOutputs(String jsonPath) throws IOException {
+        Files.deleteIfExists(Paths.get(jsonPath));
+        Files.deleteIfExists(Paths.get(AnalysisFormat.toBinaryPath(jsonPath)));
+        Files.deleteIfExists(Paths.get(toPartialPath(jsonPath)));
+    }
+
+    /**
+     * 형식에 포함되지 않은 이전 분석 파일 삭제 (매니페스트와 어긋난 결과가 남지 않도록)
+     * @param jsonPath JSON 경로
+     * @param format 분석 결과 저장 형식
+     */
+    private void removeExcludedOutputs(String jsonPath, AnalysisFormat format) throws IOException {
+        if (!format.includesJson()) {
+            Files.deleteIfExists(Paths.get(jsonPath));
+        }
+        if (!format.includesBinary()) {
+            Files.deleteIfExists(Paths.get(AnalysisFormat.toBinaryPath(jsonPath)));
+        }
+    }
+
+    /**
+     * 프로젝트 analysis 하위 매니페스트 스캔 (매니페스트 → JSON 경로)
+     * @param sessionUUID 세션 UUID
+     * @param projectName 프로젝트명
+     * @return 기존 분석 인덱스
+     */
+    private Map<AnalysisManifest, String> scanAnalysisManifests(String sessionUUID, String projectName) {
+        Map<AnalysisManifest, String> index = new ConcurrentHashMap<>();
+        try {
+            Path analysisRoot = Paths.get(getAnalysisDirectory(sessionUUID, projectName, null));
+            if (!Files.isDirectory(analysisRoot)) {
+                return index;
+            }
+            try (java.util.stream.Stream<Path> stream = Files.walk(analysisRoot, 2)) {
+                stream.filter(p -> p.getFileName().toString().endsWith(AnalysisManifest.EXTENSION))
+                      .forEach(p -> {
+                          AnalysisManifest manifest = AnalysisManifest.read(p.toFile());
+                          if (manifest != null) {
+                              String name = p.getFileName().toString();
+                              String jsonName = name.substring(0, name.length() - AnalysisManifest.EXTENSION.length()) + ".json";
+                              index.putIfAbsent(manifest, p.resolveSibling(jsonName).toString());
+                          }
+                      });
+            }
+        } catch (IOException e) {
+            log.warn("분석 매니페스트 스캔 실패: {}", e.getMessage());
+        }
+        return index;
+    }
+
+    /**
+     * 요청 단위 분석 컨텍스트
+     * - strategyType/analysisVersion: 매니페스트 키 구성 요소
+     * - analyzed: 매니페스트 → 분석 JSON 경로 (기존 결과 + 요청 중 새로 파싱한 결과)
+     * - locks: 매니페스트 키별 잠금 객체
+     */
+    private static final class AnalysisContext {
+        private final String strategyType;
+        private final String analysisVersion;
+        private final Map<AnalysisManifest, String> analyzed;
+        private final EncodingManifest encodings;
+        private final Map<AnalysisManifest, Object> locks = new ConcurrentHashMap<>();
+
+        private AnalysisContext(String strategyType, String analysisVersion, Map<AnalysisManifest, String> analyzed,
+                                EncodingManifest encodings) {
+            this.strategyType = strategyType;
+            this.analysisVersion = analysisVersion;
+            this.analyzed = analyzed;
+            this.encodings = encodings;
         }
-        return false;
     }
 
     // ========================================
@@ -379,6 +645,8 @@ public class PlSqlFileParserService {
      * @param ddlObj ddl 배열
      * @param seqObj sequence 배열
      * @param nameToFile 업로드 파일 맵 (파일명 소문자 → MultipartFile)
+     * @param includeContent 파일 내용(fileContent) 포함 여부 (false면 fileSize, contentHash만 포함)
+     * @param fileSink 파일별 결과 수신 콜백 (null이 아니면 successFiles에 모으지 않고 처리 즉시 전달 - 스트리밍 응답용)
      * @return {successFiles}
      * @throws RuntimeException 업로드 처리 실패 시
      */
@@ -387,10 +655,14 @@ public class PlSqlFileParserService {
                                                        Object systemsObj,
                                                        Object ddlObj,
                                                        Object seqObj,
-                                                       Map<String, MultipartFile> nameToFile) {
+                                                       Map<String, MultipartFile> nameToFile,
+                                                       boolean includeContent,
+                                                       Consumer<Map<String, String>> fileSink) {
         List<Map<String, String>> successFiles = new ArrayList<>();
+        Consumer<Map<String, String>> sink = fileSink != null ? fileSink : successFiles::add;
 
-        Map<String, File> fileIndex = buildProjectFileIndex(sessionUUID, projectName);
+        ProjectFileIndex fileIndex = buildProjectFileIndex(sessionUUID, projectName);
+        EncodingManifest encodings = loadEncodingManifest(sessionUUID, projectName);
 
         if (systemsObj instanceof List<?>) {
             for (Object sys : (List<?>) systemsObj) {
@@ -404,15 +676,15 @@ public class PlSqlFileParserService {
                     String fileName = (String) sp;
                     try {
                         // 기존 파일 우선 사용
-                        File found = fileIndex.getOrDefault(toBaseName(fileName).toLowerCase(), null);
+                        File found = fileIndex.find(toBaseName(fileName));
                         if (found != null) {
                             Map<String, String> ok = new HashMap<>();
                             ok.put("system", systemName);
                             ok.put("fileName", found.getName());
                             ok.put("filePath", found.getAbsolutePath());
-                            ok.put("fileContent", readFileContent(found));
+                            putFileContent(ok, SourceText.read(found, encodings), includeContent);
                             ok.put("analysisExists", analysisExists(sessionUUID, projectName, systemName, found.getName()) ? "true" : "false");
-                            successFiles.add(ok);
+                            sink.accept(ok);
                             continue;
                         }
 
@@ -427,9 +699,9 @@ public class PlSqlFileParserService {
                         ok.put("system", systemName);
                         ok.put("fileName", fileName);
                         ok.put("filePath", savedPath);
-                        ok.put("fileContent", readFileContent(new File(savedPath)));
+                        putFileContent(ok, SourceText.read(new File(savedPath), encodings), includeContent);
                         ok.put("analysisExists", analysisExists(sessionUUID, projectName, systemName, fileName) ? "true" : "false");
-                        successFiles.add(ok);
+                        sink.accept(ok);
                     } catch (Exception e) {
                         throw new RuntimeException("업로드 처리 실패: system=" + systemName + ", file=" + fileName + " - " + e.getMessage(), e);
                     }
@@ -439,6 +711,8 @@ public class PlSqlFileParserService {
 
         saveBucketListFromMap(sessionUUID, projectName, DDL_DIR, ddlObj, nameToFile);
         saveBucketListFromMap(sessionUUID, projectName, SEQ_DIR, seqObj, nameToFile);
+        fileIndex.save();
+        encodings.save();
 
         return Map.of("successFiles", successFiles);
     }
@@ -457,7 +731,7 @@ public class PlSqlFileParserService {
                                                        List<?> systems) {
         List<Map<String, String>> successFiles = new ArrayList<>();
 
-        Map<String, File> fileIndex = buildProjectFileIndex(sessionUUID, projectName);
+        ProjectFileIndex fileIndex = buildProjectFileIndex(sessionUUID, projectName);
 
         if (systems == null) return Map.of("successFiles", successFiles);
 
@@ -505,24 +779,41 @@ public class PlSqlFileParserService {
 
     /**
      * 시스템별 SP 파싱 처리 (전략 패턴 지원)
-     * - 실패 시 RuntimeException 발생
+     * - 파일 단위로 ParsingExecutor 스레드 풀에 병렬 제출
+     * - 결과는 요청 순서대로 successFiles에 수집
+     * - 실패는 중단하지 않고 파일별로 failedFiles에 집계
+     * - 파싱 제한 시간(parser.parsing.deadline-seconds)을 넘은 파일은 {timedOut, timeoutLines, partialAnalysis}를 함께 기록
+     * - 진행 상황은 progress 콜백으로 통지, 취소되면 시작 전 파일은 failedFiles에 취소로 집계
      * @param sessionUUID 세션 UUID
      * @param projectName 프로젝트명
      * @param systems systems 배열
+     * @param format 분석 결과 저장 형식 (이미 존재 여부 판단에 사용)
+     * @param includeContent 파일 내용(fileContent) 포함 여부 (false면 fileSize, contentHash만 포함)
+     * @param strategyType 전략 타입 (매니페스트 키)
+     * @param analysisVersion 문법/리스너 분석 버전 (매니페스트 키)
+     * @param progress 진행 상황 콜백 (비동기 작업용, 동기 요청은 ParsingProgress.NONE)
      * @param parsingFunction 파싱 실행 함수
-     * @return {successFiles}
-     * @throws RuntimeException 파싱 실패 시
+     * @return {successFiles, failedFiles}
      */
     public Map<String, Object> processParsingBySystemsWithStrategy(String sessionUUID,
                                                                    String projectName,
                                                                    List<?> systems,
+                                                                   AnalysisFormat format,
+                                                                   boolean includeContent,
+                                                                   String strategyType,
+                                                                   String analysisVersion,
+                                                                   ParsingProgress progress,
                                                                    ParsingFunction parsingFunction) {
         List<Map<String, String>> successFiles = new ArrayList<>();
+        List<Map<String, String>> failedFiles = new ArrayList<>();
 
-        Map<String, File> fileIndex = buildProjectFileIndex(sessionUUID, projectName);
+        ProjectFileIndex fileIndex = buildProjectFileIndex(sessionUUID, projectName);
 
-        if (systems == null) return Map.of("successFiles", successFiles);
+        if (systems == null) return Map.of("successFiles", successFiles, "failedFiles", failedFiles);
 
+        AnalysisContext context = new AnalysisContext(strategyType, analysisVersion, scanAnalysisManifests(sessionUUID, projectName),
+                loadEncodingManifest(sessionUUID, projectName));
+        List<String[]> targets = new ArrayList<>();
         for (Object sys : systems) {
             if (!(sys instanceof Map<?, ?>)) continue;
             Map<?, ?> sysMap = (Map<?, ?>) sys;
@@ -533,36 +824,144 @@ public class PlSqlFileParserService {
             List<?> spArr = (List<?>) spObj;
             for (Object sp : spArr) {
                 if (!(sp instanceof String)) continue;
-                String fileName = (String) sp;
-                long start = System.currentTimeMillis();
-                File located;
+                targets.add(new String[] { systemName, (String) sp });
+            }
+        }
+        progress.onSubmitted(targets);
+
+        List<Future<Map<String, String>>> futures = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            int index = i;
+            String systemName = targets.get(i)[0];
+            String fileName = targets.get(i)[1];
+            futures.add(parsingExecutor.submit(() -> {
+                if (progress.isCancelled()) {
+                    progress.onFileCancelled(index);
+                    throw new CancellationException("파싱 작업이 취소되었습니다");
+                }
+                progress.onFileStarted(index);
                 try {
-                    located = locateFileByName(sessionUUID, projectName, fileName, fileIndex);
-                } catch (IOException io) {
-                    throw new RuntimeException("파일 검색 실패: system=" + systemName + ", file=" + fileName + " - " + io.getMessage(), io);
+                    Map<String, String> ok = parseSingleFileWithStrategy(sessionUUID, projectName, systemName, fileName, fileIndex, format, includeContent, context, parsingFunction);
+                    progress.onFileCompleted(index, ok);
+                    return progress.retainsResults() ? ok : null;
+                } catch (RuntimeException e) {
+                    progress.onFileFailed(index, e.getMessage());
+                    throw e;
                 }
-                if (located != null) {
-                    try {
-                        analyzeSpIfNeededWithStrategy(sessionUUID, projectName, systemName, located, parsingFunction);
-                        Map<String, String> info = getFileInfoForFile(sessionUUID, projectName, located);
-                        Map<String, String> ok = new HashMap<>();
-                        ok.put("system", systemName);
-                        ok.put("fileName", info.getOrDefault("fileName", fileName));
-                        ok.put("fileContent", info.getOrDefault("fileContent", ""));
-                        ok.put("analysisExists", info.getOrDefault("analysisExists", "false"));
-                        successFiles.add(ok);
-                    } catch (Exception e) {
-                        throw new RuntimeException("파싱 실패: system=" + systemName + ", file=" + fileName + " - " + e.getMessage(), e);
+            }));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            String systemName = targets.get(i)[0];
+            String fileName = targets.get(i)[1];
+            try {
+                Map<String, String> ok = futures.get(i).get();
+                if (ok != null) {
+                    successFiles.add(ok);
+                }
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (!(cause instanceof CancellationException)) {
+                    log.warn("  {} 실패 - {}", fileName, cause.getMessage());
+                }
+                Map<String, String> failure = makeFailureInfo(systemName, fileName, cause.getMessage());
+                ParseTimeoutException timeout = findTimeout(cause);
+                if (timeout != null) {
+                    failure.put("timedOut", "true");
+                    failure.put("timeoutLines", timeout.getStartLine() + "-" + timeout.getEndLine());
+                    if (timeout.getPartialAnalysis() != null) {
+                        failure.put("partialAnalysis", timeout.getPartialAnalysis());
                     }
-                } else {
-                    throw new RuntimeException("파일을 찾을 수 없습니다: " + fileName);
                 }
-                long elapsed = System.currentTimeMillis() - start;
-                log.info("  {} ({}ms)", fileName, elapsed);
+                failedFiles.add(failure);
+            } catch (InterruptedException e) {
+                futures.subList(i, futures.size()).forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("파싱 대기 중 인터럽트 발생: system=" + systemName + ", file=" + fileName, e);
             }
         }
 
-        return Map.of("successFiles", successFiles);
+        context.encodings.save();
+        if (!failedFiles.isEmpty()) {
+            log.warn("  파싱 실패 {}건 / 전체 {}건", failedFiles.size(), futures.size());
+        }
+        return Map.of("successFiles", successFiles, "failedFiles", failedFiles);
+    }
+
+    /**
+     * 단일 SP 파일 검색 및 파싱 (파싱 스레드에서 실행)
+     * @param sessionUUID 세션 UUID
+     * @param projectName 프로젝트명
+     * @param systemName 시스템명
+     * @param fileName 파일명
+     * @param fileIndex 프로젝트 파일 인덱스
+     * @param format 분석 결과 저장 형식
+     * @param includeContent 파일 내용 포함 여부
+     * @param context 요청 단위 분석 컨텍스트
+     * @param parsingFunction 파싱 실행 함수
+     * @return {system, fileName, fileContent | fileSize, contentHash, analysisExists, analysisSource}
+     * @throws RuntimeException 검색/파싱 실패 시
+     */
+    private Map<String, String> parseSingleFileWithStrategy(String sessionUUID,
+                                                            String projectName,
+                                                            String systemName,
+                                                            String fileName,
+                                                            ProjectFileIndex fileIndex,
+                                                            AnalysisFormat format,
+                                                            boolean includeContent,
+                                                            AnalysisContext context,
+                                                            ParsingFunction parsingFunction) {
+        long start = System.nanoTime();
+        File located;
+        SourceText text;
+        try {
+            located = locateFileByName(sessionUUID, projectName, fileName, fileIndex);
+            text = located != null ? SourceText.read(located, context.encodings) : null;
+        } catch (IOException io) {
+            throw new RuntimeException("파일 검색 실패: system=" + systemName + ", file=" + fileName + " - " + io.getMessage(), io);
+        }
+        parseMetrics.record(context.strategyType, Phase.LOOKUP, start);
+        if (located == null) {
+            throw new RuntimeException("파일을 찾을 수 없습니다: " + fileName);
+        }
+
+        Map<String, String> ok = new HashMap<>();
+        try {
+            String source = analyzeSpIfNeededWithStrategy(sessionUUID, projectName, systemName, located, text, format, context, parsingFunction);
+            Map<String, String> info = getFileInfoForFile(sessionUUID, projectName, text, includeContent);
+            ok.putAll(info);
+            ok.put("system", systemName);
+            ok.put("fileName", info.getOrDefault("fileName", fileName));
+            ok.put("analysisExists", info.getOrDefault("analysisExists", "false"));
+            if (source != null) {
+                ok.put("analysisSource", source);
+            }
+        } catch (Exception e) {
+            if (findTimeout(e) != null) {
+                parseMetrics.recordFile(context.strategyType, ANALYSIS_TIMEOUT, start);
+            }
+            throw new RuntimeException("파싱 실패: system=" + systemName + ", file=" + fileName + " - " + e.getMessage(), e);
+        }
+        String analysisSource = ok.getOrDefault("analysisSource", "-");
+        parseMetrics.recordFile(context.strategyType, analysisSource, start);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        log.info("  {} ({}ms, {})", fileName, elapsed, analysisSource);
+        return ok;
+    }
+
+    /**
+     * 파싱 실패 정보 맵 생성
+     * @param systemName 시스템명
+     * @param fileName 파일명
+     * @param error 실패 사유
+     * @return {system, fileName, error}
+     */
+    private Map<String, String> makeFailureInfo(String systemName, String fileName, String error) {
+        Map<String, String> map = new HashMap<>();
+        map.put("system", systemName);
+        map.put("fileName", fileName);
+        map.put("error", error != null ? error : "");
+        return map;
     }
 
     /**
@@ -597,107 +996,66 @@ public class PlSqlFileParserService {
     // ========================================
 
     /**
-     * 프로젝트 전체 파일 인덱스 생성 (src 재귀 + ddl + sequence)
+     * 프로젝트 파일 인덱스 조회 (src 재귀 + ddl + sequence)
+     * - {프로젝트 루트}/.file-index에 저장된 인덱스를 디렉터리 mtime으로 갱신 (바뀐 디렉터리만 다시 읽음)
      * @param sessionUUID 세션 UUID
      * @param projectName 프로젝트명
-     * @return 파일명(소문자) → File 맵
+     * @return 파일 인덱스 (파일명 대소문자 무시)
      */
-    private Map<String, File> buildProjectFileIndex(String sessionUUID, String projectName) {
-        Map<String, File> index = new HashMap<>();
+    private ProjectFileIndex buildProjectFileIndex(String sessionUUID, String projectName) {
         try {
-            String srcRoot = getTargetDirectory(sessionUUID, projectName, null);
-            File srcRootDir = new File(srcRoot);
-            if (srcRootDir.exists()) {
-                try (java.util.stream.Stream<Path> stream = Files.walk(srcRootDir.toPath())) {
-                    stream.filter(Files::isRegularFile)
-                          .map(Path::toFile)
-                          .forEach(f -> index.putIfAbsent(f.getName().toLowerCase(), f));
-                }
-            }
-            String projectRoot = getProjectRootDirectory(sessionUUID, projectName);
-            File ddlDir = new File(projectRoot, DDL_DIR);
-            if (ddlDir.exists()) {
-                File[] list = ddlDir.listFiles();
-                if (list != null) {
-                    for (File f : list) {
-                        if (f.isFile()) index.putIfAbsent(f.getName().toLowerCase(), f);
-                    }
-                }
-            }
-            File seqDir = new File(projectRoot, SEQ_DIR);
-            if (seqDir.exists()) {
-                File[] list = seqDir.listFiles();
-                if (list != null) {
-                    for (File f : list) {
-                        if (f.isFile()) index.putIfAbsent(f.getName().toLowerCase(), f);
-                    }
-                }
-            }
+            return fileIndexRegistry.get(getProjectRootDirectory(sessionUUID, projectName), PLSQL_DIR, DDL_DIR, SEQ_DIR);
         } catch (Exception e) {
             throw new RuntimeException("프로젝트 파일 인덱스 생성 실패: " + e.getMessage(), e);
         }
-        return index;
     }
 
     /**
-     * 인덱스 기반 파일 검색 (fallback: 재귀 탐색)
+     * 인덱스 기반 파일 검색 (src → ddl → sequence 순서, 디렉터리 재탐색 없음)
      * @param sessionUUID 세션 UUID
      * @param projectName 프로젝트명
      * @param fileName 파일명
      * @param fileIndex 파일 인덱스
      * @return 파일 객체 (없으면 null)
      */
-    private File locateFileByName(String sessionUUID, String projectName, String fileName, Map<String, File> fileIndex) throws IOException {
+    private File locateFileByName(String sessionUUID, String projectName, String fileName, ProjectFileIndex fileIndex) throws IOException {
         String key = toBaseName(fileName);
-        if (key != null) {
-            File byIndex = fileIndex.getOrDefault(key.toLowerCase(), null);
-            if (byIndex != null) return byIndex;
-        }
-        return findExistingSqlFile(sessionUUID, projectName, fileName);
+        return key != null ? fileIndex.find(key) : null;
     }
 
     /**
-     * SQL 파일 재귀 검색 (src → ddl → sequence 순서)
+     * SQL 파일 검색 (src → ddl → sequence 순서)
      * @param sessionUUID 세션 UUID
      * @param projectName 프로젝트명
      * @param fileName 파일명
      * @return 파일 객체 (없으면 null)
      */
     private File findExistingSqlFile(String sessionUUID, String projectName, String fileName) throws IOException {
-        String baseFileName = toBaseName(fileName);
-        String srcRoot = getTargetDirectory(sessionUUID, projectName, null);
-        File srcRootDir = new File(srcRoot);
-        File candidate = findFileRecursivelyByNameIgnoreCase(srcRootDir, baseFileName);
-        if (candidate != null) return candidate;
-
-        String projectRoot = getProjectRootDirectory(sessionUUID, projectName);
-        File inDdl = new File(projectRoot + File.separator + DDL_DIR, baseFileName);
-        if (inDdl.exists() && inDdl.isFile()) return inDdl;
-        File inSeq = new File(projectRoot + File.separator + SEQ_DIR, baseFileName);
-        if (inSeq.exists() && inSeq.isFile()) return inSeq;
-        return null;
+        return locateFileByName(sessionUUID, projectName, fileName, buildProjectFileIndex(sessionUUID, projectName));
     }
 
     /**
-     * 디렉터리 재귀 검색 (대소문자 무시)
-     * @param root 시작 디렉터리
-     * @param fileName 파일명
+     * 파일명으로 원본 소스 파일 검색 (다운로드용)
+     * @param sessionUUID 세션 UUID
+     * @param projectName 프로젝트명
+     * @param fileName 파일명 (경로 구분자 제외)
      * @return 파일 객체 (없으면 null)
      */
-    private File findFileRecursivelyByNameIgnoreCase(File root, String fileName) {
-        if (root == null || !root.exists() || fileName == null) return null;
-        try {
-            try (java.util.stream.Stream<Path> stream = Files.walk(root.toPath())) {
-                return stream
-                    .filter(Files::isRegularFile)
-                    .map(Path::toFile)
-                    .filter(f -> f.getName().equalsIgnoreCase(fileName))
-                    .findFirst()
-                    .orElse(null);
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("디렉터리 검색 실패: " + root.getAbsolutePath() + " - " + e.getMessage(), e);
-        }
+    public File findSourceFile(String sessionUUID, String projectName, String fileName) throws IOException {
+        return findExistingSqlFile(sessionUUID, projectName, fileName);
+    }
+
+    /**
+     * 분석 결과 JSON 파일 검색 (다운로드용)
+     * @param sessionUUID 세션 UUID
+     * @param projectName 프로젝트명
+     * @param systemName 시스템명
+     * @param fileName 소스 파일명
+     * @return 분석 JSON 파일 (없으면 null)
+     */
+    public File findAnalysisJsonFile(String sessionUUID, String projectName, String systemName, String fileName) throws IOException {
+        File json = new File(getAnalysisJsonPath(sessionUUID, projectName, systemName, fileName));
+        return json.isFile() ? json : null;
     }
 
     /**
@@ -721,10 +1079,59 @@ public class PlSqlFileParserService {
      * @return {fileName, fileContent, analysisExists}
      */
     private Map<String, String> getFileInfoForFile(String sessionUUID, String projectName, File file) throws IOException {
-        String fileContent = readFileContent(file);
+        return getFileInfoForFile(sessionUUID, projectName, SourceText.read(file, null), true);
+    }
+
+    /**
+     * 원본으로 파일 정보 생성 (내용 포함 여부 선택)
+     * @param sessionUUID 세션 UUID
+     * @param projectName 프로젝트명
+     * @param source 원본 (파싱에 사용한 디코딩 결과 재사용)
+     * @param includeContent 파일 내용 포함 여부
+     * @return {fileName, fileContent | fileSize, contentHash, analysisExists}
+     */
+    private Map<String, String> getFileInfoForFile(String sessionUUID, String projectName, SourceText source, boolean includeContent) throws IOException {
+        File file = source.getFile();
         String systemName = detectSystemNameForFile(sessionUUID, projectName, file);
         boolean exists = analysisExists(sessionUUID, projectName, systemName, file.getName());
-        return makeFileInfo(file.getName(), fileContent, exists);
+        if (includeContent) {
+            return makeFileInfo(file.getName(), source.getText(), exists);
+        }
+        Map<String, String> map = new HashMap<>();
+        map.put("fileName", file.getName());
+        putFileContent(map, source, false);
+        map.put("analysisExists", String.valueOf(exists));
+        return map;
+    }
+
+    /**
+     * 파일 내용 또는 메타데이터 기록
+     * - includeContent=false: 디코딩 없이 fileSize, contentHash(SHA-256)만 기록 (본문은 GET /projects/{projectName}/sources/{fileName}로 조회)
+     * @param info 결과 맵
+     * @param source 원본
+     * @param includeContent 파일 내용 포함 여부
+     */
+    private void putFileContent(Map<String, String> info, SourceText source, boolean includeContent) {
+        if (includeContent) {
+            info.put("fileContent", source.getText());
+            return;
+        }
+        info.put("fileSize", String.valueOf(source.getSize()));
+        info.put("contentHash", source.getSha256());
+    }
+
+    /**
+     * 프로젝트 인코딩 매니페스트 읽기
+     * @param sessionUUID 세션 UUID
+     * @param projectName 프로젝트명
+     * @return 인코딩 매니페스트
+     */
+    private EncodingManifest loadEncodingManifest(String sessionUUID, String projectName) {
+        try {
+            return EncodingManifest.load(getProjectRootDirectory(sessionUUID, projectName));
+        } catch (IOException e) {
+            throw new RuntimeException("프로젝트 경로 확인 실패: " + e.getMessage(), e);
+        }
     }
 
     /**
@@ -0,0 +1,93 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.io.File;
+import java.io.IOException;
+
+import legacymodernizer.parser.antlr.NodeTree;
+import legacymodernizer.parser.antlr.NodeBinaryWriter;
+import legacymodernizer.parser.antlr.NodeJsonWriter;
+
+/**
+ * 분석 결과 저장 형식
+ * - JSON: {파일명}.json (기본)
+ * - BINARY: {파일명}.ast (NodeBinaryWriter 형식)
+ * - BOTH: 두 파일 모두 저장
+ */
+public enum AnalysisFormat {
+    JSON, BINARY, BOTH;
+
+    /** 바이너리 형식 요청용 미디어 타입 (Accept 헤더) */
+    public static final String BINARY_MEDIA_TYPE = "application/x-ast";
+
+    /**
+     * 요청 플래그/Accept 헤더로 저장 형식 결정
+     * - analysisFormat 플래그(json|binary|both)가 우선, 없으면 Accept 헤더에 application/x-ast 포함 시 BINARY
+     * @param flag 요청 플래그 (null 허용)
+     * @param accept Accept 헤더 (null 허용)
+     * @return 저장 형식
+     * @throws IllegalArgumentException 지원하지 않는 플래그 값인 경우
+     */
+    public static AnalysisFormat resolve(String flag, String accept) {
+        if (flag != null && !flag.isBlank()) {
+            try {
+                return valueOf(flag.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 분석 형식입니다: " + flag + " (json, binary, both)");
+            }
+        }
+        if (accept != null && accept.toLowerCase().contains(BINARY_MEDIA_TYPE)) {
+            return BINARY;
+        }
+        return JSON;
+    }
+
+    public boolean includesJson() {
+        return this != BINARY;
+    }
+
+    public boolean includesBinary() {
+        return this != JSON;
+    }
+
+    /**
+     * JSON 경로 기준 바이너리 파일 경로 ({파일명}.json → {파일명}.ast)
+     * @param jsonPath JSON 출력 경로
+     * @return 바이너리 출력 경로
+     */
+    public static String toBinaryPath(String jsonPath) {
+        return jsonPath.endsWith(".json")
+                ? jsonPath.substring(0, jsonPath.length() - ".json".length()) + NodeBinaryWriter.EXTENSION
+                : jsonPath + NodeBinaryWriter.EXTENSION;
+    }
+
+    /**
+     * 형식에 맞춰 분석 결과 저장
+     * @param tree 분석 트리
+     * @param jsonPath JSON 출력 경로 (바이너리는 확장자만 .ast로 변경)
+     * @return 저장한 바이트 수 (형식별 파일 크기 합)
+     */
+    public long write(NodeTree tree, String jsonPath) throws IOException {
+        long bytes = 0;
+        if (includesJson()) {
+            File json = new File(jsonPath);
+            NodeJsonWriter.writeToFile(tree, json);
+            bytes += json.length();
+        }
+        if (includesBinary()) {
+            File binary = new File(toBinaryPath(jsonPath));
+            NodeBinaryWriter.writeToFile(tree, binary);
+            bytes += binary.length();
+        }
+        return bytes;
+    }
+
+    /**
+     * 형식에 필요한 분석 파일이 모두 존재하는지 확인
+     * @param jsonPath JSON 출력 경로
+     * @return 존재 여부
+     */
+    public boolean exists(String jsonPath) {
+        return (!includesJson() || new File(jsonPath).exists())
+                && (!includesBinary() || new File(toBinaryPath(jsonPath)).exists());
+    }
+}
@@ -0,0 +1,146 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 분석 결과 사이드카 매니페스트 ({파일명}.manifest)
+ * - 원본 소스 바이트의 SHA-256, 파싱 전략 타입, 분석(문법/리스너) 버전을 기록
+ * - 세 값이 모두 같을 때만 기존 분석 결과를 재사용 (원본이 바뀌거나 리스너 버전이 오르면 재파싱)
+ */
+public final class AnalysisManifest {
+
+    /** 매니페스트 파일 확장자 (분석 JSON 글롭에 걸리지 않도록 .json 미사용) */
+    public static final String EXTENSION = ".manifest";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String sourceSha256;
+    private final String strategyType;
+    private final String analysisVersion;
+
+    public AnalysisManifest(String sourceSha256, String strategyType, String analysisVersion) {
+        this.sourceSha256 = sourceSha256;
+        this.strategyType = strategyType;
+        this.analysisVersion = analysisVersion;
+    }
+
+    /**
+     * 원본 파일로 매니페스트 생성 (SHA-256 스트리밍 계산)
+     * @param source 원본 파일
+     * @param strategyType 전략 타입
+     * @param analysisVersion 분석 버전
+     * @return 매니페스트
+     */
+    public static AnalysisManifest of(File source, String strategyType, String analysisVersion) throws IOException {
+        return new AnalysisManifest(sha256(source), strategyType, analysisVersion);
+    }
+
+    /**
+     * JSON 출력 경로 기준 매니페스트 경로 ({파일명}.json → {파일명}.manifest)
+     * @param jsonPath JSON 출력 경로
+     * @return 매니페스트 경로
+     */
+    public static String toManifestPath(String jsonPath) {
+        return jsonPath.endsWith(".json")
+                ? jsonPath.substring(0, jsonPath.length() - ".json".length()) + EXTENSION
+                : jsonPath + EXTENSION;
+    }
+
+    /**
+     * 매니페스트 읽기
+     * @param file 매니페스트 파일
+     * @return 매니페스트 (없거나 손상된 경우 null)
+     */
+    public static AnalysisManifest read(File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            Map<String, String> map = MAPPER.readValue(file, new TypeReference<Map<String, String>>() {
+            });
+            return new AnalysisManifest(map.get("sourceSha256"), map.get("strategyType"), map.get("analysisVersion"));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 매니페스트 저장 (임시 파일에 쓴 뒤 교체)
+     * @param file 매니페스트 파일
+     */
+    public void write(File file) throws IOException {
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put("sourceSha256", sourceSha256);
+        map.put("strategyType", strategyType);
+        map.put("analysisVersion", analysisVersion);
+        Path target = file.toPath();
+        Path tmp = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+        try {
+            MAPPER.writeValue(tmp.toFile(), map);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * 파일 SHA-256 (16진수)
+     * @param file 대상 파일
+     * @return 해시 문자열
+     */
+    public static String sha256(File file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file.toPath()), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public String getSourceSha256() {
+        return sourceSha256;
+    }
+
+    public String getStrategyType() {
+        return strategyType;
+    }
+
+    public String getAnalysisVersion() {
+        return analysisVersion;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AnalysisManifest)) return false;
+        AnalysisManifest other = (AnalysisManifest) o;
+        return Objects.equals(sourceSha256, other.sourceSha256)
+                && Objects.equals(strategyType, other.strategyType)
+                && Objects.equals(analysisVersion, other.analysisVersion);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sourceSha256, strategyType, analysisVersion);
+    }
+}
@@ -3,8 +3,13 @@ package legacymodernizer.parser.service.parsing;
 import java.io.File;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+
+import org.antlr.v4.runtime.CharStream;
 import org.springframework.web.multipart.MultipartFile;
 
+import legacymodernizer.parser.antlr.NodeTree;
+
 /**
  * DBMS별 파싱 전략 인터페이스
  * - 전략 패턴을 통해 DBMS 종류에 따른 파싱 로직을 캡슐화
@@ -19,6 +24,8 @@ public interface DbmsParserStrategy {
      * @param ddlObj ddl 배열
      * @param seqObj sequence 배열
      * @param nameToFile 업로드 파일 맵 (파일명 소문자 → MultipartFile)
+     * @param includeContent 파일 내용(fileContent) 포함 여부 (false면 fileSize, contentHash만 포함)
+     * @param fileSink 파일별 결과 수신 콜백 (null이면 successFiles에 수집, 아니면 처리 즉시 전달)
      * @return {successFiles}
      */
     Map<String, Object> processUploadByMetadata(String sessionUUID,
@@ -26,30 +33,115 @@ public interface DbmsParserStrategy {
                                                 Object systemsObj,
                                                 Object ddlObj,
                                                 Object seqObj,
-                                                Map<String, MultipartFile> nameToFile);
+                                                Map<String, MultipartFile> nameToFile,
+                                                boolean includeContent,
+                                                Consumer<Map<String, String>> fileSink);
+
+    /**
+     * 메타데이터 기반 파일 업로드 처리 (파일 내용 포함, 결과를 successFiles에 수집)
+     * @param sessionUUID 세션 UUID
+     * @param projectName 프로젝트명
+     * @param systemsObj systems 배열
+     * @param ddlObj ddl 배열
+     * @param seqObj sequence 배열
+     * @param nameToFile 업로드 파일 맵 (파일명 소문자 → MultipartFile)
+     * @return {successFiles}
+     */
+    default Map<String, Object> processUploadByMetadata(String sessionUUID,
+                                                        String projectName,
+                                                        Object systemsObj,
+                                                        Object ddlObj,
+                                                        Object seqObj,
+                                                        Map<String, MultipartFile> nameToFile) {
+        return processUploadByMetadata(sessionUUID, projectName, systemsObj, ddlObj, seqObj, nameToFile, true, null);
+    }
     
     /**
      * 시스템별 파싱 처리 (ANTLR 분석)
      * @param sessionUUID 세션 UUID
      * @param projectName 프로젝트명
      * @param systems systems 배열
-     * @return {successFiles}
+     * @param format 분석 결과 저장 형식 (JSON/BINARY/BOTH)
+     * @param includeContent 파일 내용(fileContent) 포함 여부 (false면 fileSize, contentHash만 포함)
+     * @param progress 진행 상황 콜백 (취소 확인 포함)
+     * @return {successFiles, failedFiles}
      */
     Map<String, Object> processParsingBySystems(String sessionUUID,
                                                 String projectName,
-                                                List<?> systems);
+                                                List<?> systems,
+                                                AnalysisFormat format,
+                                                boolean includeContent,
+                                                ParsingProgress progress);
+
+    /**
+     * 시스템별 파싱 처리 (파일 내용 포함, 진행 상황 추적 없음)
+     * @param sessionUUID 세션 UUID
+     * @param projectName 프로젝트명
+     * @param systems systems 배열
+     * @param format 분석 결과 저장 형식 (JSON/BINARY/BOTH)
+     * @return {successFiles, failedFiles}
+     */
+    default Map<String, Object> processParsingBySystems(String sessionUUID,
+                                                        String projectName,
+                                                        List<?> systems,
+                                                        AnalysisFormat format) {
+        return processParsingBySystems(sessionUUID, projectName, systems, format, true, ParsingProgress.NONE);
+    }
     
     /**
      * ANTLR 파싱 실행 (DBMS별 구현)
+     * @param source 파싱 대상 원본 (디코딩된 문자열을 파서와 응답이 공유)
+     * @param outputPath 출력 JSON 파일 경로 (바이너리는 확장자만 .ast)
+     * @param format 분석 결과 저장 형식
+     */
+    void parseFile(SourceText source, String outputPath, AnalysisFormat format) throws Exception;
+
+    /**
+     * ANTLR 파싱 실행 (파일을 읽어 인코딩 판별 후 파싱)
+     * @param file 파싱 대상 파일
+     * @param outputPath 출력 JSON 파일 경로 (바이너리는 확장자만 .ast)
+     * @param format 분석 결과 저장 형식
+     */
+    default void parseFile(File file, String outputPath, AnalysisFormat format) throws Exception {
+        parseFile(SourceText.read(file, null), outputPath, format);
+    }
+
+    /**
+     * ANTLR 파싱 실행 (JSON 저장)
      * @param file 파싱 대상 파일
      * @param outputPath 출력 JSON 파일 경로
      */
-    void parseFile(File file, String outputPath) throws Exception;
+    default void parseFile(File file, String outputPath) throws Exception {
+        parseFile(file, outputPath, AnalysisFormat.JSON);
+    }
+
+    /**
+     * 문자 스트림을 파싱하여 분석 트리 생성 (파일 저장 없음)
+     * @param input 파싱 대상 문자 스트림
+     * @param sourceName 소스 이름 (로그용)
+     * @return 분석 트리
+     */
+    NodeTree parse(CharStream input, String sourceName);
     
     /**
      * 지원하는 DBMS 타입 반환
      * @return DBMS 타입 (예: "oracle", "postgresql")
      */
     String getSupportedDbmsType();
+
+    /**
+     * 분석 버전 반환 (매니페스트/공유 캐시 키, 올리면 기존 분석 결과 무효화)
+     * - 같은 원본에 대한 분석 트리가 달라지는 변경(문법, 리스너 판정 조건, 원본 디코딩 등)은 같은 커밋에서 반드시 올림
+     * @return 분석 버전
+     */
+    String getAnalysisVersion();
+
+    /**
+     * 워밍업 코퍼스 디렉터리명 반환 (classpath:warmup/{디렉터리}/*.sql)
+     * @return 코퍼스 디렉터리명 (기본: DBMS 타입)
+     */
+    default String getWarmupCorpusDirectory() {
+        return getSupportedDbmsType();
+    }
 }
 
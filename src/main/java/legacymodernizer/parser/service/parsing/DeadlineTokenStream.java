@@ -0,0 +1,95 @@
+package legacymodernizer.parser.service.parsing;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * 파싱 제한 시각을 확인하는 토큰 스트림 (ParserPool 인스턴스 전용)
+ * - ATN 예측은 LA()를 반복 호출하므로 LA()마다 만료 플래그 확인 (한 번의 긴 예측 도중에도 중단)
+ * - 렉싱은 토큰 묶음을 가져올 때(fetch)마다 확인
+ * - 초과 시 파서의 현재 규칙 문맥에서 최상위 문맥을 찾아 부분 파스 트리와 라인 구간을 담아 ParseTimeoutException 발생
+ */
+final class DeadlineTokenStream extends CommonTokenStream {
+
+    private Parser parser;
+    private ParseDeadline deadline = ParseDeadline.NONE;
+
+    DeadlineTokenStream(TokenSource tokenSource) {
+        super(tokenSource);
+    }
+
+    void setParser(Parser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * 확인할 제한 시각 지정 (대여/반납 시)
+     * @param deadline 제한 시각
+     */
+    void watch(ParseDeadline deadline) {
+        this.deadline = deadline;
+    }
+
+    @Override
+    public int LA(int i) {
+        if (deadline.isExpired()) {
+            throw expired();
+        }
+        return super.LA(i);
+    }
+
+    @Override
+    protected int fetch(int n) {
+        if (deadline.isExpired()) {
+            throw expired();
+        }
+        return super.fetch(n);
+    }
+
+    /**
+     * 중단 위치 정보 수집
+     * - 렉싱 중이면 토큰 소스(렉서)의 현재 라인
+     * - endLine: 현재 스트림 위치(예측 중이면 예측이 도달한 토큰)의 라인
+     * - startLine: 최상위 문맥 아래에서 파일(구간) 시작과 다른 위치에서 시작한 가장 바깥 문맥 = 파싱 중이던 문장
+     *   (모두 파일 시작에서 시작했으면 현재 문맥의 마지막 자식 라인)
+     */
+    private ParseTimeoutException expired() {
+        ParserRuleContext ctx = parser != null ? parser.getContext() : null;
+        if (ctx == null || tokens.isEmpty()) {
+            int line = getTokenSource().getLine();
+            return new ParseTimeoutException(deadline.getTimeoutMillis(), line, line, null);
+        }
+        int endLine = tokens.get(Math.min(Math.max(p, 0), tokens.size() - 1)).getLine();
+
+        ParserRuleContext root = ctx;
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        ParserRuleContext unit = root;
+        for (ParserRuleContext c = ctx; c != root; c = c.getParent()) {
+            if (c.getStart() != null && root.getStart() != null && c.getStart().getTokenIndex() != root.getStart().getTokenIndex()) {
+                unit = c;
+            }
+        }
+        int startLine = unit != root ? unit.getStart().getLine() : lastChildLine(ctx, endLine);
+        return new ParseTimeoutException(deadline.getTimeoutMillis(), startLine, endLine, root);
+    }
+
+    /**
+     * 문장 사이(목록 규칙)에서 중단된 경우 마지막으로 완성된 자식의 끝 라인
+     */
+    private static int lastChildLine(ParserRuleContext ctx, int fallback) {
+        ParseTree last = ctx.getChildCount() > 0 ? ctx.getChild(ctx.getChildCount() - 1) : null;
+        if (last instanceof TerminalNode) {
+            return ((TerminalNode) last).getSymbol().getLine();
+        }
+        if (last instanceof ParserRuleContext && ((ParserRuleContext) last).getStop() != null) {
+            return ((ParserRuleContext) last).getStop().getLine();
+        }
+        return ctx.getStart() != null ? Math.min(ctx.getStart().getLine(), fallback) : fallback;
+    }
+}
@@ -0,0 +1,103 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 문법별 DFA 캐시 상한 관리
+ * - 생성 파서의 static decisionToDFA 배열은 입력이 다양할수록 계속 커지므로 문법별 추정 크기를 주기적으로 점검
+ * - 상한 초과 시 해당 문법의 파서/렉서 DFA를 비우고(clearDFA) 워밍업 코퍼스로 다시 채움
+ * - parser.dfa.max-megabytes: 문법별 상한 (0 이하면 최대 힙의 1/8)
+ * - parser.dfa.check-interval: 몇 번의 파싱마다 크기를 점검할지 (DFA 순회 비용 절감)
+ */
+@Slf4j
+@Component
+public class DfaCacheManager {
+
+    private final ParserWarmup parserWarmup;
+    private final ParsingExecutor parsingExecutor;
+    private final long maxBytes;
+    private final int checkInterval;
+    private final Map<String, AtomicLong> parseCounts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicBoolean> evicting = new ConcurrentHashMap<>();
+
+    public DfaCacheManager(ParserPoolRegistry parserPoolRegistry,
+                           ParserWarmup parserWarmup,
+                           ParsingExecutor parsingExecutor,
+                           @Value("${parser.dfa.max-megabytes:0}") long maxMegabytes,
+                           @Value("${parser.dfa.check-interval:100}") int checkInterval) {
+        this.parserWarmup = parserWarmup;
+        this.parsingExecutor = parsingExecutor;
+        this.maxBytes = maxMegabytes > 0 ? maxMegabytes * 1024 * 1024 : Runtime.getRuntime().maxMemory() / 8;
+        this.checkInterval = Math.max(1, checkInterval);
+        for (ParserPool<?, ?> pool : parserPoolRegistry.all()) {
+            parseCounts.put(pool.getGrammarName(), new AtomicLong());
+            evicting.put(pool.getGrammarName(), new AtomicBoolean());
+            pool.setReleaseHook(this::afterParse);
+        }
+        log.info("DFA 캐시 상한 - 문법별 {}MB, 점검 주기: {}회 파싱마다", this.maxBytes / (1024 * 1024), this.checkInterval);
+    }
+
+    /**
+     * 파싱 종료(풀 반납) 시 호출되어 점검 주기마다 상한 초과 여부 확인
+     * @param pool 반납된 문법 풀
+     */
+    private void afterParse(ParserPool<?, ?> pool) {
+        if (parseCounts.get(pool.getGrammarName()).incrementAndGet() % checkInterval != 0) {
+            return;
+        }
+        enforce(pool);
+    }
+
+    /**
+     * 상한 초과 시 DFA 비우기 + 비동기 재워밍업 (문법별로 동시에 하나만 수행)
+     * @param pool 점검 대상 풀
+     * @return 비우기를 수행했으면 true
+     */
+    public boolean enforce(ParserPool<?, ?> pool) {
+        String grammar = pool.getGrammarName();
+        AtomicBoolean inProgress = evicting.get(grammar);
+        if (!inProgress.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            DfaStatistics current = pool.dfaStatistics();
+            if (current.getEstimatedBytes() <= maxBytes) {
+                return false;
+            }
+
+            long start = System.nanoTime();
+            DfaStatistics before = pool.clearDfa();
+            DfaStatistics after = pool.dfaStatistics();
+            log.warn("[DFA 캐시 비우기] {} - 상태 {} → {}개, 추정 {}KB → {}KB (상한 {}KB), 대기+비우기 {}ms, 누적 {}회",
+                    grammar,
+                    before.getStateCount(), after.getStateCount(),
+                    before.getEstimatedBytes() / 1024, after.getEstimatedBytes() / 1024,
+                    maxBytes / 1024,
+                    (System.nanoTime() - start) / 1_000_000,
+                    pool.getEvictionCount());
+
+            parsingExecutor.submit(() -> {
+                parserWarmup.rewarm(grammar);
+                return null;
+            });
+            return true;
+        } finally {
+            inProgress.set(false);
+        }
+    }
+
+    /**
+     * 문법별 상한 (바이트)
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+}
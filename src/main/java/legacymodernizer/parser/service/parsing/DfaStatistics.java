@@ -0,0 +1,116 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+
+/**
+ * 문법별 ANTLR DFA 캐시 통계
+ * - 상태 수/간선 수/ATN 설정 수를 세고 대략적인 힙 사용량을 추정
+ * - 추정치는 객체 헤더/참조 크기를 고정값으로 가정한 근사값
+ */
+public final class DfaStatistics {
+
+    private static final long STATE_BYTES = 80;
+    private static final long EDGE_SLOT_BYTES = 4;
+    private static final long CONFIG_BYTES = 48;
+    private static final long CONTEXT_BYTES = 40;
+
+    private final String grammarName;
+    private final int parserDecisions;
+    private final long parserStates;
+    private final long lexerStates;
+    private final long edgeSlots;
+    private final long configs;
+    private final long sharedContexts;
+
+    private DfaStatistics(String grammarName, int parserDecisions, long parserStates, long lexerStates,
+                          long edgeSlots, long configs, long sharedContexts) {
+        this.grammarName = grammarName;
+        this.parserDecisions = parserDecisions;
+        this.parserStates = parserStates;
+        this.lexerStates = lexerStates;
+        this.edgeSlots = edgeSlots;
+        this.configs = configs;
+        this.sharedContexts = sharedContexts;
+    }
+
+    /**
+     * DFA 배열을 순회하며 통계 수집
+     * - DFA.states는 ANTLR가 자체적으로 동기화하므로 같은 모니터로 잠근 뒤 순회
+     * @param grammarName 문법명
+     * @param parserDfa 파서 decisionToDFA
+     * @param lexerDfa 렉서 decisionToDFA
+     * @param contextCache 파서 공유 PredictionContext 캐시
+     * @return 통계
+     */
+    public static DfaStatistics collect(String grammarName, DFA[] parserDfa, DFA[] lexerDfa, PredictionContextCache contextCache) {
+        long[] parser = count(parserDfa);
+        long[] lexer = count(lexerDfa);
+        return new DfaStatistics(grammarName,
+                parserDfa.length,
+                parser[0],
+                lexer[0],
+                parser[1] + lexer[1],
+                parser[2] + lexer[2],
+                contextCache != null ? contextCache.size() : 0);
+    }
+
+    /**
+     * @return {상태 수, 간선 슬롯 수, ATN 설정 수}
+     */
+    private static long[] count(DFA[] dfas) {
+        long states = 0;
+        long edges = 0;
+        long configs = 0;
+        for (DFA dfa : dfas) {
+            if (dfa == null) continue;
+            synchronized (dfa.states) {
+                for (DFAState state : dfa.states.keySet()) {
+                    states++;
+                    if (state.edges != null) edges += state.edges.length;
+                    if (state.configs != null) configs += state.configs.size();
+                }
+            }
+        }
+        return new long[] { states, edges, configs };
+    }
+
+    public String getGrammarName() {
+        return grammarName;
+    }
+
+    public long getStateCount() {
+        return parserStates + lexerStates;
+    }
+
+    /**
+     * 추정 힙 사용량 (바이트)
+     */
+    public long getEstimatedBytes() {
+        return getStateCount() * STATE_BYTES
+                + edgeSlots * EDGE_SLOT_BYTES
+                + configs * CONFIG_BYTES
+                + sharedContexts * CONTEXT_BYTES;
+    }
+
+    /**
+     * 응답용 맵 변환
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("grammar", grammarName);
+        map.put("parserDecisions", parserDecisions);
+        map.put("parserDfaStates", parserStates);
+        map.put("lexerDfaStates", lexerStates);
+        map.put("dfaStates", getStateCount());
+        map.put("edgeSlots", edgeSlots);
+        map.put("atnConfigs", configs);
+        map.put("sharedContexts", sharedContexts);
+        map.put("estimatedBytes", getEstimatedBytes());
+        return map;
+    }
+}
@@ -1,24 +1,20 @@
 package legacymodernizer.parser.service.parsing;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileWriter;
-import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import legacymodernizer.parser.antlr.NodeTree;
 import legacymodernizer.parser.antlr.dml_postgresql.CustomDmlPostgreSQLListener;
 import legacymodernizer.parser.antlr.dml_postgresql.PostgreSQLLexer;
 import legacymodernizer.parser.antlr.dml_postgresql.PostgreSQLParser;
 import legacymodernizer.parser.service.PlSqlFileParserService;
-import lombok.RequiredArgsConstructor;
+import legacymodernizer.parser.service.parsing.ParseMetrics.Phase;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -27,10 +23,34 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class DmlPostgreSqlParserStrategy implements DbmsParserStrategy {
     
+    /** 최상위 단위 경계: ; 바로 뒤의 CREATE */
+    private static final SplitParser.Boundary TOP_LEVEL = (type, previous, beforePrevious) ->
+            type == PostgreSQLParser.CREATE && previous == PostgreSQLParser.SEMI;
+
+    /** 파스 트리 가지치기 (리스너는 시작/끝 토큰만 사용) */
+    private static final ParseTreePruner.Spec PRUNE = ParseTreePruner.Spec.of(CustomDmlPostgreSQLListener.RULES);
+
     private final PlSqlFileParserService plSqlFileParserService;
+    private final ParseMetrics parseMetrics;
+    private final ParsePipeline<PostgreSQLLexer, PostgreSQLParser, PostgreSQLParser.RootContext, CustomDmlPostgreSQLListener> pipeline;
+
+    public DmlPostgreSqlParserStrategy(PlSqlFileParserService plSqlFileParserService,
+                                       TwoStageParser twoStageParser,
+                                       ParserPoolRegistry parserPoolRegistry,
+                                       ParseMetrics parseMetrics,
+                                       SplitParser splitParser,
+                                       ParseTreePruningPolicy parseTreePruningPolicy,
+                                       StreamingOutputPolicy streamingOutputPolicy) {
+        this.plSqlFileParserService = plSqlFileParserService;
+        this.parseMetrics = parseMetrics;
+        this.pipeline = ParsePipeline.builder(getSupportedDbmsType(), parserPoolRegistry.dmlPostgresql(),
+                        PostgreSQLParser::root, PostgreSQLParser.StmtmultiContext.class, CustomDmlPostgreSQLListener::new)
+                .split(PostgreSQLParser.OPEN_PAREN, PostgreSQLParser.CLOSE_PAREN, TOP_LEVEL)
+                .prune(PRUNE)
+                .build(twoStageParser, parseMetrics, splitParser, parseTreePruningPolicy, streamingOutputPolicy);
+    }
     
     @Override
     public Map<String, Object> processUploadByMetadata(String sessionUUID,
@@ -38,55 +58,81 @@ public class DmlPostgreSqlParserStrategy implements DbmsParserStrategy {
                                                       Object systemsObj,
                                                       Object ddlObj,
                                                       Object seqObj,
-                                                      Map<String, MultipartFile> nameToFile) {
+                                                      Map<String, MultipartFile> nameToFile,
+                                                      boolean includeContent,
+                                                      Consumer<Map<String, String>> fileSink) {
         // 파일 업로드 로직은 DBMS에 관계없이 동일하므로 재사용
         return plSqlFileParserService.processUploadByMetadata(
-            sessionUUID, projectName, systemsObj, ddlObj, seqObj, nameToFile
+            sessionUUID, projectName, systemsObj, ddlObj, seqObj, nameToFile, includeContent, fileSink
         );
     }
     
     @Override
     public Map<String, Object> processParsingBySystems(String sessionUUID,
                                                       String projectName,
-                                                      List<?> systems) {
+                                                      List<?> systems,
+                                                      AnalysisFormat format,
+                                                      boolean includeContent,
+                                                      ParsingProgress progress) {
         // DML/DDL 전용 PostgreSQL 파싱 전략을 사용하여 처리
         return plSqlFileParserService.processParsingBySystemsWithStrategy(
             sessionUUID, 
             projectName, 
-            systems, 
-            this::parseFile
+            systems,
+            format,
+            includeContent,
+            getSupportedDbmsType(),
+            getAnalysisVersion(),
+            progress,
+            (source, outputPath) -> parseFile(source, outputPath, format)
         );
     }
     
     @Override
-    public void parseFile(File file, String outputPath) throws Exception {
+    public void parseFile(SourceText source, String outputPath, AnalysisFormat format) throws Exception {
         log.debug("      [ANTLR DML/DDL PostgreSQL 파싱 시작]");
-        try (InputStream in = new FileInputStream(file)) {
-            CharStream charStream = CharStreams.fromStream(in);
-            PostgreSQLLexer lexer = new PostgreSQLLexer(charStream);
-            CommonTokenStream tokens = new CommonTokenStream(lexer);
-            PostgreSQLParser parser = new PostgreSQLParser(tokens);
-            
-            // PostgreSQL 파서의 root 규칙 실행
-            PostgreSQLParser.RootContext tree = parser.root();
-            
-            // CustomDmlPostgreSQLListener로 파싱 (DML/DDL 전용)
-            CustomDmlPostgreSQLListener listener = new CustomDmlPostgreSQLListener(tokens);
-            new ParseTreeWalker().walk(listener, tree);
-            
-            // 분석 결과 저장
-            File analysisFile = new File(outputPath);
-            try (FileWriter writer = new FileWriter(analysisFile)) {
-                writer.write(listener.getRoot().toJson());
-            }
-            log.debug("      → 분석 결과 저장: {}", analysisFile.getName());
+        String type = getSupportedDbmsType();
+        long start = System.nanoTime();
+        CharStream input = source.toCharStream();
+        parseMetrics.record(type, Phase.DECODE, start);
+        NodeTree root = pipeline.parse(input, source.getName(), new File(outputPath), format);
+        if (root == null) {
+            log.debug("      → 분석 결과 스트리밍 저장: {} ({})", new File(outputPath).getName(), format);
+            return;
         }
+
+        // 분석 결과 저장
+        start = System.nanoTime();
+        long bytes = format.write(root, outputPath);
+        parseMetrics.record(type, Phase.WRITE, start);
+        parseMetrics.recordNodes(type, root);
+        parseMetrics.recordBytesWritten(type, bytes);
+        log.debug("      → 분석 결과 저장: {} ({})", new File(outputPath).getName(), format);
     }
-    
+
+    @Override
+    public NodeTree parse(CharStream input, String sourceName) {
+        return pipeline.parse(input, sourceName, null, null);
+    }
+
     @Override
     public String getSupportedDbmsType() {
         return "dml_postgresql";
     }
+
+    /**
+     * 2: 원본을 감지한 문자셋(UTF-8/EUC-KR/MS949)으로 디코딩해 파서에 전달 (이전에는 항상 UTF-8)
+     */
+    @Override
+    public String getAnalysisVersion() {
+        return "2";
+    }
+
+    @Override
+    public String getWarmupCorpusDirectory() {
+        // 문법이 동일하므로 PostgreSQL 워밍업 코퍼스 공유
+        return "postgresql";
+    }
 }
 
 
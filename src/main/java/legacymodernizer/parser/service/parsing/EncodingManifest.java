@@ -0,0 +1,133 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로젝트별 원본 인코딩 매니페스트 ({프로젝트 루트}/.encodings)
+ * - 프로젝트 루트 기준 상대 경로 → {charset, size, lastModified}
+ * - 크기와 수정 시각이 같으면 기록된 인코딩을 그대로 사용 (판별 생략), 다르면 다시 판별
+ * - 요청 단위로 읽고(load) 새로 판별한 항목이 있으면 요청 끝에 저장(save)
+ * - 여러 파싱 스레드에서 동시에 조회/기록 가능
+ */
+@Slf4j
+public final class EncodingManifest {
+
+    /** 매니페스트 파일명 */
+    public static final String FILE_NAME = ".encodings";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path root;
+    private final Map<String, Entry> entries;
+    private volatile boolean dirty;
+
+    private EncodingManifest(Path root, Map<String, Entry> entries) {
+        this.root = root;
+        this.entries = entries;
+    }
+
+    /**
+     * 프로젝트 매니페스트 읽기
+     * @param projectRoot 프로젝트 루트 디렉터리
+     * @return 매니페스트 (없거나 손상된 경우 빈 매니페스트)
+     */
+    public static EncodingManifest load(String projectRoot) {
+        Path root = Path.of(projectRoot).toAbsolutePath().normalize();
+        Map<String, Entry> entries = new ConcurrentHashMap<>();
+        File file = root.resolve(FILE_NAME).toFile();
+        if (file.isFile()) {
+            try {
+                entries.putAll(MAPPER.readValue(file, new TypeReference<Map<String, Entry>>() {
+                }));
+            } catch (IOException e) {
+                log.debug("[encoding] 매니페스트 무시 (손상) - {}", file.getPath());
+            }
+        }
+        return new EncodingManifest(root, entries);
+    }
+
+    /**
+     * 기록된 인코딩 조회
+     * @param file 원본 파일
+     * @return 인코딩 (기록이 없거나 파일이 바뀌었으면 null)
+     */
+    public Charset lookup(File file) {
+        Entry entry = entries.get(key(file));
+        if (entry == null || entry.size != file.length() || entry.lastModified != file.lastModified()) {
+            return null;
+        }
+        try {
+            return Charset.forName(entry.charset);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 판별한 인코딩 기록
+     * @param file 원본 파일
+     * @param charset 인코딩
+     */
+    public void record(File file, Charset charset) {
+        Entry entry = new Entry();
+        entry.charset = charset.name();
+        entry.size = file.length();
+        entry.lastModified = file.lastModified();
+        entries.put(key(file), entry);
+        dirty = true;
+    }
+
+    /**
+     * 변경 사항이 있으면 저장 (임시 파일에 쓴 뒤 교체, 실패해도 요청은 계속)
+     */
+    public void save() {
+        if (!dirty || !Files.isDirectory(root)) {
+            return;
+        }
+        dirty = false;
+        Path target = root.resolve(FILE_NAME);
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(root, FILE_NAME, ".tmp");
+            MAPPER.writeValue(tmp.toFile(), new TreeMap<>(entries));
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("[encoding] 매니페스트 저장 실패 - {}: {}", target, e.getMessage());
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // 임시 파일 정리 실패는 무시
+                }
+            }
+        }
+    }
+
+    private String key(File file) {
+        Path path = file.toPath().toAbsolutePath().normalize();
+        return path.startsWith(root) ? root.relativize(path).toString().replace('\\', '/') : path.toString();
+    }
+
+    /**
+     * 매니페스트 항목
+     */
+    static final class Entry {
+        public String charset;
+        public long size;
+        public long lastModified;
+    }
+}
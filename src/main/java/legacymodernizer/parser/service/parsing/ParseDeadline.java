@@ -0,0 +1,113 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 단위 파싱 제한 시각
+ * - 제한 시각에 타이머 스레드가 만료 플래그(volatile)를 세우고, 토큰 스트림은 LA()마다 플래그만 읽음 (시각 조회 비용 없음)
+ * - bind()로 현재 스레드에 연결하면 그 스레드에서 대여한 풀 Lexer/Parser가 토큰 스트림에서 확인 (협조적 취소)
+ * - 파일 내부 보조 작업(분할 구간, PL/pgSQL 본문)은 ParsingExecutor.runCooperatively()가 같은 제한 시각을 연결해 실행
+ * - 초과 시 ParseTimeoutException 발생
+ */
+public final class ParseDeadline {
+
+    /** 제한 없음 */
+    public static final ParseDeadline NONE = new ParseDeadline(0);
+
+    private static final ThreadLocal<ParseDeadline> CURRENT = ThreadLocal.withInitial(() -> NONE);
+
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+    private final long timeoutMillis;
+    private volatile boolean expired;
+    private ScheduledFuture<?> timer;
+
+    private ParseDeadline(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 지금부터 timeoutMillis 뒤를 제한 시각으로 생성 (사용 후 cancel() 호출)
+     * @param timeoutMillis 제한 시간 (0 이하면 제한 없음)
+     * @return 제한 시각
+     */
+    public static ParseDeadline after(long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            return NONE;
+        }
+        ParseDeadline deadline = new ParseDeadline(timeoutMillis);
+        deadline.timer = TIMER.schedule(() -> {
+            deadline.expired = true;
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+        return deadline;
+    }
+
+    /**
+     * 현재 스레드에 연결된 제한 시각
+     * @return 제한 시각 (연결되지 않았으면 NONE)
+     */
+    public static ParseDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드에 연결 (finally에서 Scope.close()로 이전 상태 복원)
+     * @return 연결 범위
+     */
+    public Scope bind() {
+        ParseDeadline previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == NONE) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * 제한 시각 경과 여부
+     * @return 경과했으면 true (NONE은 항상 false)
+     */
+    public boolean isExpired() {
+        return expired;
+    }
+
+    /**
+     * 타이머 해제 (파일 파싱 종료 시)
+     */
+    public void cancel() {
+        if (timer != null) {
+            timer.cancel(false);
+        }
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setName("parse-deadline");
+            t.setDaemon(true);
+            return t;
+        });
+        // 제한 시간 전에 끝난 파일의 타이머는 큐에서 바로 제거
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * 스레드 연결 범위
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
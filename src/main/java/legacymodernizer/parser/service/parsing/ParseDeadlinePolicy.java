@@ -0,0 +1,34 @@
+package legacymodernizer.parser.service.parsing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일 단위 파싱 제한 시간 설정
+ * - parser.parsing.deadline-seconds: 파일 하나의 렉싱/파싱 제한 시간 (0 이하면 제한 없음)
+ * - parser.parsing.deadline.partial: 초과 시 그때까지 만든 부분 분석 트리를 {파일명}.partial.json으로 저장할지 여부
+ */
+@Component
+public class ParseDeadlinePolicy {
+
+    private final long timeoutMillis;
+    private final boolean partialEnabled;
+
+    public ParseDeadlinePolicy(@Value("${parser.parsing.deadline-seconds:0}") long deadlineSeconds,
+                               @Value("${parser.parsing.deadline.partial:true}") boolean partialEnabled) {
+        this.timeoutMillis = Math.max(0, deadlineSeconds) * 1000;
+        this.partialEnabled = partialEnabled;
+    }
+
+    /**
+     * 파일 파싱 시작 시 제한 시각 생성
+     * @return 제한 시각 (설정이 0이면 NONE)
+     */
+    public ParseDeadline start() {
+        return ParseDeadline.after(timeoutMillis);
+    }
+
+    public boolean isPartialEnabled() {
+        return partialEnabled;
+    }
+}
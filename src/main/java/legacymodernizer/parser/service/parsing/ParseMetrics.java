@@ -0,0 +1,141 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import legacymodernizer.parser.antlr.NodeTree;
+
+/**
+ * 파싱 단계별 Micrometer 지표
+ * - parser.phase: 단계별 소요 시간 (strategy, phase 태그 / 히스토그램 포함)
+ * - parser.file: 파일 단위 전체 소요 시간 (strategy, source=parsed|cached|shared|global-cache|timeout)
+ * - parser.tokens / parser.nodes / parser.output.bytes: 파일당 토큰 수, 분석 노드 수, 저장 바이트 수
+ * - /actuator/prometheus 로 노출
+ * - 워밍업 파싱은 runUnrecorded로 감싸 운영 지표에서 제외
+ */
+@Component
+public class ParseMetrics {
+
+    /**
+     * 파싱 단계
+     * - LOOKUP: 프로젝트 파일 인덱스에서 원본 검색 + 원본 바이트 읽기
+     * - DECODE: 인코딩 판별 + 문자 디코딩
+     * - LEX: 전체 토큰화
+     * - PARSE: 시작 규칙 파싱 (SLL → LL 포함)
+     * - WALK: 리스너 순회 (분석 트리 구성)
+     * - WRITE: 분석 결과 저장 (JSON/바이너리)
+     */
+    public enum Phase {
+        LOOKUP, DECODE, LEX, PARSE, WALK, WRITE;
+
+        private final String tag = name().toLowerCase();
+    }
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> phaseTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> fileTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+    private final ThreadLocal<Boolean> unrecorded = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    public ParseMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 현재 스레드에서 지표 기록 없이 작업 실행 (워밍업용)
+     * @param task 실행할 작업
+     */
+    public void runUnrecorded(Runnable task) {
+        unrecorded.set(Boolean.TRUE);
+        try {
+            task.run();
+        } finally {
+            unrecorded.remove();
+        }
+    }
+
+    /**
+     * 단계 소요 시간 기록
+     * @param strategyType 전략 타입 (oracle, postgresql, dml_postgresql)
+     * @param phase 파싱 단계
+     * @param startNanos 단계 시작 시각 (System.nanoTime)
+     */
+    public void record(String strategyType, Phase phase, long startNanos) {
+        if (unrecorded.get()) return;
+        phaseTimers.computeIfAbsent(strategyType + '|' + phase.tag, k -> Timer.builder("parser.phase")
+                        .description("파싱 단계별 소요 시간")
+                        .tag("strategy", strategyType)
+                        .tag("phase", phase.tag)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(100_000))
+                        .maximumExpectedValue(Duration.ofMinutes(2))
+                        .register(registry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 파일 단위 전체 소요 시간 기록
+     * @param strategyType 전략 타입
+     * @param source 분석 결과 출처 (parsed/cached/shared/global-cache, 제한 시간 초과는 timeout)
+     * @param startNanos 처리 시작 시각 (System.nanoTime)
+     */
+    public void recordFile(String strategyType, String source, long startNanos) {
+        if (unrecorded.get()) return;
+        fileTimers.computeIfAbsent(strategyType + '|' + source, k -> Timer.builder("parser.file")
+                        .description("파일 단위 분석 소요 시간")
+                        .tag("strategy", strategyType)
+                        .tag("source", source)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(100_000))
+                        .maximumExpectedValue(Duration.ofMinutes(2))
+                        .register(registry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 파일당 토큰 수 기록
+     */
+    public void recordTokens(String strategyType, int tokens) {
+        if (unrecorded.get()) return;
+        summary("parser.tokens", "파일당 토큰 수", null, strategyType).record(tokens);
+    }
+
+    /**
+     * 분석 트리 노드 수 기록
+     */
+    public void recordNodes(String strategyType, NodeTree tree) {
+        if (unrecorded.get()) return;
+        summary("parser.nodes", "파일당 분석 노드 수", null, strategyType).record(tree.nodeCount());
+    }
+
+    /**
+     * 분석 노드 수 기록 (스트리밍 출력처럼 트리를 남기지 않은 경우)
+     */
+    public void recordNodes(String strategyType, long count) {
+        if (unrecorded.get()) return;
+        summary("parser.nodes", "파일당 분석 노드 수", null, strategyType).record(count);
+    }
+
+    /**
+     * 분석 결과 저장 바이트 수 기록
+     */
+    public void recordBytesWritten(String strategyType, long bytes) {
+        if (unrecorded.get()) return;
+        summary("parser.output.bytes", "파일당 분석 결과 저장 바이트 수", "bytes", strategyType).record(bytes);
+    }
+
+    private DistributionSummary summary(String name, String description, String baseUnit, String strategyType) {
+        return summaries.computeIfAbsent(name + '|' + strategyType, k -> DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(baseUnit)
+                .tag("strategy", strategyType)
+                .register(registry));
+    }
+}
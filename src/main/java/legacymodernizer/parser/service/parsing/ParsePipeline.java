@@ -0,0 +1,288 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.TokenSource;
+
+import legacymodernizer.parser.antlr.NodeTree;
+import legacymodernizer.parser.antlr.NodeTreeListener;
+import legacymodernizer.parser.service.parsing.ParseMetrics.Phase;
+import legacymodernizer.parser.service.parsing.ParserPool.PooledParser;
+
+/**
+ * 문법 공통 파싱 파이프라인 (전략은 문법별 구성만 넘김)
+ * - 토큰화 → 스트리밍 출력 판정 → 분할 병렬 파싱 시도 → 가지치기 + 2단계 파싱 → 순회 → 완성 처리
+ * - 제한 시간 초과 시 중단 시점까지의 파스 트리로 부분 분석 트리 구성
+ * - 단계별 시간/토큰 수/노드 수를 ParseMetrics에 기록
+ * - 완성 처리(Completion): 분석 트리를 내보내기 직전 처리 (PostgreSQL은 미뤄 둔 PL/pgSQL 본문을 파싱해 연결)
+ *   전체 트리는 순회 직후, 분할 구간은 균형 확인 후, 스트리밍은 단위 출력 직전에 호출
+ */
+public final class ParsePipeline<L extends Lexer, P extends Parser, T extends ParserRuleContext, N extends NodeTreeListener> {
+
+    /**
+     * 분석 트리 완성 처리
+     */
+    @FunctionalInterface
+    public interface Completion<N> {
+        /**
+         * @param listener 순회를 마친 분석 리스너
+         * @param sourceName 파일명 (로그용)
+         */
+        void complete(N listener, String sourceName);
+    }
+
+    private final String strategyType;
+    private final ParserPool<L, P> pool;
+    private final Function<P, T> startRule;
+    private final Class<? extends ParserRuleContext> containerType;
+    private final Function<CommonTokenStream, N> listenerFactory;
+    private final Completion<N> completion;
+    private final int openParen;
+    private final int closeParen;
+    private final SplitParser.Boundary boundary;
+    private final ParseTreePruner.Spec prune;
+    private final TwoStageParser twoStageParser;
+    private final ParseMetrics parseMetrics;
+    private final SplitParser splitParser;
+    private final ParseTreePruningPolicy parseTreePruningPolicy;
+    private final StreamingOutputPolicy streamingOutputPolicy;
+
+    private ParsePipeline(Builder<L, P, T, N> builder) {
+        this.strategyType = builder.strategyType;
+        this.pool = builder.pool;
+        this.startRule = builder.startRule;
+        this.containerType = builder.containerType;
+        this.listenerFactory = builder.listenerFactory;
+        this.completion = builder.completion;
+        this.openParen = builder.openParen;
+        this.closeParen = builder.closeParen;
+        this.boundary = builder.boundary;
+        this.prune = builder.prune;
+        this.twoStageParser = builder.twoStageParser;
+        this.parseMetrics = builder.parseMetrics;
+        this.splitParser = builder.splitParser;
+        this.parseTreePruningPolicy = builder.parseTreePruningPolicy;
+        this.streamingOutputPolicy = builder.streamingOutputPolicy;
+    }
+
+    /**
+     * @param strategyType 전략 타입 (메트릭 태그)
+     * @param pool 문법 파서 풀
+     * @param startRule 시작 규칙 (예: PlSqlParser::sql_script)
+     * @param containerType 최상위 문장 목록 규칙 컨텍스트 타입 (스트리밍 단위)
+     * @param listenerFactory 분석 리스너 생성 (토큰 스트림마다 새 인스턴스)
+     * @return 빌더
+     */
+    public static <L extends Lexer, P extends Parser, T extends ParserRuleContext, N extends NodeTreeListener>
+            Builder<L, P, T, N> builder(String strategyType,
+                                        ParserPool<L, P> pool,
+                                        Function<P, T> startRule,
+                                        Class<? extends ParserRuleContext> containerType,
+                                        Function<CommonTokenStream, N> listenerFactory) {
+        return new Builder<>(strategyType, pool, startRule, containerType, listenerFactory);
+    }
+
+    // ========================================
+    // 파싱
+    // ========================================
+
+    /**
+     * 파싱 + 순회 (스트리밍 출력 대상이면 최상위 단위마다 바로 저장)
+     * @param input 입력 문자 스트림
+     * @param sourceName 파일명 (로그용)
+     * @param output 분석 결과 파일 (null이면 저장하지 않는 호출)
+     * @param format 저장 형식
+     * @return 분석 트리, 스트리밍으로 저장했으면 null
+     */
+    public NodeTree parse(CharStream input, String sourceName, File output, AnalysisFormat format) {
+        try (PooledParser<L, P> pooled = pool.borrow(input)) {
+            // 토큰화를 먼저 끝내 렉싱/파싱 시간을 분리 측정 (파서는 버퍼링된 토큰을 그대로 사용)
+            long start = System.nanoTime();
+            pooled.tokens().fill();
+            parseMetrics.record(strategyType, Phase.LEX, start);
+            parseMetrics.recordTokens(strategyType, pooled.tokens().size());
+            if (output != null && streamingOutputPolicy.accepts(format, pooled.tokens().size())) {
+                stream(pooled, sourceName, output);
+                return null;
+            }
+
+            // 큰 파일은 최상위 단위로 나눠 병렬 파싱 + 순회 (나누지 않았거나 실패하면 아래 순차 파싱)
+            start = System.nanoTime();
+            NodeTree split = splitParser.parse(strategyType, sourceName, pooled.tokens(), openParen, closeParen, boundary,
+                    source -> parseChunk(source, sourceName));
+            if (split != null) {
+                parseMetrics.record(strategyType, Phase.PARSE, start);
+                return split;
+            }
+
+            // 시작 규칙 실행 (SLL → LL 2단계)
+            start = System.nanoTime();
+            T tree;
+            parseTreePruningPolicy.install(pooled.parser(), prune);
+            try {
+                tree = twoStageParser.parse(strategyType, sourceName, pooled.parser(), startRule);
+            } catch (ParseTimeoutException e) {
+                // 제한 시간 초과: 중단 시점까지의 파스 트리로 부분 분석 트리 구성 (완성 처리 제외)
+                N partial = listenerFactory.apply(pooled.tokens());
+                throw e.withPartialTree(partial, partial::getTree);
+            }
+            parseMetrics.record(strategyType, Phase.PARSE, start);
+
+            start = System.nanoTime();
+            N listener = listenerFactory.apply(pooled.tokens());
+            listener.walk(tree);
+            try {
+                completion.complete(listener, sourceName);
+            } catch (ParseTimeoutException e) {
+                throw e.withPartialRoot(listener.getTree());
+            }
+            parseMetrics.record(strategyType, Phase.WALK, start);
+            return listener.getTree();
+        }
+    }
+
+    /**
+     * 최상위 단위 스트리밍 파싱 + 순회 + 저장 (분할 없이 순차, 단위가 끝날 때마다 순회 후 출력)
+     * - 파싱/순회/저장이 겹치므로 시간은 PARSE 단계에 합산
+     * @param pooled 렉싱이 끝난 파서
+     * @param sourceName 파일명 (로그용)
+     * @param output 분석 결과 파일
+     */
+    private void stream(PooledParser<L, P> pooled, String sourceName, File output) {
+        long start = System.nanoTime();
+        StreamingUnitWalker<N> walker = new StreamingUnitWalker<>(pooled.parser(), output, containerType,
+                () -> listenerFactory.apply(pooled.tokens()), listener -> completion.complete(listener, sourceName));
+        parseTreePruningPolicy.install(pooled.parser(), prune);
+        pooled.parser().addParseListener(walker);
+        try {
+            T tree = twoStageParser.parse(strategyType, sourceName, pooled.parser(), startRule);
+            long bytes = walker.finish(tree);
+            parseMetrics.record(strategyType, Phase.PARSE, start);
+            parseMetrics.recordNodes(strategyType, walker.getNodeCount());
+            parseMetrics.recordBytesWritten(strategyType, bytes);
+        } catch (ParseTimeoutException e) {
+            // 제한 시간 초과: 이미 저장한 단위 + 중단된 단위의 부분 노드로 부분 분석 파일 구성
+            throw walker.timeout(e);
+        } catch (IOException e) {
+            walker.abort();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            walker.abort();
+            throw e;
+        }
+    }
+
+    /**
+     * 분할 구간 파싱 + 순회 (파싱 스레드에서 동시에 실행)
+     * @param source 구간 토큰 소스
+     * @param sourceName 파일명 (로그용)
+     * @return 구간 분석 트리, 문법 오류가 있거나 리스너 상태가 남으면 null
+     */
+    private NodeTree parseChunk(TokenSource source, String sourceName) {
+        try (PooledParser<L, P> pooled = pool.borrowNested(source)) {
+            parseTreePruningPolicy.install(pooled.parser(), prune);
+            T tree = twoStageParser.parse(strategyType, sourceName, pooled.parser(), startRule);
+            if (pooled.parser().getNumberOfSyntaxErrors() > 0) {
+                return null;
+            }
+            N listener = listenerFactory.apply(pooled.tokens());
+            listener.walk(tree);
+            if (!listener.isBalanced()) {
+                return null;
+            }
+            completion.complete(listener, sourceName);
+            return listener.getTree();
+        }
+    }
+
+    // ========================================
+    // 구성
+    // ========================================
+
+    /**
+     * 파이프라인 빌더 (문법별 구성 + 공통 서비스)
+     */
+    public static final class Builder<L extends Lexer, P extends Parser, T extends ParserRuleContext, N extends NodeTreeListener> {
+
+        private final String strategyType;
+        private final ParserPool<L, P> pool;
+        private final Function<P, T> startRule;
+        private final Class<? extends ParserRuleContext> containerType;
+        private final Function<CommonTokenStream, N> listenerFactory;
+        private Completion<N> completion = (listener, sourceName) -> { };
+        private int openParen;
+        private int closeParen;
+        private SplitParser.Boundary boundary;
+        private ParseTreePruner.Spec prune;
+        private TwoStageParser twoStageParser;
+        private ParseMetrics parseMetrics;
+        private SplitParser splitParser;
+        private ParseTreePruningPolicy parseTreePruningPolicy;
+        private StreamingOutputPolicy streamingOutputPolicy;
+
+        private Builder(String strategyType,
+                        ParserPool<L, P> pool,
+                        Function<P, T> startRule,
+                        Class<? extends ParserRuleContext> containerType,
+                        Function<CommonTokenStream, N> listenerFactory) {
+            this.strategyType = strategyType;
+            this.pool = pool;
+            this.startRule = startRule;
+            this.containerType = containerType;
+            this.listenerFactory = listenerFactory;
+        }
+
+        /**
+         * 분할 병렬 파싱 경계
+         * @param openParen 여는 괄호 토큰 타입
+         * @param closeParen 닫는 괄호 토큰 타입
+         * @param boundary 최상위 단위 경계 판정
+         */
+        public Builder<L, P, T, N> split(int openParen, int closeParen, SplitParser.Boundary boundary) {
+            this.openParen = openParen;
+            this.closeParen = closeParen;
+            this.boundary = boundary;
+            return this;
+        }
+
+        /**
+         * @param prune 파스 트리 가지치기 대상
+         */
+        public Builder<L, P, T, N> prune(ParseTreePruner.Spec prune) {
+            this.prune = prune;
+            return this;
+        }
+
+        /**
+         * @param completion 분석 트리 완성 처리 (기본: 아무것도 하지 않음)
+         */
+        public Builder<L, P, T, N> completion(Completion<N> completion) {
+            this.completion = completion;
+            return this;
+        }
+
+        /**
+         * 공통 서비스 연결 후 생성
+         */
+        public ParsePipeline<L, P, T, N> build(TwoStageParser twoStageParser,
+                                               ParseMetrics parseMetrics,
+                                               SplitParser splitParser,
+                                               ParseTreePruningPolicy parseTreePruningPolicy,
+                                               StreamingOutputPolicy streamingOutputPolicy) {
+            this.twoStageParser = twoStageParser;
+            this.parseMetrics = parseMetrics;
+            this.splitParser = splitParser;
+            this.parseTreePruningPolicy = parseTreePruningPolicy;
+            this.streamingOutputPolicy = streamingOutputPolicy;
+            return new ParsePipeline<>(this);
+        }
+    }
+}
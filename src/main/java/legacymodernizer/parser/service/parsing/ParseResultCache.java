@@ -0,0 +1,293 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import legacymodernizer.parser.antlr.NodeBinaryWriter;
+import legacymodernizer.parser.service.PlSqlFileParserService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션 간 공유 파싱 결과 캐시 (디스크, LRU)
+ * - 키: (전략 타입, 분석 버전, 원본 SHA-256) → {캐시}/{타입}/{버전}/{해시 앞 2자리}/{해시}.json|.ast
+ * - 적중 시 분석 디렉터리로 하드 링크 (다른 파일시스템이면 복사)하여 파싱 생략
+ * - 전체 크기가 parser.cache.max-megabytes를 넘으면 가장 오래 사용하지 않은 항목부터 삭제
+ * - 접근 순서는 메모리(LinkedHashMap 접근 순서)로 관리하고, 재기동 후 복원용 사용 시각은 항목별 표시 파일({해시}.used)의 수정 시각으로 기록
+ *   (결과 파일은 세션 분석 디렉터리에 하드 링크되어 inode/수정 시각을 공유하므로 건드리지 않음 → 세션 파일의 ETag 유지)
+ * - parser.cache.max-megabytes=0 이면 비활성화
+ */
+@Slf4j
+@Component
+public class ParseResultCache {
+
+    private static final String JSON_EXTENSION = ".json";
+    /** 사용 시각 표시 파일 (하드 링크하지 않음) */
+    private static final String USED_EXTENSION = ".used";
+
+    private final Path cacheRoot;
+    private final long maxBytes;
+    private final boolean enabled;
+
+    /** 키 → 항목 크기 (접근 순서 유지, 가장 앞이 가장 오래된 항목) */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ParseResultCache(@Value("${parser.cache.directory:}") String directory,
+                            @Value("${parser.cache.max-megabytes:1024}") long maxMegabytes) {
+        this.cacheRoot = Paths.get(directory == null || directory.isBlank()
+                ? PlSqlFileParserService.getBaseDirectory() + File.separator + ".parse-cache"
+                : directory);
+        this.maxBytes = Math.max(0, maxMegabytes) * 1024 * 1024;
+        this.enabled = maxBytes > 0;
+        if (enabled) {
+            loadIndex();
+            log.info("파싱 결과 캐시 - 경로: {}, 항목: {}개, 크기: {}KB / 상한 {}MB",
+                    cacheRoot, entries.size(), totalBytes / 1024, maxMegabytes);
+        }
+    }
+
+    /**
+     * 캐시 적중 시 분석 결과를 대상 경로로 연결
+     * @param key 매니페스트 (전략 타입/분석 버전/원본 해시)
+     * @param format 필요한 저장 형식
+     * @param jsonPath 대상 JSON 경로 (바이너리는 확장자만 .ast)
+     * @return 적중 여부
+     */
+    public boolean restore(AnalysisManifest key, AnalysisFormat format, String jsonPath) {
+        if (!enabled) {
+            return false;
+        }
+        String entryKey = entryKey(key);
+        Path base = cacheRoot.resolve(entryKey);
+        synchronized (this) {
+            if (entries.get(entryKey) == null || !hasFormat(base, format)) {
+                misses.incrementAndGet();
+                return false;
+            }
+        }
+        try {
+            if (format.includesJson()) {
+                link(withExtension(base, JSON_EXTENSION), Paths.get(jsonPath));
+            }
+            if (format.includesBinary()) {
+                link(withExtension(base, NodeBinaryWriter.EXTENSION), Paths.get(AnalysisFormat.toBinaryPath(jsonPath)));
+            }
+            touch(base);
+            hits.incrementAndGet();
+            return true;
+        } catch (IOException e) {
+            // 동시에 LRU 삭제된 경우 등: 미적중으로 처리하고 파싱
+            log.debug("파싱 결과 캐시 연결 실패 ({}): {}", entryKey, e.getMessage());
+            misses.incrementAndGet();
+            return false;
+        }
+    }
+
+    /**
+     * 분석 결과를 캐시에 저장 (복사 후 원자적 이동)
+     * @param key 매니페스트 (전략 타입/분석 버전/원본 해시)
+     * @param format 저장된 형식
+     * @param jsonPath 분석 JSON 경로
+     */
+    public void store(AnalysisManifest key, AnalysisFormat format, String jsonPath) {
+        if (!enabled) {
+            return;
+        }
+        String entryKey = entryKey(key);
+        Path base = cacheRoot.resolve(entryKey);
+        try {
+            Files.createDirectories(base.getParent());
+            if (format.includesJson()) {
+                copyAtomically(Paths.get(jsonPath), withExtension(base, JSON_EXTENSION));
+            }
+            if (format.includesBinary()) {
+                copyAtomically(Paths.get(AnalysisFormat.toBinaryPath(jsonPath)), withExtension(base, NodeBinaryWriter.EXTENSION));
+            }
+            long size = entrySize(base);
+            touch(base);
+            synchronized (this) {
+                Long previous = entries.put(entryKey, size);
+                totalBytes += size - (previous != null ? previous : 0);
+                evictIfNeeded(entryKey);
+            }
+        } catch (IOException e) {
+            log.warn("파싱 결과 캐시 저장 실패 ({}): {}", entryKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 통계
+     * @return {enabled, directory, entries, totalBytes, maxBytes, hits, misses, evictions}
+     */
+    public synchronized Map<String, Object> getStatistics() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("enabled", enabled);
+        map.put("directory", cacheRoot.toString());
+        map.put("entries", entries.size());
+        map.put("totalBytes", totalBytes);
+        map.put("maxBytes", maxBytes);
+        map.put("hits", hits.get());
+        map.put("misses", misses.get());
+        map.put("evictions", evictions.get());
+        return map;
+    }
+
+    /**
+     * 상한 초과 시 LRU 순으로 삭제 (방금 저장한 항목은 제외)
+     * @param keep 유지할 키
+     */
+    private void evictIfNeeded(String keep) {
+        Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Long> eldest = it.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            Path base = cacheRoot.resolve(eldest.getKey());
+            try {
+                Files.deleteIfExists(withExtension(base, JSON_EXTENSION));
+                Files.deleteIfExists(withExtension(base, NodeBinaryWriter.EXTENSION));
+                Files.deleteIfExists(withExtension(base, USED_EXTENSION));
+            } catch (IOException e) {
+                log.warn("파싱 결과 캐시 삭제 실패 ({}): {}", eldest.getKey(), e.getMessage());
+                continue;
+            }
+            totalBytes -= eldest.getValue();
+            it.remove();
+            evictions.incrementAndGet();
+            log.debug("파싱 결과 캐시 LRU 삭제: {} ({}B)", eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    /**
+     * 기동 시 캐시 디렉터리 스캔 (사용 시각 오름차순 = LRU 순서)
+     * - 사용 시각: 표시 파일의 수정 시각, 표시 파일이 없으면 결과 파일의 수정 시각 (저장 시각)
+     */
+    private void loadIndex() {
+        if (!Files.isDirectory(cacheRoot)) {
+            return;
+        }
+        try (Stream<Path> stream = Files.walk(cacheRoot)) {
+            Map<String, List<Path>> byEntry = stream.filter(Files::isRegularFile)
+                    .filter(p -> p.toString().endsWith(JSON_EXTENSION) || p.toString().endsWith(NodeBinaryWriter.EXTENSION))
+                    .collect(Collectors.groupingBy(p -> cacheRoot.relativize(withoutExtension(p)).toString()));
+            Map<String, Long> lastUsed = new HashMap<>();
+            Map<String, Long> sizes = new HashMap<>();
+            for (Map.Entry<String, List<Path>> entry : byEntry.entrySet()) {
+                long size = 0;
+                long modified = 0;
+                for (Path p : entry.getValue()) {
+                    size += Files.size(p);
+                    modified = Math.max(modified, Files.getLastModifiedTime(p).toMillis());
+                }
+                Path marker = withExtension(cacheRoot.resolve(entry.getKey()), USED_EXTENSION);
+                if (Files.isRegularFile(marker)) {
+                    modified = Files.getLastModifiedTime(marker).toMillis();
+                }
+                sizes.put(entry.getKey(), size);
+                lastUsed.put(entry.getKey(), modified);
+            }
+            lastUsed.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+                    .forEach(e -> {
+                        entries.put(e.getKey(), sizes.get(e.getKey()));
+                        totalBytes += sizes.get(e.getKey());
+                    });
+            evictIfNeeded(null);
+        } catch (IOException e) {
+            log.warn("파싱 결과 캐시 스캔 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String entryKey(AnalysisManifest key) {
+        String digest = key.getSourceSha256();
+        return key.getStrategyType() + File.separator + key.getAnalysisVersion()
+                + File.separator + digest.substring(0, 2) + File.separator + digest;
+    }
+
+    private static boolean hasFormat(Path base, AnalysisFormat format) {
+        return (!format.includesJson() || Files.isRegularFile(withExtension(base, JSON_EXTENSION)))
+                && (!format.includesBinary() || Files.isRegularFile(withExtension(base, NodeBinaryWriter.EXTENSION)));
+    }
+
+    private static long entrySize(Path base) throws IOException {
+        long size = 0;
+        for (String ext : new String[] { JSON_EXTENSION, NodeBinaryWriter.EXTENSION }) {
+            Path p = withExtension(base, ext);
+            if (Files.isRegularFile(p)) {
+                size += Files.size(p);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 하드 링크 생성 (기존 대상은 먼저 삭제, 링크 불가 시 복사)
+     */
+    private static void link(Path source, Path target) throws IOException {
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, source);
+        } catch (NoSuchFileException e) {
+            throw e;
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void copyAtomically(Path source, Path target) throws IOException {
+        Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.copy(source, tmp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * 사용 시각 갱신 (재기동 후 LRU 순서 복원용, 없으면 빈 표시 파일 생성)
+     */
+    private static void touch(Path base) {
+        Path marker = withExtension(base, USED_EXTENSION);
+        if (marker.toFile().setLastModified(System.currentTimeMillis())) {
+            return;
+        }
+        try {
+            Files.write(marker, new byte[0]);
+        } catch (IOException e) {
+            log.debug("파싱 결과 캐시 사용 시각 기록 실패 ({}): {}", base, e.getMessage());
+        }
+    }
+
+    private static Path withExtension(Path base, String extension) {
+        return base.resolveSibling(base.getFileName() + extension);
+    }
+
+    private static Path withoutExtension(Path file) {
+        String name = file.getFileName().toString();
+        return file.resolveSibling(name.substring(0, name.lastIndexOf('.')));
+    }
+}
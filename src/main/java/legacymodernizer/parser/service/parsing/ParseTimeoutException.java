@@ -0,0 +1,115 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.io.File;
+import java.util.function.Supplier;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+
+import legacymodernizer.parser.antlr.NodeTree;
+import legacymodernizer.parser.antlr.NodeTreeListener;
+
+/**
+ * 파일 단위 파싱 제한 시간 초과
+ * - startLine ~ endLine: 중단 시점에 파싱 중이던 최상위 문장 시작 라인 ~ 예측/렉싱이 도달한 라인
+ * - 파서 단계에서 중단되면 그때까지 만든 파스 트리(partialContext)를 보관, 전략이 리스너로 순회해 부분 노드 트리를 연결
+ * - 스트리밍 출력 중 중단되면 노드 트리 대신 이미 닫아 둔 출력 파일(partialFile)을 연결
+ */
+public class ParseTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long timeoutMillis;
+    private final int startLine;
+    private final int endLine;
+    private final transient ParserRuleContext partialContext;
+    private transient NodeTree partialRoot;
+    private transient File partialFile;
+    private String partialAnalysis;
+
+    public ParseTimeoutException(long timeoutMillis, int startLine, int endLine, ParserRuleContext partialContext) {
+        super(String.format("파싱 시간 제한(%dms) 초과 - 라인 %d-%d", timeoutMillis, startLine, endLine));
+        this.timeoutMillis = timeoutMillis;
+        this.startLine = startLine;
+        this.endLine = endLine;
+        this.partialContext = partialContext;
+    }
+
+    /**
+     * 중단 시점까지의 파스 트리를 리스너로 순회해 부분 노드 트리 구성
+     * - 완성되지 않은 문맥에서 리스너가 실패하면 그때까지 만든 노드만 사용
+     * @param listener 전략 리스너 (새 인스턴스)
+     * @param root 리스너 분석 트리
+     * @return this
+     */
+    public ParseTimeoutException withPartialTree(NodeTreeListener listener, Supplier<NodeTree> root) {
+        if (partialContext != null) {
+            try {
+                listener.walk(partialContext);
+            } catch (RuntimeException ignored) {
+                // 부분 트리 순회 실패는 무시
+            }
+            partialRoot = root.get();
+        }
+        return this;
+    }
+
+    /**
+     * 순회가 끝난 뒤(PL/pgSQL 본문 등) 중단된 경우 이미 만든 노드 트리 연결
+     * @param root 리스너 분석 트리
+     * @return this
+     */
+    public ParseTimeoutException withPartialRoot(NodeTree root) {
+        this.partialRoot = root;
+        return this;
+    }
+
+    /**
+     * 스트리밍 출력 중 중단된 경우 부분 분석 JSON 파일 연결 (출력한 단위 + 중단된 단위의 부분 노드)
+     * @param file 닫힌 JSON 출력 파일
+     * @return this
+     */
+    public ParseTimeoutException withPartialFile(File file) {
+        this.partialFile = file;
+        return this;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public int getStartLine() {
+        return startLine;
+    }
+
+    public int getEndLine() {
+        return endLine;
+    }
+
+    /**
+     * 부분 노드 트리
+     * @return 부분 트리 (렉싱/분할 파싱 중 중단되었으면 null)
+     */
+    public NodeTree getPartialRoot() {
+        return partialRoot;
+    }
+
+    /**
+     * 스트리밍 출력으로 만든 부분 분석 파일
+     * @return 파일 (스트리밍 출력이 아니었으면 null)
+     */
+    public File getPartialFile() {
+        return partialFile;
+    }
+
+    /**
+     * 저장된 부분 분석 파일명
+     * @return 파일명 (저장하지 않았으면 null)
+     */
+    public String getPartialAnalysis() {
+        return partialAnalysis;
+    }
+
+    public void setPartialAnalysis(String partialAnalysis) {
+        this.partialAnalysis = partialAnalysis;
+    }
+}
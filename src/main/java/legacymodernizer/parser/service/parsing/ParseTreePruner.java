@@ -0,0 +1,163 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import legacymodernizer.parser.antlr.RuleNodeTable;
+
+/**
+ * 파싱 중 파스 트리 가지치기 (Parser.addParseListener로 등록)
+ * - 규칙이 끝날 때(exitEveryRule) 분석 리스너가 보지 않는 하위 트리를 바로 버려 최대 메모리/GC 시간 절감
+ * - 남기는 컨텍스트
+ *   - 분석 리스너 규칙 표(RuleNodeTable)에 등록된 규칙 (터미널 포함)
+ *   - 그 규칙의 직계 자식 규칙 (자식 규칙/터미널 조회용, 예: function_body().IS())
+ *   - 하위 트리 전체를 읽는 규칙(getText() 등)과 그 하위 전체
+ * - 버리는 컨텍스트는 남길 자손만 자식으로 갖도록 줄이고, 부모가 끝날 때 그 자손을 부모 자식으로 끌어올림
+ *   (끌어올린 자손의 getParent()는 원래 부모 그대로라 리스너의 부모 판정 결과는 같음)
+ * - 남긴 트리를 분석 리스너로 순회(walk())하면 규칙 진입/종료 순서와 결과는 전체 트리 순회와 동일
+ * - 왼쪽 재귀 규칙의 안쪽 컨텍스트는 exit 이벤트가 없으므로 바깥 컨텍스트가 끝날 때 함께 정리
+ * - 파싱마다 새 인스턴스 사용 (SLL 실패 후 LL 재파싱은 시작 규칙 진입 시 상태 초기화)
+ */
+public final class ParseTreePruner implements ParseTreeListener {
+
+    /**
+     * 문법별 가지치기 규칙 (분석 리스너의 규칙 표 기준, 규칙 인덱스로 조회, 불변이므로 전략마다 상수로 공유)
+     */
+    public static final class Spec {
+
+        private final boolean[] listened;
+        private final boolean[] whole;
+
+        private Spec(boolean[] listened, boolean[] whole) {
+            this.listened = listened;
+            this.whole = whole;
+        }
+
+        /**
+         * 분석 리스너 규칙 표에 등록된 규칙(노드 규칙 + 직접 처리 규칙)으로 가지치기 규칙 생성
+         * @param rules 분석 리스너 규칙 표
+         * @param wholeRules 하위 트리 전체를 남길 규칙 인덱스 (RULE_xxx)
+         * @return 가지치기 규칙
+         */
+        public static Spec of(RuleNodeTable rules, int... wholeRules) {
+            boolean[] listened = new boolean[rules.ruleCount()];
+            for (int rule = 0; rule < listened.length; rule++) {
+                listened[rule] = rules.isListened(rule);
+            }
+            boolean[] whole = new boolean[rules.ruleCount()];
+            for (int rule : wholeRules) {
+                whole[rule] = true;
+            }
+            return new Spec(listened, whole);
+        }
+
+        private boolean isRetained(ParserRuleContext ctx) {
+            ParserRuleContext parent = ctx.getParent();
+            int rule = ctx.getRuleIndex();
+            return listened[rule] || whole[rule]
+                    || (parent != null && listened[parent.getRuleIndex()]);
+        }
+
+        private boolean isWhole(ParserRuleContext ctx) {
+            return whole[ctx.getRuleIndex()];
+        }
+    }
+
+    private final Spec spec;
+    private int wholeDepth;
+
+    public ParseTreePruner(Spec spec) {
+        this.spec = spec;
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        if (ctx.getParent() == null) {
+            wholeDepth = 0;
+        }
+        if (spec.isWhole(ctx)) {
+            wholeDepth++;
+        }
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        if (spec.isWhole(ctx)) {
+            wholeDepth--;
+            return;
+        }
+        if (wholeDepth > 0 || ctx.children == null) {
+            return;
+        }
+        ctx.children = compact(ctx, spec.isRetained(ctx));
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+    }
+
+    // ========================================
+    // 가지치기
+    // ========================================
+
+    /**
+     * 자식 목록 정리 (바뀌지 않으면 기존 목록 그대로 반환)
+     * - 남기는 컨텍스트: 터미널 + 남길 자식 규칙 + 버린 자식 규칙의 남길 자손
+     * - 버리는 컨텍스트: 남길 자손만 (없으면 null)
+     */
+    private List<ParseTree> compact(ParserRuleContext ctx, boolean retained) {
+        List<ParseTree> children = ctx.children;
+        List<ParseTree> result = null;
+        for (int i = 0; i < children.size(); i++) {
+            ParseTree child = children.get(i);
+            boolean keep = child instanceof ParserRuleContext
+                    ? spec.isRetained((ParserRuleContext) child)
+                    : retained;
+            if (keep && result == null) {
+                continue;
+            }
+            if (result == null) {
+                result = new ArrayList<>(children.subList(0, i));
+            }
+            if (keep) {
+                result.add(child);
+            } else if (child instanceof ParserRuleContext) {
+                collectRetained((ParserRuleContext) child, result);
+            }
+        }
+        if (result == null) {
+            return children;
+        }
+        return result.isEmpty() && !retained ? null : result;
+    }
+
+    /**
+     * 버린 컨텍스트 아래에서 남길 자손 수집 (끝난 컨텍스트는 이미 정리되어 있어 바로 반환,
+     * 왼쪽 재귀의 안쪽 컨텍스트처럼 정리되지 않은 경우만 더 내려감)
+     */
+    private void collectRetained(ParserRuleContext ctx, List<ParseTree> out) {
+        if (ctx.children == null) {
+            return;
+        }
+        for (ParseTree child : ctx.children) {
+            if (child instanceof ParserRuleContext) {
+                ParserRuleContext rule = (ParserRuleContext) child;
+                if (spec.isRetained(rule)) {
+                    out.add(rule);
+                } else {
+                    collectRetained(rule, out);
+                }
+            }
+        }
+    }
+}
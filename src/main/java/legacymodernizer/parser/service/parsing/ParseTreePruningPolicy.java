@@ -0,0 +1,35 @@
+package legacymodernizer.parser.service.parsing;
+
+import org.antlr.v4.runtime.Parser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파싱 중 파스 트리 가지치기 설정
+ * - parser.parsing.prune-tree: true면 시작 규칙 파싱 전에 ParseTreePruner를 파스 리스너로 등록
+ * - 대여한 파서의 파스 리스너는 풀 반납 시 제거됨
+ */
+@Component
+public class ParseTreePruningPolicy {
+
+    private final boolean enabled;
+
+    public ParseTreePruningPolicy(@Value("${parser.parsing.prune-tree:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 파서에 가지치기 리스너 등록 (비활성화 시 아무것도 하지 않음)
+     * @param parser 대여한 파서
+     * @param spec 문법별 가지치기 규칙
+     */
+    public void install(Parser parser, ParseTreePruner.Spec spec) {
+        if (enabled) {
+            parser.addParseListener(new ParseTreePruner(spec));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
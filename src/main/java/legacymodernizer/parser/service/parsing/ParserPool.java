@@ -0,0 +1,224 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.TokenStream;
+
+/**
+ * 문법별 Lexer/Parser 인스턴스 풀
+ * - 파일마다 Lexer/Parser를 새로 만들지 않고 setInputStream/setTokenStream(reset)으로 재사용
+ * - 유휴 인스턴스는 최대 maxIdle개까지만 보관 (초과분은 반납 시 폐기)
+ * - DFA 캐시는 생성된 파서 클래스의 static 배열이므로 풀 인스턴스 모두가 공유
+ * - 대여 중에는 읽기 잠금을 보유하고, DFA 비우기(clearDfa)는 쓰기 잠금으로 진행 중인 파싱이 끝난 뒤 수행
+ * - 대여 시 현재 스레드의 파싱 제한 시각(ParseDeadline)을 토큰 스트림에 연결, 반납 시 해제
+ * @param <L> Lexer 타입
+ * @param <P> Parser 타입
+ */
+public class ParserPool<L extends Lexer, P extends Parser> {
+
+    private final String grammarName;
+    private final Function<CharStream, L> lexerFactory;
+    private final Function<TokenStream, P> parserFactory;
+    private final BlockingQueue<PooledParser<L, P>> idle;
+    private final AtomicInteger created = new AtomicInteger();
+    private final PooledParser<L, P> prototype;
+    private final ReadWriteLock dfaLock = new ReentrantReadWriteLock();
+    private final AtomicInteger evictions = new AtomicInteger();
+    private volatile Consumer<ParserPool<L, P>> releaseHook = pool -> { };
+
+    public ParserPool(String grammarName,
+                      int maxIdle,
+                      Function<CharStream, L> lexerFactory,
+                      Function<TokenStream, P> parserFactory) {
+        this.grammarName = grammarName;
+        this.lexerFactory = lexerFactory;
+        this.parserFactory = parserFactory;
+        this.idle = new ArrayBlockingQueue<>(Math.max(1, maxIdle));
+        this.prototype = create();
+        idle.offer(prototype);
+    }
+
+    /**
+     * 입력 스트림을 연결한 Lexer/Parser 대여
+     * @param input 파싱 대상 문자 스트림
+     * @return 대여 인스턴스 (try-with-resources로 반납)
+     */
+    public PooledParser<L, P> borrow(CharStream input) {
+        dfaLock.readLock().lock();
+        try {
+            PooledParser<L, P> pooled = idle.poll();
+            if (pooled == null) {
+                pooled = create();
+            }
+            pooled.attach(input);
+            pooled.tokens.watch(ParseDeadline.current());
+            pooled.nested = false;
+            return pooled;
+        } catch (RuntimeException e) {
+            dfaLock.readLock().unlock();
+            throw e;
+        }
+    }
+
+    /**
+     * 토큰 소스를 연결한 Parser 대여 (파일 내부 분할 파싱용)
+     * - 호출자가 같은 풀에서 borrow()한 인스턴스를 보유한 동안에만 사용 (그 대여가 DFA 비우기를 막고 있음)
+     * - 읽기 잠금을 다시 잡지 않으므로 대기 중인 DFA 비우기와 교착되지 않음, 반납 훅도 호출하지 않음
+     * @param source 토큰 소스
+     * @return 대여 인스턴스 (try-with-resources로 반납)
+     */
+    public PooledParser<L, P> borrowNested(TokenSource source) {
+        PooledParser<L, P> pooled = idle.poll();
+        if (pooled == null) {
+            pooled = create();
+        }
+        pooled.attach(source);
+        pooled.tokens.watch(ParseDeadline.current());
+        pooled.nested = true;
+        return pooled;
+    }
+
+    /**
+     * 인스턴스 반납 (입력 참조 해제 후 유휴 큐에 보관, 읽기 잠금 해제 후 반납 훅 호출)
+     * @param pooled 대여했던 인스턴스
+     */
+    void release(PooledParser<L, P> pooled) {
+        boolean nested = pooled.nested;
+        try {
+            // 입력 해제 시 토큰을 다시 읽으므로 제한 시각을 먼저 해제
+            pooled.tokens.watch(ParseDeadline.NONE);
+            pooled.attach(CharStreams.fromString(""));
+            pooled.parser().removeParseListeners();
+            pooled.parser().setBuildParseTree(true);
+            idle.offer(pooled);
+        } finally {
+            if (!nested) {
+                dfaLock.readLock().unlock();
+            }
+        }
+        if (!nested) {
+            releaseHook.accept(this);
+        }
+    }
+
+    /**
+     * 반납 직후 호출할 훅 등록 (DFA 캐시 상한 점검용)
+     * @param hook 반납 훅
+     */
+    public void setReleaseHook(Consumer<ParserPool<L, P>> hook) {
+        this.releaseHook = hook;
+    }
+
+    /**
+     * 문법의 파서/렉서 DFA 캐시 비우기
+     * - 쓰기 잠금으로 대여 중인 인스턴스가 모두 반납될 때까지 대기 후 수행
+     * - 공유 PredictionContext 캐시는 ANTLR가 비우기 API를 제공하지 않아 유지됨
+     * @return 비우기 직전 DFA 통계
+     */
+    public DfaStatistics clearDfa() {
+        dfaLock.writeLock().lock();
+        try {
+            DfaStatistics before = dfaStatistics();
+            prototype.parser().getInterpreter().clearDFA();
+            prototype.lexer().getInterpreter().clearDFA();
+            evictions.incrementAndGet();
+            return before;
+        } finally {
+            dfaLock.writeLock().unlock();
+        }
+    }
+
+    private PooledParser<L, P> create() {
+        L lexer = lexerFactory.apply(CharStreams.fromString(""));
+        DeadlineTokenStream tokens = new DeadlineTokenStream(lexer);
+        P parser = parserFactory.apply(tokens);
+        tokens.setParser(parser);
+        created.incrementAndGet();
+        return new PooledParser<>(this, lexer, tokens, parser);
+    }
+
+    /**
+     * 문법의 DFA 캐시 통계 수집 (static 배열이므로 임의 인스턴스로 조회)
+     * @return DFA 통계
+     */
+    public DfaStatistics dfaStatistics() {
+        return DfaStatistics.collect(grammarName,
+                prototype.parser().getInterpreter().decisionToDFA,
+                prototype.lexer().getInterpreter().decisionToDFA,
+                prototype.parser().getInterpreter().getSharedContextCache());
+    }
+
+    public String getGrammarName() {
+        return grammarName;
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getCreatedCount() {
+        return created.get();
+    }
+
+    public int getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * 풀에서 대여한 Lexer/TokenStream/Parser 묶음
+     */
+    public static final class PooledParser<L extends Lexer, P extends Parser> implements AutoCloseable {
+        private final ParserPool<L, P> pool;
+        private final L lexer;
+        private final DeadlineTokenStream tokens;
+        private final P parser;
+        private boolean nested;
+
+        private PooledParser(ParserPool<L, P> pool, L lexer, DeadlineTokenStream tokens, P parser) {
+            this.pool = pool;
+            this.lexer = lexer;
+            this.tokens = tokens;
+            this.parser = parser;
+        }
+
+        private void attach(CharStream input) {
+            lexer.setInputStream(input);
+            tokens.setTokenSource(lexer);
+            parser.setTokenStream(tokens);
+        }
+
+        private void attach(TokenSource source) {
+            tokens.setTokenSource(source);
+            parser.setTokenStream(tokens);
+        }
+
+        public L lexer() {
+            return lexer;
+        }
+
+        public CommonTokenStream tokens() {
+            return tokens;
+        }
+
+        public P parser() {
+            return parser;
+        }
+
+        @Override
+        public void close() {
+            pool.release(this);
+        }
+    }
+}
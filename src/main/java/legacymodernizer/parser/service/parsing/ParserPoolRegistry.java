@@ -0,0 +1,65 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import legacymodernizer.parser.antlr.plsql.PlSqlLexer;
+import legacymodernizer.parser.antlr.plsql.PlSqlParser;
+import legacymodernizer.parser.antlr.postgresql.PlpgsqlLexer;
+import legacymodernizer.parser.antlr.postgresql.PlpgsqlParser;
+import legacymodernizer.parser.antlr.postgresql.PostgreSQLLexer;
+import legacymodernizer.parser.antlr.postgresql.PostgreSQLParser;
+
+/**
+ * 문법별 Lexer/Parser 풀 보관소
+ * - 요청 간에 풀(및 공유 DFA 캐시)을 유지하기 위한 싱글톤
+ * - 유휴 인스턴스 상한은 파싱 스레드 수와 동일
+ */
+@Component
+public class ParserPoolRegistry {
+
+    private final ParserPool<PlSqlLexer, PlSqlParser> oracle;
+    private final ParserPool<PostgreSQLLexer, PostgreSQLParser> postgresql;
+    private final ParserPool<legacymodernizer.parser.antlr.dml_postgresql.PostgreSQLLexer,
+                             legacymodernizer.parser.antlr.dml_postgresql.PostgreSQLParser> dmlPostgresql;
+    private final ParserPool<PlpgsqlLexer, PlpgsqlParser> plpgsql;
+
+    public ParserPoolRegistry(ParsingExecutor parsingExecutor) {
+        int maxIdle = parsingExecutor.getPoolSize();
+        this.oracle = new ParserPool<>("oracle", maxIdle, PlSqlLexer::new, PlSqlParser::new);
+        this.postgresql = new ParserPool<>("postgresql", maxIdle, PostgreSQLLexer::new, PostgreSQLParser::new);
+        this.dmlPostgresql = new ParserPool<>("dml_postgresql", maxIdle,
+                legacymodernizer.parser.antlr.dml_postgresql.PostgreSQLLexer::new,
+                legacymodernizer.parser.antlr.dml_postgresql.PostgreSQLParser::new);
+        this.plpgsql = new ParserPool<>("plpgsql", maxIdle, PlpgsqlLexer::new, PlpgsqlParser::new);
+    }
+
+    public ParserPool<PlSqlLexer, PlSqlParser> oracle() {
+        return oracle;
+    }
+
+    public ParserPool<PostgreSQLLexer, PostgreSQLParser> postgresql() {
+        return postgresql;
+    }
+
+    public ParserPool<legacymodernizer.parser.antlr.dml_postgresql.PostgreSQLLexer,
+                      legacymodernizer.parser.antlr.dml_postgresql.PostgreSQLParser> dmlPostgresql() {
+        return dmlPostgresql;
+    }
+
+    /**
+     * PL/pgSQL 본문(함수/DO 블록의 $$ 문자열) 풀
+     */
+    public ParserPool<PlpgsqlLexer, PlpgsqlParser> plpgsql() {
+        return plpgsql;
+    }
+
+    /**
+     * 전체 풀 목록
+     * @return 문법별 풀
+     */
+    public List<ParserPool<?, ?>> all() {
+        return List.of(oracle, postgresql, dmlPostgresql, plpgsql);
+    }
+}
@@ -0,0 +1,139 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 시 파서 워밍업
+ * - classpath:warmup/{전략 코퍼스 디렉터리}/*.sql 을 한 번씩 파싱하여 공유 DFA 캐시를 미리 채움
+ * - 첫 요청이 콜드 DFA로 느려지는 것을 방지 (전략별로 파싱 스레드 풀에서 병렬 실행)
+ * - 끝날 때까지 기동을 붙잡아 둠 (웹 서버는 이 단계 이후에 포트를 열므로 워밍업 중에는 요청을 받지 않음)
+ * - parser.warmup.timeout-seconds를 넘기면 기다리지 않고 기동을 계속함 (남은 워밍업은 백그라운드에서 마저 실행)
+ * - parser.warmup.enabled=false 이면 생략
+ */
+@Slf4j
+@Component
+public class ParserWarmup implements SmartInitializingSingleton {
+
+    private static final String CORPUS_PATTERN = "classpath*:warmup/%s/*.sql";
+
+    private final List<DbmsParserStrategy> strategies;
+    private final ParsingExecutor parsingExecutor;
+    private final ParserPoolRegistry parserPoolRegistry;
+    private final ParseMetrics parseMetrics;
+    private final boolean enabled;
+    private final long timeoutSeconds;
+
+    public ParserWarmup(List<DbmsParserStrategy> strategies,
+                        ParsingExecutor parsingExecutor,
+                        ParserPoolRegistry parserPoolRegistry,
+                        ParseMetrics parseMetrics,
+                        @Value("${parser.warmup.enabled:true}") boolean enabled,
+                        @Value("${parser.warmup.timeout-seconds:60}") long timeoutSeconds) {
+        this.strategies = strategies;
+        this.parsingExecutor = parsingExecutor;
+        this.parserPoolRegistry = parserPoolRegistry;
+        this.parseMetrics = parseMetrics;
+        this.enabled = enabled;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            log.info("파서 워밍업 비활성화 (parser.warmup.enabled=false)");
+            return;
+        }
+        List<Future<Void>> futures = new ArrayList<>();
+        for (DbmsParserStrategy strategy : strategies) {
+            futures.add(parsingExecutor.submit(() -> {
+                warmup(strategy);
+                return null;
+            }));
+        }
+
+        // 0 이하면 제한 없이 대기
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        try {
+            for (Future<Void> future : futures) {
+                if (timeoutSeconds > 0) {
+                    future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } else {
+                    future.get();
+                }
+            }
+        } catch (TimeoutException e) {
+            log.warn("[워밍업] {}초 안에 끝나지 않아 기동을 계속함 (남은 워밍업은 백그라운드에서 진행)", timeoutSeconds);
+        } catch (ExecutionException e) {
+            log.warn("[워밍업] 실행 실패: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[워밍업] 대기 중 인터럽트되어 기동을 계속함");
+        }
+    }
+
+    /**
+     * 특정 문법의 DFA 재워밍업 (DFA 캐시 비우기 직후 호출)
+     * @param grammarName 문법명 (전략 DBMS 타입과 동일)
+     */
+    public void rewarm(String grammarName) {
+        if (!enabled) {
+            return;
+        }
+        strategies.stream()
+                .filter(strategy -> strategy.getSupportedDbmsType().equals(grammarName))
+                .forEach(this::warmup);
+    }
+
+    /**
+     * 전략별 워밍업 코퍼스 파싱
+     * @param strategy 파싱 전략
+     */
+    private void warmup(DbmsParserStrategy strategy) {
+        String type = strategy.getSupportedDbmsType();
+        long start = System.nanoTime();
+        int parsed = 0;
+        try {
+            Resource[] corpus = new PathMatchingResourcePatternResolver()
+                    .getResources(String.format(CORPUS_PATTERN, strategy.getWarmupCorpusDirectory()));
+            for (Resource resource : corpus) {
+                String source = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+                try {
+                    // 워밍업 파싱은 운영 지표(parser.phase 등)에 포함하지 않음
+                    parseMetrics.runUnrecorded(() ->
+                            strategy.parse(CharStreams.fromString(source, resource.getFilename()), resource.getFilename()));
+                    parsed++;
+                } catch (Exception e) {
+                    log.warn("[워밍업] {} - {} 파싱 실패: {}", type, resource.getFilename(), e.getMessage());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[워밍업] {} - 코퍼스 로드 실패: {}", type, e.getMessage());
+            return;
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        int parsedCount = parsed;
+        parserPoolRegistry.all().stream()
+                .filter(pool -> pool.getGrammarName().equals(type))
+                .findFirst()
+                .map(ParserPool::dfaStatistics)
+                .ifPresent(stats -> log.info("[워밍업] {} - {}개 파일, {}ms, DFA 상태 {}개 (약 {}KB)",
+                        type, parsedCount, elapsedMillis, stats.getStateCount(), stats.getEstimatedBytes() / 1024));
+    }
+}
@@ -0,0 +1,167 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파일 단위 파싱 작업을 실행하는 제한된(bounded) 스레드 풀
+ * - parser.parsing.pool-size: 동시 파싱 스레드 수 (0 이하면 CPU 코어 수)
+ * - parser.parsing.virtual-threads: 가상 스레드 사용 여부 (Java 21 이상에서만 적용, 미지원 시 플랫폼 스레드)
+ */
+@Slf4j
+@Component
+public class ParsingExecutor {
+
+    private final ExecutorService executor;
+    private final int poolSize;
+
+    public ParsingExecutor(@Value("${parser.parsing.pool-size:0}") int poolSize,
+                           @Value("${parser.parsing.virtual-threads:false}") boolean virtualThreads) {
+        this.poolSize = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ThreadFactory virtualFactory = virtualThreads ? virtualThreadFactory() : null;
+        ThreadFactory factory = virtualFactory != null ? virtualFactory : platformThreadFactory();
+        this.executor = Executors.newFixedThreadPool(this.poolSize, factory);
+        log.info("파싱 스레드 풀 초기화 - 크기: {}, 가상 스레드: {}", this.poolSize, virtualFactory != null);
+    }
+
+    /**
+     * 파싱 작업 제출
+     * @param task 파일 단위 작업
+     * @return 작업 Future
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(task);
+    }
+
+    /**
+     * 인덱스 작업 목록을 호출 스레드와 빈 파싱 스레드가 나눠 실행 (파일 내부 작업용)
+     * - 호출 스레드도 작업을 가져가므로 파싱 스레드 안에서 호출해도 풀이 가득 차 교착되지 않음 (빈 스레드가 있을 때만 병렬)
+     * - 호출 스레드의 파싱 제한 시각(ParseDeadline)을 보조 스레드에도 연결
+     * - 실행 중인 작업이 모두 끝날 때까지 대기 (인터럽트돼도 기다린 뒤 인터럽트 상태 복원)
+     * - 작업 예외는 잡지 않으므로 작업 안에서 처리해야 함 (전파된 예외는 해당 스레드의 나머지 작업만 중단)
+     * @param count 작업 수
+     * @param task 인덱스(0 ~ count-1)별 작업
+     */
+    public void runCooperatively(int count, IntConsumer task) {
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(count);
+        Runnable worker = () -> {
+            int i;
+            while ((i = next.getAndIncrement()) < count) {
+                try {
+                    task.accept(i);
+                } finally {
+                    done.countDown();
+                }
+            }
+        };
+
+        ParseDeadline deadline = ParseDeadline.current();
+        List<Future<?>> helpers = new ArrayList<>();
+        int helperCount = Math.min(count, poolSize) - 1;
+        for (int h = 0; h < helperCount; h++) {
+            helpers.add(executor.submit(() -> {
+                ParseDeadline.Scope scope = deadline.bind();
+                try {
+                    worker.run();
+                } finally {
+                    scope.close();
+                }
+            }));
+        }
+        try {
+            worker.run();
+        } finally {
+            awaitUninterruptibly(done, next, count);
+            // 아직 시작하지 않은 보조 작업은 할 일이 없으므로 취소
+            helpers.forEach(f -> f.cancel(false));
+        }
+    }
+
+    /**
+     * 가져간 작업이 모두 끝날 때까지 대기 (호출 스레드가 예외로 빠진 경우 남은 작업은 건너뜀)
+     */
+    private static void awaitUninterruptibly(CountDownLatch done, AtomicInteger next, int count) {
+        // 아무도 가져가지 않은 작업은 완료 처리 (호출 스레드 예외 시에만 남음)
+        int i;
+        while ((i = next.getAndIncrement()) < count) {
+            done.countDown();
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                done.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 동시 파싱 스레드 수 반환
+     * @return 풀 크기
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 플랫폼 스레드 팩토리 (parsing-N 이름 부여)
+     */
+    private static ThreadFactory platformThreadFactory() {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, "parsing-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /**
+     * 가상 스레드 팩토리 (Java 21 이상에서만 존재하므로 리플렉션으로 조회)
+     * @return 가상 스레드 팩토리, 미지원 런타임이면 null
+     */
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "parsing-v", 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            log.warn("가상 스레드를 지원하지 않는 런타임입니다 ({}). 플랫폼 스레드를 사용합니다.", Runtime.version());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비동기 파싱 작업 상태
+ * - ParsingProgress 콜백으로 파일별 상태/완료 수를 갱신하고 상태 조회 응답(toMap)을 만든다
+ * - 콜백은 여러 파싱 스레드에서 동시에 호출되므로 모든 상태 변경은 인스턴스 모니터로 보호
+ * - 종료 상태를 처음 조회한 뒤에는 successFiles의 fileContent를 버려 보관 중인 작업이 원본 본문을 붙들지 않음
+ */
+public class ParsingJob implements ParsingProgress {
+
+    /**
+     * 작업 상태
+     */
+    public enum State { QUEUED, RUNNING, COMPLETED, CANCELLED, FAILED }
+
+    private static final String FILE_PENDING = "pending";
+    private static final String FILE_RUNNING = "running";
+    private static final String FILE_DONE = "done";
+    private static final String FILE_FAILED = "failed";
+    private static final String FILE_CANCELLED = "cancelled";
+
+    private final String jobId;
+    private final String sessionUUID;
+    private final String dbms;
+    private final AnalysisFormat format;
+    private final long createdAtMillis = System.currentTimeMillis();
+
+    private State state = State.QUEUED;
+    private volatile boolean cancelRequested;
+    private long startNanos;
+    private long elapsedNanos;
+    private long finishedAtMillis;
+    private final List<Map<String, Object>> files = new ArrayList<>();
+    private long[] fileStartNanos = new long[0];
+    private int done;
+    private int failed;
+    private int cancelled;
+    private Map<String, Object> result;
+    private boolean contentReleased;
+    private String error;
+
+    ParsingJob(String jobId, String sessionUUID, String dbms, AnalysisFormat format) {
+        this.jobId = jobId;
+        this.sessionUUID = sessionUUID;
+        this.dbms = dbms;
+        this.format = format;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getSessionUUID() {
+        return sessionUUID;
+    }
+
+    // ========================================
+    // 작업 생명주기 (ParsingJobManager에서 호출)
+    // ========================================
+
+    synchronized void markRunning() {
+        state = State.RUNNING;
+        startNanos = System.nanoTime();
+    }
+
+    synchronized void markFinished(Map<String, Object> result) {
+        this.result = result;
+        finish(cancelRequested ? State.CANCELLED : State.COMPLETED);
+    }
+
+    synchronized void markFailed(String error) {
+        this.error = error;
+        finish(State.FAILED);
+    }
+
+    /**
+     * 취소 요청 (시작 전 파일은 건너뛰고, 이미 파싱 중인 파일은 끝까지 진행)
+     * @return 취소 요청이 새로 반영되었으면 true, 이미 종료된 작업이면 false
+     */
+    public synchronized boolean cancel() {
+        if (isFinished()) {
+            return false;
+        }
+        cancelRequested = true;
+        return true;
+    }
+
+    public synchronized boolean isFinished() {
+        return state == State.COMPLETED || state == State.CANCELLED || state == State.FAILED;
+    }
+
+    synchronized long getFinishedAtMillis() {
+        return finishedAtMillis;
+    }
+
+    private void finish(State finalState) {
+        if (startNanos == 0) {
+            startNanos = System.nanoTime();
+        }
+        elapsedNanos = System.nanoTime() - startNanos;
+        finishedAtMillis = System.currentTimeMillis();
+        state = finalState;
+    }
+
+    // ========================================
+    // ParsingProgress 구현 (파싱 스레드에서 호출)
+    // ========================================
+
+    @Override
+    public synchronized void onSubmitted(List<String[]> targets) {
+        fileStartNanos = new long[targets.size()];
+        for (String[] target : targets) {
+            Map<String, Object> file = new LinkedHashMap<>();
+            file.put("system", target[0]);
+            file.put("fileName", target[1]);
+            file.put("status", FILE_PENDING);
+            files.add(file);
+        }
+    }
+
+    @Override
+    public synchronized void onFileStarted(int index) {
+        files.get(index).put("status", FILE_RUNNING);
+        fileStartNanos[index] = System.nanoTime();
+    }
+
+    @Override
+    public synchronized void onFileCompleted(int index, Map<String, String> fileInfo) {
+        Map<String, Object> file = completeFile(index, FILE_DONE);
+        String analysisSource = fileInfo.get("analysisSource");
+        if (analysisSource != null) {
+            file.put("analysisSource", analysisSource);
+        }
+        done++;
+    }
+
+    @Override
+    public synchronized void onFileFailed(int index, String error) {
+        completeFile(index, FILE_FAILED).put("error", error != null ? error : "");
+        done++;
+        failed++;
+    }
+
+    @Override
+    public synchronized void onFileCancelled(int index) {
+        files.get(index).put("status", FILE_CANCELLED);
+        cancelled++;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelRequested;
+    }
+
+    private Map<String, Object> completeFile(int index, String status) {
+        Map<String, Object> file = files.get(index);
+        if (fileStartNanos[index] != 0) {
+            file.put("elapsedMillis", (System.nanoTime() - fileStartNanos[index]) / 1_000_000);
+        }
+        file.put("status", status);
+        return file;
+    }
+
+    // ========================================
+    // 상태 조회
+    // ========================================
+
+    /**
+     * 상태 조회 응답 생성
+     * - ETA는 완료 파일당 평균 소요 시간 × 남은 파일 수 (완료 파일이 없거나 종료된 작업이면 null)
+     * - 작업이 끝나면 동기 /parsing 응답과 같은 successFiles/failedFiles 포함
+     * - fileContent는 종료 후 첫 조회에만 포함하고, 이후 조회는 나머지 항목(fileName 등)만 반환 (fileContentReleased=true)
+     *   (본문이 다시 필요하면 GET /projects/{projectName}/sources/{fileName})
+     * @return {jobId, state, dbms, analysisFormat, total, done, failed, cancelled, elapsedMillis, etaMillis, files, [successFiles, failedFiles, fileContentReleased | error]}
+     */
+    public synchronized Map<String, Object> toMap() {
+        int total = files.size();
+        long elapsed = state == State.QUEUED ? 0
+                : isFinished() ? elapsedNanos : System.nanoTime() - startNanos;
+        Long eta = null;
+        if (state == State.RUNNING && done > 0) {
+            int remaining = total - done - cancelled;
+            eta = elapsed / done * remaining / 1_000_000;
+        }
+
+        List<Map<String, Object>> fileViews = new ArrayList<>(total);
+        for (Map<String, Object> file : files) {
+            fileViews.add(new LinkedHashMap<>(file));
+        }
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("jobId", jobId);
+        map.put("state", state.name().toLowerCase());
+        map.put("dbms", dbms);
+        map.put("analysisFormat", format.name().toLowerCase());
+        map.put("createdAt", createdAtMillis);
+        map.put("total", total);
+        map.put("done", done);
+        map.put("failed", failed);
+        map.put("cancelled", cancelled);
+        map.put("elapsedMillis", elapsed / 1_000_000);
+        map.put("etaMillis", eta);
+        map.put("files", fileViews);
+        if (result != null) {
+            map.put("successFiles", result.get("successFiles"));
+            map.put("failedFiles", result.getOrDefault("failedFiles", List.of()));
+            map.put("fileContentReleased", contentReleased);
+            releaseContent();
+        }
+        if (error != null) {
+            map.put("error", error);
+        }
+        return map;
+    }
+
+    /**
+     * 보관 중인 successFiles에서 fileContent 제거 (이번 응답에 넣은 목록은 그대로 두고 새 목록으로 교체)
+     */
+    private void releaseContent() {
+        if (contentReleased) {
+            return;
+        }
+        contentReleased = true;
+        Object successFiles = result.get("successFiles");
+        if (!(successFiles instanceof List)) {
+            return;
+        }
+        List<?> entries = (List<?>) successFiles;
+        List<Map<?, ?>> released = new ArrayList<>(entries.size());
+        for (Object entry : entries) {
+            Map<?, ?> info = (Map<?, ?>) entry;
+            if (info.containsKey("fileContent")) {
+                Map<Object, Object> copy = new LinkedHashMap<>(info);
+                copy.remove("fileContent");
+                info = copy;
+            }
+            released.add(info);
+        }
+        Map<String, Object> copy = new LinkedHashMap<>(result);
+        copy.put("successFiles", released);
+        result = copy;
+    }
+}
@@ -0,0 +1,123 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 파싱 작업 관리자
+ * - 작업(요청 단위)은 전용 스레드 풀(parsing-job-N)에서 실행하고, 파일 단위 파싱은 기존 ParsingExecutor에 위임
+ *   (작업 스레드가 파일 결과를 기다리므로 ParsingExecutor와 같은 풀을 쓰면 교착될 수 있음)
+ * - parser.jobs.concurrency: 동시에 실행할 작업 수 (초과분은 대기열에서 QUEUED 상태)
+ * - parser.jobs.retention-minutes: 종료된 작업 상태 보관 시간 (1분마다 만료분 정리, 만료된 작업은 정리 전이라도 조회되지 않음)
+ */
+@Slf4j
+@Component
+public class ParsingJobManager {
+
+    private static final long PURGE_INTERVAL_MINUTES = 1;
+
+    private final ExecutorService executor;
+    private final ScheduledExecutorService purger;
+    private final long retentionMillis;
+    private final Map<String, ParsingJob> jobs = new ConcurrentHashMap<>();
+
+    public ParsingJobManager(@Value("${parser.jobs.concurrency:2}") int concurrency,
+                             @Value("${parser.jobs.retention-minutes:60}") long retentionMinutes) {
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, concurrency), r -> {
+            Thread t = new Thread(r, "parsing-job-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.retentionMillis = TimeUnit.MINUTES.toMillis(retentionMinutes);
+        // 새 작업 제출이 없어도 만료된 작업(결과 포함)이 메모리에 남지 않도록 주기적으로 정리
+        this.purger = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "parsing-job-purge");
+            t.setDaemon(true);
+            return t;
+        });
+        purger.scheduleWithFixedDelay(this::purgeExpired, PURGE_INTERVAL_MINUTES, PURGE_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 파싱 작업 제출
+     * @param sessionUUID 세션 UUID (조회/취소 시 동일 세션만 허용)
+     * @param dbms DBMS 타입 (응답용)
+     * @param format 분석 결과 저장 형식 (응답용)
+     * @param task 진행 상황 콜백을 받아 {successFiles, failedFiles}를 반환하는 파싱 작업
+     * @return 등록된 작업
+     */
+    public ParsingJob submit(String sessionUUID,
+                             String dbms,
+                             AnalysisFormat format,
+                             Function<ParsingProgress, Map<String, Object>> task) {
+        ParsingJob job = new ParsingJob(UUID.randomUUID().toString(), sessionUUID, dbms, format);
+        jobs.put(job.getJobId(), job);
+        executor.execute(() -> run(job, task));
+        log.info("[파싱 작업] {} 등록 - session={}, dbms={}", job.getJobId(), sessionUUID, dbms);
+        return job;
+    }
+
+    /**
+     * 작업 조회 (다른 세션의 작업은 조회 불가)
+     * @param jobId 작업 ID
+     * @param sessionUUID 요청 세션 UUID
+     * @return 작업, 없거나 세션이 다르거나 보관 시간이 지났으면 null
+     */
+    public ParsingJob find(String jobId, String sessionUUID) {
+        ParsingJob job = jobs.get(jobId);
+        if (job != null && isExpired(job, System.currentTimeMillis())) {
+            jobs.remove(jobId, job);
+            return null;
+        }
+        return job != null && job.getSessionUUID().equals(sessionUUID) ? job : null;
+    }
+
+    private void run(ParsingJob job, Function<ParsingProgress, Map<String, Object>> task) {
+        job.markRunning();
+        try {
+            job.markFinished(task.apply(job));
+            log.info("[파싱 작업] {} 종료 - {}", job.getJobId(), job.isCancelled() ? "취소" : "완료");
+        } catch (Exception e) {
+            log.warn("[파싱 작업] {} 실패 - {}", job.getJobId(), e.getMessage());
+            job.markFailed(e.getMessage());
+        }
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        jobs.values().removeIf(job -> isExpired(job, now));
+    }
+
+    private boolean isExpired(ParsingJob job, long now) {
+        return job.isFinished() && now - job.getFinishedAtMillis() > retentionMillis;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        purger.shutdownNow();
+        jobs.values().forEach(ParsingJob::cancel);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시스템별 파싱 진행 상황 콜백
+ * - 파일 인덱스는 onSubmitted로 전달한 대상 목록의 순서
+ * - 콜백은 파싱 스레드에서 호출되므로 구현체는 스레드 안전해야 함
+ * - isCancelled()가 true가 되면 아직 시작하지 않은 파일은 파싱하지 않고 취소 처리
+ */
+public interface ParsingProgress {
+
+    /** 진행 상황을 추적하지 않는 기본 구현 (동기 요청용) */
+    ParsingProgress NONE = new ParsingProgress() { };
+
+    /**
+     * 파싱 대상 확정
+     * @param targets 대상 목록 ({시스템명, 파일명})
+     */
+    default void onSubmitted(List<String[]> targets) {
+    }
+
+    default void onFileStarted(int index) {
+    }
+
+    /**
+     * 파일 분석 완료
+     * @param index 대상 인덱스
+     * @param fileInfo successFiles 항목 {system, fileName, fileContent, analysisExists, analysisSource}
+     */
+    default void onFileCompleted(int index, Map<String, String> fileInfo) {
+    }
+
+    default void onFileFailed(int index, String error) {
+    }
+
+    default void onFileCancelled(int index) {
+    }
+
+    default boolean isCancelled() {
+        return false;
+    }
+
+    /**
+     * 파일별 결과를 successFiles에 모을지 여부
+     * - false면 결과는 onFileCompleted로만 전달되고 응답 맵의 successFiles는 비어 있음 (스트리밍 응답용, 프로젝트 크기와 무관하게 메모리 사용량 일정)
+     * @return 결과 보관 여부
+     */
+    default boolean retainsResults() {
+        return true;
+    }
+}
@@ -1,26 +1,23 @@
 package legacymodernizer.parser.service.parsing;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileWriter;
-import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import legacymodernizer.parser.antlr.CaseChangingCharStream;
+import legacymodernizer.parser.antlr.SourceCharStream;
+import legacymodernizer.parser.antlr.SourceCharStream.Fold;
 import legacymodernizer.parser.antlr.CustomPlSqlListener;
+import legacymodernizer.parser.antlr.NodeTree;
 import legacymodernizer.parser.antlr.plsql.PlSqlLexer;
 import legacymodernizer.parser.antlr.plsql.PlSqlParser;
 import legacymodernizer.parser.service.PlSqlFileParserService;
-import lombok.RequiredArgsConstructor;
+import legacymodernizer.parser.service.parsing.ParseMetrics.Phase;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -28,10 +25,36 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PlSqlParserStrategy implements DbmsParserStrategy {
     
+    /** 최상위 단위 경계: SQL*Plus 종결자(; 다음 /) 뒤, 또는 ; 바로 뒤의 CREATE */
+    private static final SplitParser.Boundary TOP_LEVEL = (type, previous, beforePrevious) ->
+            (previous == PlSqlParser.SOLIDUS && beforePrevious == PlSqlParser.SEMICOLON)
+                    || (type == PlSqlParser.CREATE && previous == PlSqlParser.SEMICOLON);
+
+    /** 파스 트리 가지치기: CALL 판정에서 routine_name 전체 텍스트를 읽음 */
+    private static final ParseTreePruner.Spec PRUNE = ParseTreePruner.Spec.of(CustomPlSqlListener.RULES,
+            PlSqlParser.RULE_routine_name);
+
     private final PlSqlFileParserService plSqlFileParserService;
+    private final ParseMetrics parseMetrics;
+    private final ParsePipeline<PlSqlLexer, PlSqlParser, PlSqlParser.Sql_scriptContext, CustomPlSqlListener> pipeline;
+
+    public PlSqlParserStrategy(PlSqlFileParserService plSqlFileParserService,
+                               TwoStageParser twoStageParser,
+                               ParserPoolRegistry parserPoolRegistry,
+                               ParseMetrics parseMetrics,
+                               SplitParser splitParser,
+                               ParseTreePruningPolicy parseTreePruningPolicy,
+                               StreamingOutputPolicy streamingOutputPolicy) {
+        this.plSqlFileParserService = plSqlFileParserService;
+        this.parseMetrics = parseMetrics;
+        this.pipeline = ParsePipeline.builder(getSupportedDbmsType(), parserPoolRegistry.oracle(),
+                        PlSqlParser::sql_script, PlSqlParser.Sql_scriptContext.class, CustomPlSqlListener::new)
+                .split(PlSqlParser.LEFT_PAREN, PlSqlParser.RIGHT_PAREN, TOP_LEVEL)
+                .prune(PRUNE)
+                .build(twoStageParser, parseMetrics, splitParser, parseTreePruningPolicy, streamingOutputPolicy);
+    }
     
     @Override
     public Map<String, Object> processUploadByMetadata(String sessionUUID,
@@ -39,49 +62,85 @@ public class PlSqlParserStrategy implements DbmsParserStrategy {
                                                       Object systemsObj,
                                                       Object ddlObj,
                                                       Object seqObj,
-                                                      Map<String, MultipartFile> nameToFile) {
+                                                      Map<String, MultipartFile> nameToFile,
+                                                      boolean includeContent,
+                                                      Consumer<Map<String, String>> fileSink) {
         return plSqlFileParserService.processUploadByMetadata(
-            sessionUUID, projectName, systemsObj, ddlObj, seqObj, nameToFile
+            sessionUUID, projectName, systemsObj, ddlObj, seqObj, nameToFile, includeContent, fileSink
         );
     }
     
     @Override
     public Map<String, Object> processParsingBySystems(String sessionUUID,
                                                       String projectName,
-                                                      List<?> systems) {
+                                                      List<?> systems,
+                                                      AnalysisFormat format,
+                                                      boolean includeContent,
+                                                      ParsingProgress progress) {
         // PL/SQL 파싱 전략을 사용하여 처리
         return plSqlFileParserService.processParsingBySystemsWithStrategy(
             sessionUUID, 
             projectName, 
-            systems, 
-            this::parseFile
+            systems,
+            format,
+            includeContent,
+            getSupportedDbmsType(),
+            getAnalysisVersion(),
+            progress,
+            (source, outputPath) -> parseFile(source, outputPath, format)
         );
     }
     
     @Override
-    public void parseFile(File file, String outputPath) throws Exception {
+    public void parseFile(SourceText source, String outputPath, AnalysisFormat format) throws Exception {
         log.debug("      [ANTLR PL/SQL 파싱 시작]");
-        try (InputStream in = new FileInputStream(file)) {
-            CharStream s = CharStreams.fromStream(in);
-            CaseChangingCharStream upper = new CaseChangingCharStream(s, true);
-            PlSqlLexer lexer = new PlSqlLexer(upper);
-            CommonTokenStream tokens = new CommonTokenStream(lexer);
-            PlSqlParser parser = new PlSqlParser(tokens);
-            ParserRuleContext tree = parser.sql_script();
-            CustomPlSqlListener listener = new CustomPlSqlListener(tokens);
-            new ParseTreeWalker().walk(listener, tree);
-            
-            File analysisFile = new File(outputPath);
-            try (FileWriter writer = new FileWriter(analysisFile)) {
-                writer.write(listener.getRoot().toJson());
-            }
-            log.debug("      → 분석 결과 저장: {}", analysisFile.getName());
+        String type = getSupportedDbmsType();
+        long start = System.nanoTime();
+        CharStream input = source.toCharStream(Fold.UPPER);
+        parseMetrics.record(type, Phase.DECODE, start);
+        NodeTree root = parse(input, source.getName(), new File(outputPath), format);
+        if (root == null) {
+            log.debug("      → 분석 결과 스트리밍 저장: {} ({})", new File(outputPath).getName(), format);
+            return;
         }
+
+        start = System.nanoTime();
+        long bytes = format.write(root, outputPath);
+        parseMetrics.record(type, Phase.WRITE, start);
+        parseMetrics.recordNodes(type, root);
+        parseMetrics.recordBytesWritten(type, bytes);
+        log.debug("      → 분석 결과 저장: {} ({})", new File(outputPath).getName(), format);
     }
-    
+
+    @Override
+    public NodeTree parse(CharStream input, String sourceName) {
+        return parse(input, sourceName, null, null);
+    }
+
+    /**
+     * 파싱 + 순회 (스트리밍 출력 대상이면 최상위 단위마다 바로 저장)
+     * @param output 분석 결과 파일 (null이면 저장하지 않는 호출)
+     * @param format 저장 형식
+     * @return 분석 트리, 스트리밍으로 저장했으면 null
+     */
+    private NodeTree parse(CharStream input, String sourceName, File output, AnalysisFormat format) {
+        // 대문자 변환이 끝난 원본 스트림은 그대로, 그 외(워밍업 등)는 LA()마다 변환
+        CharStream upper = SourceCharStream.foldOf(input) == Fold.UPPER ? input : new CaseChangingCharStream(input, true);
+        return pipeline.parse(upper, sourceName, output, format);
+    }
+
     @Override
     public String getSupportedDbmsType() {
         return "oracle";
     }
+
+    /**
+     * 2: 소문자 begin도 TRY 판정에서 BEGIN으로 인식 (getText() 대소문자 비교 → 토큰 비교)
+     * 3: 원본을 감지한 문자셋(UTF-8/EUC-KR/MS949)으로 디코딩해 파서에 전달 (이전에는 항상 UTF-8)
+     */
+    @Override
+    public String getAnalysisVersion() {
+        return "3";
+    }
 }
 
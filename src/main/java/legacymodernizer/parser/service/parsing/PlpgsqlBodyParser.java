@@ -0,0 +1,94 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.springframework.stereotype.Component;
+
+import legacymodernizer.parser.antlr.NodeTree;
+import legacymodernizer.parser.antlr.postgresql.CustomPlpgsqlVisitor;
+import legacymodernizer.parser.antlr.postgresql.CustomPostgreSQLListener.PlpgsqlBody;
+import legacymodernizer.parser.antlr.postgresql.PlpgsqlLexer;
+import legacymodernizer.parser.antlr.postgresql.PlpgsqlParser;
+import legacymodernizer.parser.service.parsing.ParserPool.PooledParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PL/pgSQL 본문 일괄 파싱
+ * - CustomPostgreSQLListener가 순회 중 모아 둔 함수/DO 본문을 순회가 끝난 뒤 한꺼번에 파싱
+ * - 본문마다 풀에서 Lexer/Parser를 대여하고 (SLL → LL 2단계) 호출 스레드 + 빈 파싱 스레드가 나눠 처리
+ * - 본문별로 임시 트리의 루트 아래에 CustomPlpgsqlVisitor 결과를 만든 뒤, 기록된 부모/위치에 순서대로 복사해 삽입
+ *   (순회 중 즉시 파싱한 트리와 동일, 방문 중 오류가 나도 그때까지 만든 노드는 연결)
+ * - 파싱 제한 시간을 넘으면 아무것도 연결하지 않고 ParseTimeoutException 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlpgsqlBodyParser {
+
+    private static final String GRAMMAR = "plpgsql";
+
+    private final ParsingExecutor parsingExecutor;
+    private final ParserPoolRegistry parserPoolRegistry;
+    private final TwoStageParser twoStageParser;
+
+    /**
+     * 본문 파싱 후 분석 트리에 연결
+     * @param sourceName 파일명 (로그용)
+     * @param tree 본문을 모은 리스너의 분석 트리
+     * @param bodies 리스너가 모아 둔 본문 목록 (출현 순)
+     */
+    public void attach(String sourceName, NodeTree tree, List<PlpgsqlBody> bodies) {
+        if (bodies.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        NodeTree[] results = new NodeTree[bodies.size()];
+        AtomicReference<ParseTimeoutException> timeout = new AtomicReference<>();
+        parsingExecutor.runCooperatively(bodies.size(), i -> {
+            if (timeout.get() != null) {
+                return;
+            }
+            try {
+                results[i] = parse(sourceName, tree, bodies.get(i));
+            } catch (ParseTimeoutException e) {
+                timeout.compareAndSet(null, e);
+            }
+        });
+        if (timeout.get() != null) {
+            throw timeout.get();
+        }
+
+        // 같은 부모에 여러 본문이 있어도 앞쪽 위치가 밀리지 않도록 뒤에서부터 삽입
+        for (int i = bodies.size() - 1; i >= 0; i--) {
+            PlpgsqlBody body = bodies.get(i);
+            tree.graft(body.parent, body.after, results[i], NodeTree.ROOT);
+        }
+        log.debug("      [{}] {} - 본문 {}개 ({}ms)", GRAMMAR, sourceName, bodies.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 본문 하나 파싱 (파싱 스레드에서 동시에 호출됨)
+     * @return 루트 아래에 본문 노드를 가진 임시 트리
+     */
+    private NodeTree parse(String sourceName, NodeTree target, PlpgsqlBody body) {
+        NodeTree holder = new NodeTree(target.type(body.parent), target.startLine(body.parent));
+        try (PooledParser<PlpgsqlLexer, PlpgsqlParser> pooled =
+                     parserPoolRegistry.plpgsql().borrow(CharStreams.fromString(body.code))) {
+            // 본문 문법 오류는 출력하지 않음 (기존 즉시 파싱과 동일)
+            pooled.parser().removeErrorListeners();
+            PlpgsqlParser.PlpgsqlBlockContext tree =
+                    twoStageParser.parse(GRAMMAR, sourceName, pooled.parser(), PlpgsqlParser::plpgsqlBlock);
+            new CustomPlpgsqlVisitor(holder, NodeTree.ROOT, body.baseLineNumber, pooled.tokens()).visit(tree);
+        } catch (ParseTimeoutException e) {
+            // 본문 기준 라인을 파일 기준으로 변환
+            throw new ParseTimeoutException(e.getTimeoutMillis(),
+                    body.baseLineNumber + e.getStartLine(), body.baseLineNumber + e.getEndLine(), null);
+        } catch (Exception e) {
+            log.warn("      [{}] {} - 본문 파싱 오류 (line {}): {}", GRAMMAR, sourceName, body.baseLineNumber, e.toString());
+        }
+        return holder;
+    }
+}
@@ -1,24 +1,22 @@
 package legacymodernizer.parser.service.parsing;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileWriter;
-import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import legacymodernizer.parser.antlr.NodeTree;
 import legacymodernizer.parser.antlr.postgresql.CustomPostgreSQLListener;
+import legacymodernizer.parser.antlr.postgresql.CustomPostgreSQLListener.PlpgsqlBody;
 import legacymodernizer.parser.antlr.postgresql.PostgreSQLLexer;
 import legacymodernizer.parser.antlr.postgresql.PostgreSQLParser;
 import legacymodernizer.parser.service.PlSqlFileParserService;
-import lombok.RequiredArgsConstructor;
+import legacymodernizer.parser.service.parsing.ParseMetrics.Phase;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -26,10 +24,41 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PostgreSqlParserStrategy implements DbmsParserStrategy {
     
+    /** 최상위 단위 경계: ; 바로 뒤의 CREATE (함수 본문은 $$ 문자열 토큰 하나이므로 내부에서 나뉘지 않음) */
+    private static final SplitParser.Boundary TOP_LEVEL = (type, previous, beforePrevious) ->
+            type == PostgreSQLParser.CREATE && previous == PostgreSQLParser.SEMI;
+
+    /** 파스 트리 가지치기: PL/pgSQL 본문($$...$$) 추출에서 옵션 목록 하위 전체를 읽음 */
+    private static final ParseTreePruner.Spec PRUNE = ParseTreePruner.Spec.of(CustomPostgreSQLListener.RULES,
+            PostgreSQLParser.RULE_createfunc_opt_list, PostgreSQLParser.RULE_dostmt_opt_list);
+
     private final PlSqlFileParserService plSqlFileParserService;
+    private final ParseMetrics parseMetrics;
+    private final PlpgsqlBodyParser plpgsqlBodyParser;
+    private final ParsePipeline<PostgreSQLLexer, PostgreSQLParser, PostgreSQLParser.RootContext, CustomPostgreSQLListener> pipeline;
+
+    public PostgreSqlParserStrategy(PlSqlFileParserService plSqlFileParserService,
+                                    TwoStageParser twoStageParser,
+                                    ParserPoolRegistry parserPoolRegistry,
+                                    ParseMetrics parseMetrics,
+                                    SplitParser splitParser,
+                                    PlpgsqlBodyParser plpgsqlBodyParser,
+                                    ParseTreePruningPolicy parseTreePruningPolicy,
+                                    StreamingOutputPolicy streamingOutputPolicy) {
+        this.plSqlFileParserService = plSqlFileParserService;
+        this.parseMetrics = parseMetrics;
+        this.plpgsqlBodyParser = plpgsqlBodyParser;
+        // PL/pgSQL 본문은 순회 중 모아 두었다가 순회 후(스트리밍은 단위 출력 직전) 병렬 파싱하여 연결
+        this.pipeline = ParsePipeline.builder(getSupportedDbmsType(), parserPoolRegistry.postgresql(),
+                        PostgreSQLParser::root, PostgreSQLParser.StmtmultiContext.class,
+                        CustomPostgreSQLListener::new)
+                .split(PostgreSQLParser.OPEN_PAREN, PostgreSQLParser.CLOSE_PAREN, TOP_LEVEL)
+                .prune(PRUNE)
+                .completion(this::attachBodies)
+                .build(twoStageParser, parseMetrics, splitParser, parseTreePruningPolicy, streamingOutputPolicy);
+    }
     
     @Override
     public Map<String, Object> processUploadByMetadata(String sessionUUID,
@@ -37,54 +66,85 @@ public class PostgreSqlParserStrategy implements DbmsParserStrategy {
                                                       Object systemsObj,
                                                       Object ddlObj,
                                                       Object seqObj,
-                                                      Map<String, MultipartFile> nameToFile) {
+                                                      Map<String, MultipartFile> nameToFile,
+                                                      boolean includeContent,
+                                                      Consumer<Map<String, String>> fileSink) {
         // 파일 업로드 로직은 DBMS에 관계없이 동일하므로 재사용
         return plSqlFileParserService.processUploadByMetadata(
-            sessionUUID, projectName, systemsObj, ddlObj, seqObj, nameToFile
+            sessionUUID, projectName, systemsObj, ddlObj, seqObj, nameToFile, includeContent, fileSink
         );
     }
     
     @Override
     public Map<String, Object> processParsingBySystems(String sessionUUID,
                                                       String projectName,
-                                                      List<?> systems) {
+                                                      List<?> systems,
+                                                      AnalysisFormat format,
+                                                      boolean includeContent,
+                                                      ParsingProgress progress) {
         // PostgreSQL 파싱 전략을 사용하여 처리
         return plSqlFileParserService.processParsingBySystemsWithStrategy(
             sessionUUID, 
             projectName, 
-            systems, 
-            this::parseFile
+            systems,
+            format,
+            includeContent,
+            getSupportedDbmsType(),
+            getAnalysisVersion(),
+            progress,
+            (source, outputPath) -> parseFile(source, outputPath, format)
         );
     }
     
     @Override
-    public void parseFile(File file, String outputPath) throws Exception {
+    public void parseFile(SourceText source, String outputPath, AnalysisFormat format) throws Exception {
         log.debug("      [ANTLR PostgreSQL 파싱 시작]");
-        try (InputStream in = new FileInputStream(file)) {
-            CharStream charStream = CharStreams.fromStream(in);
-            PostgreSQLLexer lexer = new PostgreSQLLexer(charStream);
-            CommonTokenStream tokens = new CommonTokenStream(lexer);
-            PostgreSQLParser parser = new PostgreSQLParser(tokens);
-            
-            // PostgreSQL 파서의 root 규칙 실행
-            PostgreSQLParser.RootContext tree = parser.root();
-            
-            // CustomPostgreSQLListener로 파싱
-            CustomPostgreSQLListener listener = new CustomPostgreSQLListener(tokens);
-            new ParseTreeWalker().walk(listener, tree);
-            
-            // 분석 결과 저장
-            File analysisFile = new File(outputPath);
-            try (FileWriter writer = new FileWriter(analysisFile)) {
-                writer.write(listener.getRoot().toJson());
-            }
-            log.debug("      → 분석 결과 저장: {}", analysisFile.getName());
+        String type = getSupportedDbmsType();
+        long start = System.nanoTime();
+        CharStream input = source.toCharStream();
+        parseMetrics.record(type, Phase.DECODE, start);
+        NodeTree root = pipeline.parse(input, source.getName(), new File(outputPath), format);
+        if (root == null) {
+            log.debug("      → 분석 결과 스트리밍 저장: {} ({})", new File(outputPath).getName(), format);
+            return;
         }
+
+        // 분석 결과 저장
+        start = System.nanoTime();
+        long bytes = format.write(root, outputPath);
+        parseMetrics.record(type, Phase.WRITE, start);
+        parseMetrics.recordNodes(type, root);
+        parseMetrics.recordBytesWritten(type, bytes);
+        log.debug("      → 분석 결과 저장: {} ({})", new File(outputPath).getName(), format);
     }
-    
+
+    @Override
+    public NodeTree parse(CharStream input, String sourceName) {
+        return pipeline.parse(input, sourceName, null, null);
+    }
+
+    /**
+     * 지금까지 모은 PL/pgSQL 본문을 파싱해 연결하고 목록을 비움 (스트리밍은 단위마다 다시 모음)
+     */
+    private void attachBodies(CustomPostgreSQLListener listener, String sourceName) {
+        List<PlpgsqlBody> bodies = listener.getPlpgsqlBodies();
+        if (!bodies.isEmpty()) {
+            plpgsqlBodyParser.attach(sourceName, listener.getTree(), new ArrayList<>(bodies));
+            bodies.clear();
+        }
+    }
+
     @Override
     public String getSupportedDbmsType() {
         return "postgresql";
     }
+
+    /**
+     * 2: 원본을 감지한 문자셋(UTF-8/EUC-KR/MS949)으로 디코딩해 파서에 전달 (이전에는 항상 UTF-8)
+     */
+    @Override
+    public String getAnalysisVersion() {
+        return "2";
+    }
 }
 
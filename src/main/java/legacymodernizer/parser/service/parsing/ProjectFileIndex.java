@@ -0,0 +1,318 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로젝트 파일 인덱스 ({프로젝트 루트}/.file-index)
+ * - 파일명(소문자) → 파일 경로, 조회는 해시 맵 한 번 (트리 재탐색 없음)
+ * - 디렉터리별 목록과 수정 시각(mtime)을 저장하고, refresh()는 디렉터리 mtime만 확인해 바뀐 디렉터리만 다시 읽음
+ *   (파일 추가/삭제/이름 변경은 해당 디렉터리의 mtime을 바꾸므로 비용은 파일 수가 아니라 디렉터리 수에 비례)
+ * - 읽은 시각과 mtime 차이가 파일시스템 시간 해상도 이내면 신뢰하지 않고 다음 refresh에서 다시 읽음
+ * - 소스 버킷은 하위 디렉터리까지, 나머지 버킷은 최상위 파일만 색인
+ * - 같은 이름이 여러 곳에 있으면 소스 버킷(경로 순) → 나머지 버킷(선언 순) 우선
+ * - 모든 메서드는 인스턴스 모니터로 보호 (여러 파싱 스레드에서 동시 조회)
+ */
+@Slf4j
+public final class ProjectFileIndex {
+
+    /** 인덱스 파일명 */
+    public static final String FILE_NAME = ".file-index";
+
+    /** mtime을 신뢰하지 않는 구간 (파일시스템 시간 해상도) */
+    private static final long RACY_MILLIS = 2000;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path root;
+    private final List<String> buckets;
+    private final TreeMap<String, Dir> dirs;
+    private final Map<String, String> byName = new HashMap<>();
+    private boolean dirty;
+
+    private ProjectFileIndex(Path root, List<String> buckets, TreeMap<String, Dir> dirs) {
+        this.root = root;
+        this.buckets = buckets;
+        this.dirs = dirs;
+        rebuild();
+    }
+
+    /**
+     * 인덱스 읽기 (없거나 손상된 경우 빈 인덱스 → 첫 refresh에서 전체 색인)
+     * @param projectRoot 프로젝트 루트 디렉터리
+     * @param sourceBucket 하위 디렉터리까지 색인할 소스 버킷 (예: src)
+     * @param flatBuckets 최상위 파일만 색인할 버킷 (예: ddl, sequence)
+     * @return 파일 인덱스
+     */
+    public static ProjectFileIndex load(String projectRoot, String sourceBucket, String... flatBuckets) {
+        Path root = Path.of(projectRoot).toAbsolutePath().normalize();
+        List<String> buckets = new ArrayList<>();
+        buckets.add(sourceBucket);
+        buckets.addAll(Arrays.asList(flatBuckets));
+
+        TreeMap<String, Dir> dirs = new TreeMap<>();
+        File file = root.resolve(FILE_NAME).toFile();
+        if (file.isFile()) {
+            try {
+                dirs.putAll(MAPPER.readValue(file, new TypeReference<Map<String, Dir>>() {
+                }));
+            } catch (IOException e) {
+                log.debug("[file-index] 인덱스 무시 (손상) - {}", file.getPath());
+            }
+        }
+        return new ProjectFileIndex(root, buckets, dirs);
+    }
+
+    /**
+     * 파일명으로 검색
+     * @param fileName 파일명 (경로가 붙어 있으면 마지막 이름만 사용, 대소문자 무시)
+     * @return 파일 (없으면 null)
+     */
+    public synchronized File find(String fileName) {
+        if (fileName == null) {
+            return null;
+        }
+        String rel = byName.get(Path.of(fileName).getFileName().toString().toLowerCase());
+        return rel != null ? root.resolve(rel).toFile() : null;
+    }
+
+    public synchronized int size() {
+        return byName.size();
+    }
+
+    /**
+     * 디렉터리 mtime을 확인해 바뀐 디렉터리만 다시 색인
+     * @return 변경 여부
+     */
+    public synchronized boolean refresh() {
+        Changes changes = new Changes();
+        boolean changed = false;
+        for (int i = 0; i < buckets.size(); i++) {
+            changed |= refreshDir(buckets.get(i), i == 0, changes);
+        }
+        apply(changes);
+        return changed;
+    }
+
+    /**
+     * 저장된 파일 즉시 반영 (파일이 있는 디렉터리와 상위 디렉터리만 확인)
+     * @param file 버킷 아래에 저장된 파일
+     */
+    public synchronized void add(File file) {
+        Path path = file.toPath().toAbsolutePath().normalize();
+        if (!path.startsWith(root) || path.getParent() == null) {
+            return;
+        }
+        String relDir = toRel(root.relativize(path.getParent()));
+        int rank = rankOf(relDir);
+        if (rank < 0) {
+            return;
+        }
+        Changes changes = new Changes();
+        String bucket = buckets.get(rank);
+        refreshDir(bucket, false, changes);
+        if (rank == 0 && !relDir.equals(bucket)) {
+            StringBuilder rel = new StringBuilder(bucket);
+            for (String part : relDir.substring(bucket.length() + 1).split("/")) {
+                rel.append('/').append(part);
+                refreshDir(rel.toString(), false, changes);
+            }
+        }
+        apply(changes);
+    }
+
+    /**
+     * 변경 사항이 있으면 저장 (임시 파일에 쓴 뒤 교체, 실패해도 요청은 계속)
+     */
+    public synchronized void save() {
+        if (!dirty || !Files.isDirectory(root)) {
+            return;
+        }
+        dirty = false;
+        Path target = root.resolve(FILE_NAME);
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(root, FILE_NAME, ".tmp");
+            MAPPER.writeValue(tmp.toFile(), dirs);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("[file-index] 인덱스 저장 실패 - {}: {}", target, e.getMessage());
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // 임시 파일 정리 실패는 무시
+                }
+            }
+        }
+    }
+
+    // ========================================
+    // 디렉터리 색인
+    // ========================================
+
+    private boolean refreshDir(String rel, boolean recursive, Changes changes) {
+        File dir = root.resolve(rel).toFile();
+        long mtime = dir.lastModified();
+        if (mtime == 0 || !dir.isDirectory()) {
+            if (dirs.containsKey(rel)) {
+                removeTree(rel, changes);
+                return true;
+            }
+            return false;
+        }
+
+        boolean changed = false;
+        Dir entry = dirs.get(rel);
+        if (entry == null || entry.mtime != mtime) {
+            entry = scan(rel, dir, mtime, entry, changes);
+            changed = true;
+        }
+        if (recursive) {
+            for (String sub : new ArrayList<>(entry.subdirs)) {
+                changed |= refreshDir(rel + "/" + sub, true, changes);
+            }
+        }
+        return changed;
+    }
+
+    private Dir scan(String rel, File dir, long mtime, Dir previous, Changes changes) {
+        Dir entry = new Dir();
+        entry.mtime = System.currentTimeMillis() - mtime < RACY_MILLIS ? 0 : mtime;
+        File[] list = dir.listFiles();
+        if (list != null) {
+            for (File f : list) {
+                if (f.isFile()) {
+                    entry.files.add(f.getName());
+                } else if (f.isDirectory()) {
+                    entry.subdirs.add(f.getName());
+                }
+            }
+        }
+        entry.files.sort(null);
+        entry.subdirs.sort(null);
+
+        Set<String> before = previous != null ? new HashSet<>(previous.files) : Set.of();
+        for (String name : entry.files) {
+            if (!before.contains(name)) {
+                changes.added.add(rel + "/" + name);
+            }
+        }
+        if (previous != null) {
+            if (!new HashSet<>(entry.files).containsAll(previous.files)) {
+                changes.removed = true;
+            }
+            for (String sub : previous.subdirs) {
+                if (!entry.subdirs.contains(sub)) {
+                    removeTree(rel + "/" + sub, changes);
+                }
+            }
+        }
+        dirs.put(rel, entry);
+        return entry;
+    }
+
+    private void removeTree(String rel, Changes changes) {
+        dirs.subMap(rel + "/", rel + "0").clear();
+        dirs.remove(rel);
+        changes.removed = true;
+    }
+
+    private void apply(Changes changes) {
+        if (changes.removed) {
+            rebuild();
+        } else {
+            for (String rel : changes.added) {
+                put(rel);
+            }
+        }
+        if (changes.removed || !changes.added.isEmpty()) {
+            dirty = true;
+        }
+    }
+
+    // ========================================
+    // 이름 → 경로 맵
+    // ========================================
+
+    private void rebuild() {
+        byName.clear();
+        for (int rank = 0; rank < buckets.size(); rank++) {
+            String bucket = buckets.get(rank);
+            for (Map.Entry<String, Dir> e : dirs.entrySet()) {
+                String rel = e.getKey();
+                if (rel.equals(bucket) || (rank == 0 && rel.startsWith(bucket + "/"))) {
+                    for (String name : e.getValue().files) {
+                        byName.putIfAbsent(name.toLowerCase(), rel + "/" + name);
+                    }
+                }
+            }
+        }
+    }
+
+    private void put(String relPath) {
+        String key = relPath.substring(relPath.lastIndexOf('/') + 1).toLowerCase();
+        String existing = byName.get(key);
+        if (existing == null || precedes(relPath, existing)) {
+            byName.put(key, relPath);
+        }
+    }
+
+    /**
+     * rebuild()와 같은 우선순위 비교 (버킷 순 → 디렉터리 경로 순 → 파일명 순)
+     */
+    private boolean precedes(String a, String b) {
+        int rankA = rankOf(a.substring(0, a.lastIndexOf('/')));
+        int rankB = rankOf(b.substring(0, b.lastIndexOf('/')));
+        if (rankA != rankB) {
+            return rankA >= 0 && (rankB < 0 || rankA < rankB);
+        }
+        int byDir = a.substring(0, a.lastIndexOf('/')).compareTo(b.substring(0, b.lastIndexOf('/')));
+        return byDir != 0 ? byDir < 0 : a.compareTo(b) < 0;
+    }
+
+    private int rankOf(String relDir) {
+        for (int rank = 0; rank < buckets.size(); rank++) {
+            String bucket = buckets.get(rank);
+            if (relDir.equals(bucket) || (rank == 0 && relDir.startsWith(bucket + "/"))) {
+                return rank;
+            }
+        }
+        return -1;
+    }
+
+    private static String toRel(Path rel) {
+        return rel.toString().replace('\\', '/');
+    }
+
+    /**
+     * 디렉터리 항목 (인덱스 파일 직렬화 단위)
+     */
+    static final class Dir {
+        public long mtime;
+        public List<String> files = new ArrayList<>();
+        public List<String> subdirs = new ArrayList<>();
+    }
+
+    private static final class Changes {
+        private final List<String> added = new ArrayList<>();
+        private boolean removed;
+    }
+}
@@ -0,0 +1,63 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로젝트 파일 인덱스 보관소
+ * - 최근 사용한 프로젝트 인덱스를 메모리에 유지 (parser.file-index.max-projects, LRU)
+ * - 메모리에 없으면 {프로젝트 루트}/.file-index에서 읽고, 조회할 때마다 디렉터리 mtime으로 갱신
+ */
+@Slf4j
+@Component
+public class ProjectFileIndexRegistry {
+
+    private final Map<String, ProjectFileIndex> indexes;
+
+    public ProjectFileIndexRegistry(@Value("${parser.file-index.max-projects:64}") int maxProjects) {
+        this.indexes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ProjectFileIndex> eldest) {
+                return size() > Math.max(1, maxProjects);
+            }
+        };
+    }
+
+    /**
+     * 프로젝트 인덱스 조회 (바뀐 디렉터리만 다시 색인하고 변경 시 저장)
+     * @param projectRoot 프로젝트 루트 디렉터리
+     * @param sourceBucket 하위 디렉터리까지 색인할 소스 버킷
+     * @param flatBuckets 최상위 파일만 색인할 버킷
+     * @return 최신 상태의 파일 인덱스
+     */
+    public ProjectFileIndex get(String projectRoot, String sourceBucket, String... flatBuckets) {
+        ProjectFileIndex index = peek(projectRoot, sourceBucket, flatBuckets);
+        long start = System.nanoTime();
+        if (index.refresh()) {
+            log.debug("[file-index] 갱신 - {} ({}개, {}ms)", projectRoot, index.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+        index.save();
+        return index;
+    }
+
+    /**
+     * 프로젝트 인덱스 조회 (갱신/저장 없이, 파일 저장 직후 add() 용)
+     * - 저장은 다음 get() 또는 호출자의 save()에서 수행
+     * @param projectRoot 프로젝트 루트 디렉터리
+     * @param sourceBucket 하위 디렉터리까지 색인할 소스 버킷
+     * @param flatBuckets 최상위 파일만 색인할 버킷
+     * @return 파일 인덱스
+     */
+    public ProjectFileIndex peek(String projectRoot, String sourceBucket, String... flatBuckets) {
+        String key = Path.of(projectRoot).toAbsolutePath().normalize().toString();
+        synchronized (indexes) {
+            return indexes.computeIfAbsent(key, k -> ProjectFileIndex.load(k, sourceBucket, flatBuckets));
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import legacymodernizer.parser.antlr.SourceCharStream;
+import legacymodernizer.parser.antlr.SourceCharStream.Fold;
+
+/**
+ * 원본 소스 파일 (한 번 읽고 한 번 디코딩)
+ * - 파일 바이트를 한 번만 읽어 SHA-256, 인코딩 판별, 디코딩에 공유
+ * - MAP_THRESHOLD 이상인 파일은 힙에 복사하지 않고 메모리 매핑
+ * - 인코딩 판별과 디코딩은 처음 필요할 때 한 번만 수행 (메타데이터 전용 응답은 디코딩하지 않음)
+ * - ASCII 전용 파일은 디코딩 없이 원본 바이트로 CharStream 생성
+ * - 디코딩된 문자열을 ANTLR CharStream과 응답(fileContent)에 함께 사용하므로 파서와 응답의 인코딩이 항상 같음
+ * - 파일 하나를 처리하는 스레드에서만 사용 (스레드 안전하지 않음)
+ */
+public final class SourceText {
+
+    /** EUC-KR (KS X 1001 완성형 범위만 사용하는 파일) */
+    public static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    /** MS949 (EUC-KR 상위 집합, 확장 완성형 포함) */
+    public static final Charset MS949 = Charset.forName("MS949");
+
+    /** 메모리 매핑 기준 크기 (이보다 작은 파일은 힙 배열로 읽음) */
+    public static final long MAP_THRESHOLD = 1L << 20;
+
+    private final File file;
+    private final ByteBuffer bytes;
+    private final EncodingManifest encodings;
+    private Charset charset;
+    private String text;
+    private String sha256;
+    private Boolean ascii;
+
+    private SourceText(File file, ByteBuffer bytes, EncodingManifest encodings) {
+        this.file = file;
+        this.bytes = bytes;
+        this.encodings = encodings;
+    }
+
+    /**
+     * 파일 읽기 (디코딩은 getText() 호출 시)
+     * @param file 원본 파일
+     * @param encodings 프로젝트 인코딩 매니페스트 (null이면 매번 판별)
+     * @return 원본 소스
+     */
+    public static SourceText read(File file, EncodingManifest encodings) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size >= MAP_THRESHOLD && size <= Integer.MAX_VALUE) {
+                return new SourceText(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, size), encodings);
+            }
+        }
+        return new SourceText(file, ByteBuffer.wrap(Files.readAllBytes(file.toPath())), encodings);
+    }
+
+    public String getName() {
+        return file.getName();
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public long getSize() {
+        return bytes.remaining();
+    }
+
+    /**
+     * 원본 바이트 SHA-256 (16진수)
+     * @return 해시 문자열
+     */
+    public String getSha256() {
+        if (sha256 == null) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                digest.update(bytes.duplicate());
+                sha256 = HexFormat.of().formatHex(digest.digest());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return sha256;
+    }
+
+    /**
+     * 파일 인코딩 (매니페스트에 기록된 값이 유효하면 판별 생략)
+     * @return 인코딩
+     */
+    public Charset getCharset() {
+        if (charset == null) {
+            Charset recorded = encodings != null ? encodings.lookup(file) : null;
+            charset = recorded != null ? recorded : detect(bytes);
+            if (encodings != null && recorded == null) {
+                encodings.record(file, charset);
+            }
+        }
+        return charset;
+    }
+
+    /**
+     * 디코딩된 소스 문자열
+     * @return 소스 문자열
+     */
+    public String getText() {
+        if (text == null) {
+            text = bytes.hasArray()
+                    ? new String(bytes.array(), bytes.arrayOffset(), bytes.remaining(), getCharset())
+                    : getCharset().decode(bytes.duplicate()).toString();
+        }
+        return text;
+    }
+
+    /**
+     * 모든 바이트가 ASCII인지 여부 (UTF-8/EUC-KR/MS949 모두 ASCII 호환이므로 인코딩과 무관)
+     * @return ASCII 전용 여부
+     */
+    public boolean isAscii() {
+        if (ascii == null) {
+            boolean result = true;
+            for (int i = 0, n = bytes.remaining(); i < n && result; i++) {
+                result = bytes.get(i) >= 0;
+            }
+            ascii = result;
+        }
+        return ascii;
+    }
+
+    /**
+     * ANTLR 문자 스트림 생성 (문자 변환 없음)
+     * @return 문자 스트림 (소스 이름: 파일명)
+     */
+    public SourceCharStream toCharStream() {
+        return toCharStream(Fold.NONE);
+    }
+
+    /**
+     * ANTLR 문자 스트림 생성
+     * - ASCII 전용 파일은 원본 바이트(매핑된 버퍼 포함)를 그대로 사용
+     * - 그 외에는 디코딩된 문자열 사용 (응답 fileContent와 공유)
+     * @param fold 렉서에 보이는 문자 변환 방식
+     * @return 문자 스트림 (소스 이름: 파일명)
+     */
+    public SourceCharStream toCharStream(Fold fold) {
+        if (isAscii()) {
+            return SourceCharStream.ofAscii(bytes, getName(), fold);
+        }
+        return SourceCharStream.ofText(getText(), getName(), fold);
+    }
+
+    // ========================================
+    // 인코딩 판별
+    // ========================================
+
+    /**
+     * 바이트 기반 인코딩 판별 (UTF-8 → EUC-KR → MS949)
+     * - 엄격한 UTF-8 시퀀스(과잉 표현/서러게이트 제외)면 UTF-8 (ASCII 포함)
+     * - 아니면 2바이트 쌍이 모두 KS X 1001 범위(0xA1-0xFE)면 EUC-KR, 확장 완성형이 있으면 MS949
+     * @param bytes 원본 바이트
+     * @return 인코딩
+     */
+    public static Charset detect(byte[] bytes) {
+        return detect(ByteBuffer.wrap(bytes));
+    }
+
+    private static Charset detect(ByteBuffer bytes) {
+        if (isUtf8(bytes)) {
+            return StandardCharsets.UTF_8;
+        }
+        int n = bytes.remaining();
+        int i = 0;
+        while (i < n) {
+            int lead = bytes.get(i) & 0xFF;
+            if (lead < 0x80) {
+                i++;
+                continue;
+            }
+            if (i + 1 >= n) {
+                return MS949;
+            }
+            int trail = bytes.get(i + 1) & 0xFF;
+            if (lead < 0xA1 || lead > 0xFE || trail < 0xA1 || trail > 0xFE) {
+                return MS949;
+            }
+            i += 2;
+        }
+        return EUC_KR;
+    }
+
+    private static boolean isUtf8(ByteBuffer bytes) {
+        int n = bytes.remaining();
+        int i = 0;
+        while (i < n) {
+            int c = bytes.get(i) & 0xFF;
+            if (c < 0x80) {
+                i++;
+                continue;
+            }
+            int continuation;
+            if (c >= 0xC2 && c <= 0xDF) {
+                continuation = 1;
+            } else if (c >= 0xE0 && c <= 0xEF) {
+                continuation = 2;
+            } else if (c >= 0xF0 && c <= 0xF4) {
+                continuation = 3;
+            } else {
+                return false;
+            }
+            if (i + continuation >= n) {
+                return false;
+            }
+            int second = bytes.get(i + 1) & 0xFF;
+            if ((c == 0xE0 && second < 0xA0) || (c == 0xED && second > 0x9F)
+                    || (c == 0xF0 && second < 0x90) || (c == 0xF4 && second > 0x8F)) {
+                return false;
+            }
+            for (int k = 1; k <= continuation; k++) {
+                if ((bytes.get(i + k) & 0xC0) != 0x80) {
+                    return false;
+                }
+            }
+            i += continuation + 1;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,209 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.WritableToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import legacymodernizer.parser.antlr.NodeTree;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파일 내부 분할 병렬 파싱
+ * - 렉싱이 끝난 토큰 목록에서 최상위 단위 경계(문법별 규칙, 괄호 밖)를 찾아 구간으로 나눔
+ * - 구간마다 시작 규칙(sql_script/root)으로 파싱 + 리스너 순회 후 구간 트리의 최상위 노드를 루트 아래에 순서대로 복사
+ * - 토큰은 원본 그대로 사용하므로 라인 번호 보정이 필요 없음
+ * - 호출 스레드도 구간을 처리하므로 파싱 풀이 가득 차 있어도 대기하지 않음 (빈 스레드가 있을 때만 병렬)
+ * - 한 구간이라도 문법 오류/리스너 상태 불일치가 있으면 null 반환 → 호출자가 파일 전체를 순차 파싱
+ *   (오류 복구 결과와 구간 간 리스너 상태까지 순차 파싱과 동일하게 유지)
+ * - 파싱 제한 시간 초과(ParseTimeoutException)는 순차 파싱으로 전환하지 않고 그대로 전달 (부분 트리 없음)
+ * - parser.parsing.split.enabled, parser.parsing.split.min-tokens, parser.parsing.split.chunk-tokens
+ */
+@Slf4j
+@Component
+public class SplitParser {
+
+    /**
+     * 최상위 단위 경계 규칙
+     */
+    @FunctionalInterface
+    public interface Boundary {
+        /**
+         * 괄호 밖 토큰 앞에서 나눌 수 있는지 판정
+         * @param type 현재 토큰 타입
+         * @param previous 직전 기본 채널 토큰 타입
+         * @param beforePrevious 그 앞 기본 채널 토큰 타입
+         * @return 경계 여부
+         */
+        boolean startsUnit(int type, int previous, int beforePrevious);
+    }
+
+    /**
+     * 구간 파싱 함수 (파싱 스레드에서 동시에 호출됨)
+     */
+    @FunctionalInterface
+    public interface ChunkParser {
+        /**
+         * @param source 구간 토큰 소스 (끝에 EOF)
+         * @return 구간 분석 트리, 순차 파싱과 결과가 다를 수 있으면 null
+         */
+        NodeTree parse(TokenSource source);
+    }
+
+    private final ParsingExecutor parsingExecutor;
+    private final boolean enabled;
+    private final int minTokens;
+    private final int chunkTokens;
+
+    public SplitParser(ParsingExecutor parsingExecutor,
+                       @Value("${parser.parsing.split.enabled:true}") boolean enabled,
+                       @Value("${parser.parsing.split.min-tokens:50000}") int minTokens,
+                       @Value("${parser.parsing.split.chunk-tokens:20000}") int chunkTokens) {
+        this.parsingExecutor = parsingExecutor;
+        this.enabled = enabled;
+        this.minTokens = minTokens;
+        this.chunkTokens = Math.max(1, chunkTokens);
+    }
+
+    /**
+     * 최상위 단위로 나눠 병렬 파싱
+     * @param strategyType 전략 타입 (로그용)
+     * @param sourceName 파일명 (로그용)
+     * @param tokens 렉싱이 끝난(fill) 토큰 스트림
+     * @param openParen 여는 괄호 토큰 타입
+     * @param closeParen 닫는 괄호 토큰 타입
+     * @param boundary 경계 규칙
+     * @param chunkParser 구간 파싱 함수
+     * @return 구간 결과를 연결한 분석 트리, 나누지 않았거나 순차 파싱이 필요하면 null
+     */
+    public NodeTree parse(String strategyType,
+                      String sourceName,
+                      CommonTokenStream tokens,
+                      int openParen,
+                      int closeParen,
+                      Boundary boundary,
+                      ChunkParser chunkParser) {
+        if (!enabled || tokens.size() < minTokens || parsingExecutor.getPoolSize() < 2) {
+            return null;
+        }
+        List<Token> all = tokens.getTokens();
+        List<Integer> starts = plan(all, openParen, closeParen, boundary);
+        if (starts.size() < 2) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        int n = starts.size();
+        NodeTree[] roots = new NodeTree[n];
+        AtomicBoolean failed = new AtomicBoolean();
+        AtomicReference<ParseTimeoutException> timeout = new AtomicReference<>();
+        parsingExecutor.runCooperatively(n, i -> {
+            if (failed.get()) {
+                return;
+            }
+            try {
+                int from = starts.get(i);
+                int to = i + 1 < n ? starts.get(i + 1) : all.size();
+                roots[i] = chunkParser.parse(new ListTokenSource(all.subList(from, to), sourceName));
+                if (roots[i] == null) {
+                    failed.set(true);
+                }
+            } catch (ParseTimeoutException e) {
+                timeout.compareAndSet(null, e);
+                failed.set(true);
+            } catch (RuntimeException e) {
+                log.debug("      [{}] {} - 구간 {} 파싱 실패: {}", strategyType, sourceName, i, e.getMessage());
+                failed.set(true);
+            }
+        });
+
+        if (timeout.get() != null) {
+            restoreTokenIndexes(all);
+            throw timeout.get();
+        }
+
+        if (failed.get()) {
+            restoreTokenIndexes(all);
+            log.debug("      [{}] {} - 분할 파싱 포기, 순차 파싱으로 전환 ({}개 구간)", strategyType, sourceName, n);
+            return null;
+        }
+
+        NodeTree root = new NodeTree(roots[0].type(NodeTree.ROOT), roots[0].startLine(NodeTree.ROOT));
+        for (int i = 0; i < n; i++) {
+            // 복사한 구간 트리는 바로 놓아 합치는 동안 두 벌이 모두 남지 않도록 함
+            root.graft(NodeTree.ROOT, root.lastChild(NodeTree.ROOT), roots[i], NodeTree.ROOT);
+            roots[i] = null;
+        }
+        log.debug("      [{}] {} - 분할 파싱 {}개 구간 ({}ms)", strategyType, sourceName, n, (System.nanoTime() - start) / 1_000_000);
+        return root;
+    }
+
+    /**
+     * 구간 시작 토큰 인덱스 결정 (구간당 chunk-tokens개 이상, 파싱 스레드 수의 2배 정도로 균등 분할)
+     */
+    private List<Integer> plan(List<Token> all, int openParen, int closeParen, Boundary boundary) {
+        int target = Math.max(chunkTokens, all.size() / (parsingExecutor.getPoolSize() * 2));
+        List<Integer> starts = new ArrayList<>();
+        starts.add(0);
+        int depth = 0;
+        int previous = Token.INVALID_TYPE;
+        int beforePrevious = Token.INVALID_TYPE;
+        for (int i = 0; i < all.size(); i++) {
+            Token token = all.get(i);
+            if (token.getChannel() != Token.DEFAULT_CHANNEL) {
+                continue;
+            }
+            int type = token.getType();
+            if (type == Token.EOF) {
+                break;
+            }
+            if (depth == 0 && i - starts.get(starts.size() - 1) >= target
+                    && boundary.startsUnit(type, previous, beforePrevious)) {
+                starts.add(withLeadingHidden(all, i));
+            }
+            if (type == openParen) {
+                depth++;
+            } else if (type == closeParen && depth > 0) {
+                depth--;
+            }
+            beforePrevious = previous;
+            previous = type;
+        }
+        // 마지막 구간이 너무 짧으면 앞 구간에 합침
+        if (starts.size() > 1 && all.size() - starts.get(starts.size() - 1) < target / 2) {
+            starts.remove(starts.size() - 1);
+        }
+        return starts;
+    }
+
+    /**
+     * 경계 토큰 앞의 숨김 채널 토큰(공백/주석)은 다음 구간에 포함
+     */
+    private static int withLeadingHidden(List<Token> all, int index) {
+        int i = index;
+        while (i > 0 && all.get(i - 1).getChannel() != Token.DEFAULT_CHANNEL) {
+            i--;
+        }
+        return i;
+    }
+
+    /**
+     * 구간 토큰 스트림이 바꾼 토큰 인덱스를 원래대로 복원 (순차 파싱 전환 시)
+     */
+    private static void restoreTokenIndexes(List<Token> all) {
+        for (int i = 0; i < all.size(); i++) {
+            Token token = all.get(i);
+            if (token instanceof WritableToken && token.getTokenIndex() != i) {
+                ((WritableToken) token).setTokenIndex(i);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package legacymodernizer.parser.service.parsing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최상위 단위 스트리밍 출력 설정 (StreamingUnitWalker)
+ * - parser.parsing.streaming.min-tokens: 토큰 수가 이 값 이상인 파일만 스트리밍 (0이면 사용 안 함)
+ * - JSON 형식만 지원 (.ast는 타입 사전이 앞에 있어 모든 노드를 본 뒤에만 쓸 수 있음)
+ * - 스트리밍하는 파일은 분할 병렬 파싱을 하지 않음 (순차 파싱)
+ */
+@Component
+public class StreamingOutputPolicy {
+
+    private final long minTokens;
+
+    public StreamingOutputPolicy(@Value("${parser.parsing.streaming.min-tokens:0}") long minTokens) {
+        this.minTokens = minTokens;
+    }
+
+    /**
+     * 스트리밍 출력 대상 여부
+     * @param format 분석 결과 저장 형식 (null이면 파일로 저장하지 않는 호출)
+     * @param tokens 렉싱한 토큰 수
+     * @return 스트리밍 여부
+     */
+    public boolean accepts(AnalysisFormat format, int tokens) {
+        return minTokens > 0 && format == AnalysisFormat.JSON && tokens >= minTokens;
+    }
+}
@@ -0,0 +1,206 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import legacymodernizer.parser.antlr.NodeJsonWriter;
+import legacymodernizer.parser.antlr.NodeTree;
+import legacymodernizer.parser.antlr.NodeTreeListener;
+
+/**
+ * 최상위 문장 단위 스트리밍 분석 (Parser.addParseListener로 등록, JSON 출력 전용)
+ * - 문장 목록 규칙(Oracle sql_script, PostgreSQL stmtmulti)의 자식 규칙이 끝나면 바로 분석 리스너로 순회하고 파스 트리에서 떼어 냄
+ * - 리스너에 열린 노드가 없으면 루트 아래 완성된 노드를 JSON으로 출력하고 분석 트리를 루트만 남기고 비움
+ *   → 파스 트리/분석 트리 메모리가 파일 크기가 아니라 가장 큰 최상위 단위에 비례
+ * - 순회 순서가 전체 트리 순회와 같으므로 출력은 파싱 후 한 번에 저장한 JSON과 바이트 단위로 동일
+ *   (분석 리스너는 문장 목록/시작 규칙을 구독하지 않음)
+ * - 시작 규칙에 다시 들어오면(SLL 실패 → LL 재파싱) 새 리스너로 출력 파일을 처음부터 다시 씀
+ * - beforeDrain: 출력 직전 처리 (PostgreSQL은 미뤄 둔 PL/pgSQL 본문을 파싱해 연결)
+ * - 규칙 종료 이벤트는 예외로 빠져나갈 때도(finally의 exitRule) 발생하므로 SLL 포기/제한 시간 초과 중에는 처리하지 않음
+ */
+public final class StreamingUnitWalker<L extends NodeTreeListener> implements ParseTreeListener {
+
+    private final Parser parser;
+    private final File file;
+    private final Class<? extends ParserRuleContext> containerType;
+    private final Supplier<L> listenerFactory;
+    private final Consumer<L> beforeDrain;
+    private L listener;
+    private Writer out;
+    private boolean first;
+    private long nodeCount;
+
+    /**
+     * @param parser 등록할 파서 (SLL 단계 여부 확인용)
+     * @param file JSON 출력 파일
+     * @param containerType 최상위 문장 목록 규칙 컨텍스트 타입
+     * @param listenerFactory 분석 리스너 생성 (재파싱마다 새 인스턴스)
+     * @param beforeDrain 출력 직전 처리 (없으면 아무것도 하지 않는 함수)
+     */
+    public StreamingUnitWalker(Parser parser,
+                               File file,
+                               Class<? extends ParserRuleContext> containerType,
+                               Supplier<L> listenerFactory,
+                               Consumer<L> beforeDrain) {
+        this.parser = parser;
+        this.file = file;
+        this.containerType = containerType;
+        this.listenerFactory = listenerFactory;
+        this.beforeDrain = beforeDrain;
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        if (ctx.getParent() == null) {
+            begin();
+        }
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        ParserRuleContext parent = ctx.getParent();
+        if (parent == null || parent.getClass() != containerType || isUnwinding(ctx)) {
+            return;
+        }
+        listener.walk(ctx);
+        parent.removeLastChild();
+        if (listener.isBalanced()) {
+            beforeDrain.accept(listener);
+            drain();
+        }
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+    }
+
+    /**
+     * 예외로 규칙을 빠져나가는 중인지 확인
+     * - SLL 단계(BailErrorStrategy)는 포기 시 현재 문맥부터 루트까지 exception을 채운 뒤 예외를 던짐
+     * - 제한 시간 초과는 토큰 스트림에서 던지므로 제한 시각 만료 여부로 판정
+     */
+    private boolean isUnwinding(ParserRuleContext ctx) {
+        return (ctx.exception != null && parser.getErrorHandler() instanceof BailErrorStrategy)
+                || ParseDeadline.current().isExpired();
+    }
+
+    /**
+     * 파싱 종료: 남은 파스 트리를 순회하고 남은 노드를 모두 출력한 뒤 파일을 닫음
+     * @param tree 시작 규칙 결과 (출력한 단위는 이미 떼어 낸 상태)
+     * @return 저장한 바이트 수
+     */
+    public long finish(ParserRuleContext tree) throws IOException {
+        listener.walk(tree);
+        beforeDrain.accept(listener);
+        drain();
+        close(true);
+        return file.length();
+    }
+
+    /**
+     * 제한 시간 초과: 중단 시점까지의 파스 트리를 같은 리스너로 순회해 출력을 닫고 부분 분석 파일로 전달
+     * - 이미 출력한 단위 + 중단된 단위의 부분 노드 (남은 PL/pgSQL 본문은 파싱하지 않음)
+     * @param timeout 제한 시간 초과 예외
+     * @return 부분 분석 파일을 연결한 예외
+     */
+    public ParseTimeoutException timeout(ParseTimeoutException timeout) {
+        if (listener == null) {
+            return timeout;
+        }
+        timeout.withPartialTree(listener, () -> null);
+        try {
+            drain();
+            close(true);
+            return timeout.withPartialFile(file);
+        } catch (RuntimeException | IOException e) {
+            abort();
+            return timeout;
+        }
+    }
+
+    /**
+     * 실패: 출력 파일을 닫고 삭제 (완성되지 않은 JSON이 남지 않도록)
+     */
+    public void abort() {
+        try {
+            close(false);
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException ignored) {
+            // 정리 실패는 무시 (다음 요청에서 분석 결과를 다시 만듦)
+        }
+    }
+
+    /**
+     * 출력한 분석 노드 수 (루트 포함)
+     */
+    public long getNodeCount() {
+        return nodeCount;
+    }
+
+    // ========================================
+    // 출력
+    // ========================================
+
+    private void begin() {
+        try {
+            close(false);
+            listener = listenerFactory.get();
+            out = new BufferedWriter(new FileWriter(file));
+            NodeJsonWriter.writeOpen(listener.getTree(), out);
+            first = true;
+            nodeCount = 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 루트 아래 노드를 출력하고 분석 트리를 루트만 남기고 비움 (배열 용량은 다음 단위에 재사용)
+     */
+    private void drain() {
+        NodeTree tree = listener.getTree();
+        try {
+            for (int child = tree.firstChild(NodeTree.ROOT); child != NodeTree.NONE; child = tree.nextSibling(child)) {
+                NodeJsonWriter.writeChild(tree, child, first, out);
+                first = false;
+                nodeCount += tree.nodeCount(child);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        tree.clear();
+    }
+
+    private void close(boolean complete) throws IOException {
+        if (out == null) {
+            return;
+        }
+        Writer writer = out;
+        out = null;
+        try {
+            if (complete) {
+                NodeJsonWriter.writeClose(writer);
+            }
+        } finally {
+            writer.close();
+        }
+    }
+}
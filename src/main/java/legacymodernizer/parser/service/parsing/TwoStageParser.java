@@ -0,0 +1,125 @@
+package legacymodernizer.parser.service.parsing;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.ANTLRErrorStrategy;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SLL → LL 2단계 예측 파싱 실행기
+ * - 1단계: PredictionMode.SLL + BailErrorStrategy (빠르지만 모호한 입력에서 실패 가능)
+ * - 2단계: 1단계 실패 시에만 토큰 스트림을 되감고 기본 LL 모드로 재파싱
+ * - 전략별로 어느 단계에서 성공했는지 누적 집계
+ * - parser.parsing.two-stage=false 이면 LL 단일 단계로만 파싱
+ */
+@Slf4j
+@Component
+public class TwoStageParser {
+
+    /**
+     * 파싱 성공 단계
+     */
+    public enum Stage { SLL, LL }
+
+    private final boolean twoStageEnabled;
+    private final Map<String, Map<Stage, LongAdder>> stageCounts = new ConcurrentHashMap<>();
+
+    public TwoStageParser(@Value("${parser.parsing.two-stage:true}") boolean twoStageEnabled) {
+        this.twoStageEnabled = twoStageEnabled;
+    }
+
+    /**
+     * 시작 규칙을 2단계 예측 모드로 실행
+     * @param strategyType 전략 타입 (집계 키)
+     * @param sourceName 파일명 (로그용)
+     * @param parser 토큰 스트림이 연결된 파서
+     * @param startRule 시작 규칙 (예: PlSqlParser::sql_script)
+     * @return 파스 트리
+     */
+    public <P extends Parser, T extends ParserRuleContext> T parse(String strategyType,
+                                                                   String sourceName,
+                                                                   P parser,
+                                                                   Function<P, T> startRule) {
+        if (!twoStageEnabled) {
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            T tree = startRule.apply(parser);
+            record(strategyType, Stage.LL);
+            return tree;
+        }
+
+        ANTLRErrorStrategy errorHandler = parser.getErrorHandler();
+        List<ANTLRErrorListener> errorListeners = new ArrayList<>(parser.getErrorListeners());
+        long start = System.nanoTime();
+
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.removeErrorListeners();
+        try {
+            T tree = startRule.apply(parser);
+            record(strategyType, Stage.SLL);
+            log.debug("      [{}] {} - SLL 단계 성공 ({}ms)", strategyType, sourceName, elapsedMillis(start));
+            return tree;
+        } catch (ParseCancellationException e) {
+            long sllMillis = elapsedMillis(start);
+            // 2단계: 토큰 스트림을 처음으로 되감고 LL 모드 + 기본 에러 처리로 재파싱
+            parser.reset();
+            parser.setErrorHandler(errorHandler);
+            errorListeners.forEach(parser::addErrorListener);
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            long llStart = System.nanoTime();
+            T tree = startRule.apply(parser);
+            record(strategyType, Stage.LL);
+            log.debug("      [{}] {} - SLL 실패({}ms) → LL 단계 성공 ({}ms)", strategyType, sourceName, sllMillis, elapsedMillis(llStart));
+            return tree;
+        } finally {
+            parser.setErrorHandler(errorHandler);
+            parser.removeErrorListeners();
+            errorListeners.forEach(parser::addErrorListener);
+        }
+    }
+
+    /**
+     * 전략별 단계 성공 횟수 조회
+     * @return 전략 타입 → {SLL, LL} 누적 횟수
+     */
+    public Map<String, Map<String, Long>> getStageCounts() {
+        Map<String, Map<String, Long>> snapshot = new LinkedHashMap<>();
+        stageCounts.forEach((type, counts) -> {
+            Map<String, Long> byStage = new LinkedHashMap<>();
+            for (Stage stage : Stage.values()) {
+                byStage.put(stage.name(), counts.get(stage).sum());
+            }
+            snapshot.put(type, byStage);
+        });
+        return snapshot;
+    }
+
+    private void record(String strategyType, Stage stage) {
+        stageCounts.computeIfAbsent(strategyType, k -> {
+            Map<Stage, LongAdder> counts = new ConcurrentHashMap<>();
+            for (Stage s : Stage.values()) {
+                counts.put(s, new LongAdder());
+            }
+            return counts;
+        }).get(stage).increment();
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
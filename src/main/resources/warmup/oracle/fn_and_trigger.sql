@@ -0,0 +1,26 @@
+CREATE OR REPLACE FUNCTION fn_calc_grade(p_amount NUMBER) RETURN VARCHAR2
+AS
+  v_grade VARCHAR2(1);
+BEGIN
+  IF p_amount > 10000 THEN
+    v_grade := 'A';
+  ELSIF p_amount > 5000 THEN
+    v_grade := 'B';
+  ELSE
+    v_grade := 'C';
+  END IF;
+  RETURN v_grade;
+END;
+/
+
+CREATE OR REPLACE TRIGGER trg_orders_biu
+BEFORE INSERT OR UPDATE ON orders
+FOR EACH ROW
+BEGIN
+  :NEW.updated_at := SYSDATE;
+  IF :NEW.status IS NULL THEN
+    :NEW.status := 'NEW';
+  END IF;
+  SELECT seq_orders.NEXTVAL INTO :NEW.order_seq FROM dual;
+END;
+/
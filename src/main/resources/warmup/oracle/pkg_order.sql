@@ -0,0 +1,60 @@
+CREATE OR REPLACE PACKAGE pkg_order AS
+  g_default_status VARCHAR2(10) := 'NEW';
+  c_max_items CONSTANT NUMBER := 100;
+  FUNCTION get_total(p_order_id IN NUMBER) RETURN NUMBER;
+  PROCEDURE close_order(p_order_id IN NUMBER);
+END pkg_order;
+/
+
+CREATE OR REPLACE PACKAGE BODY pkg_order AS
+
+  FUNCTION get_total(p_order_id IN NUMBER) RETURN NUMBER
+  IS
+    v_total NUMBER := 0;
+  BEGIN
+    SELECT SUM(price * qty)
+      INTO v_total
+      FROM order_items
+     WHERE order_id = p_order_id;
+    RETURN NVL(v_total, 0);
+  EXCEPTION
+    WHEN NO_DATA_FOUND THEN
+      RETURN 0;
+  END get_total;
+
+  PROCEDURE close_order(p_order_id IN NUMBER)
+  AS
+    CURSOR c_items IS
+      SELECT item_id, qty FROM order_items WHERE order_id = p_order_id;
+    v_item c_items%ROWTYPE;
+  BEGIN
+    OPEN c_items;
+    LOOP
+      FETCH c_items INTO v_item;
+      EXIT WHEN c_items%NOTFOUND;
+      UPDATE stock
+         SET qty = qty - v_item.qty
+       WHERE item_id = v_item.item_id;
+    END LOOP;
+    CLOSE c_items;
+
+    IF get_total(p_order_id) > 1000 THEN
+      INSERT INTO audit_log (order_id, msg) VALUES (p_order_id, 'BIG ORDER');
+    ELSIF get_total(p_order_id) = 0 THEN
+      DELETE FROM orders WHERE order_id = p_order_id;
+    ELSE
+      log_message('normal order');
+    END IF;
+
+    BEGIN
+      UPDATE orders SET status = 'CLOSED' WHERE order_id = p_order_id;
+      COMMIT;
+    EXCEPTION
+      WHEN OTHERS THEN
+        ROLLBACK;
+        RAISE_APPLICATION_ERROR(-20001, 'close failed');
+    END;
+  END close_order;
+
+END pkg_order;
+/
@@ -0,0 +1,46 @@
+CREATE OR REPLACE PROCEDURE proc_sync_customer(p_batch_id IN NUMBER, p_result OUT VARCHAR2)
+IS
+  v_count   NUMBER := 0;
+  v_sql     VARCHAR2(4000);
+BEGIN
+  MERGE INTO customer_master m
+  USING (SELECT cust_id, cust_name, grade FROM customer_stage WHERE batch_id = p_batch_id) s
+     ON (m.cust_id = s.cust_id)
+   WHEN MATCHED THEN
+     UPDATE SET m.cust_name = s.cust_name, m.grade = s.grade
+     DELETE WHERE m.grade = 'X'
+   WHEN NOT MATCHED THEN
+     INSERT (cust_id, cust_name, grade) VALUES (s.cust_id, s.cust_name, s.grade);
+
+  FOR r IN (SELECT a.cust_id, b.addr
+              FROM customer_master a
+              JOIN customer_addr b ON a.cust_id = b.cust_id
+             WHERE a.grade = 'A'
+            UNION ALL
+            SELECT c.cust_id, c.addr FROM vip_customer c) LOOP
+    v_count := v_count + 1;
+    IF r.addr IS NULL THEN
+      v_sql := 'UPDATE customer_addr SET addr = ''UNKNOWN'' WHERE cust_id = :1';
+      EXECUTE IMMEDIATE v_sql USING r.cust_id;
+    END IF;
+  END LOOP;
+
+  WITH recent AS (
+    SELECT cust_id, MAX(order_date) last_dt FROM orders GROUP BY cust_id
+  )
+  SELECT COUNT(*) INTO v_count FROM recent WHERE last_dt > SYSDATE - 30;
+
+  FOR i IN 1 .. 10 LOOP
+    sync_log_pkg.write_log(p_batch_id, i);
+  END LOOP;
+
+  p_result := 'OK:' || v_count;
+  COMMIT;
+EXCEPTION
+  WHEN DUP_VAL_ON_INDEX THEN
+    p_result := 'DUP';
+  WHEN OTHERS THEN
+    p_result := SQLERRM;
+    ROLLBACK;
+END proc_sync_customer;
+/
@@ -0,0 +1,38 @@
+CREATE TABLE accounts (
+    id serial PRIMARY KEY,
+    owner text NOT NULL,
+    balance numeric(12,2) DEFAULT 0
+);
+
+CREATE INDEX idx_accounts_owner ON accounts (owner);
+
+CREATE OR REPLACE FUNCTION transfer(p_from int, p_to int, p_amount numeric)
+RETURNS boolean
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_balance numeric;
+BEGIN
+    SELECT balance INTO v_balance FROM accounts WHERE id = p_from;
+    IF v_balance < p_amount THEN
+        RAISE NOTICE 'insufficient funds';
+        RETURN false;
+    END IF;
+    UPDATE accounts SET balance = balance - p_amount WHERE id = p_from;
+    UPDATE accounts SET balance = balance + p_amount WHERE id = p_to;
+    INSERT INTO transfers(src, dst, amount) VALUES (p_from, p_to, p_amount);
+    PERFORM pg_notify('transfer', p_from::text);
+    RETURN true;
+EXCEPTION
+    WHEN others THEN
+        RETURN false;
+END;
+$$;
+
+INSERT INTO accounts (owner, balance) SELECT name, 100 FROM staging_users;
+DELETE FROM accounts WHERE balance = 0;
+GRANT SELECT ON accounts TO reporter;
+BEGIN;
+ALTER TABLE accounts ADD COLUMN created_at timestamp;
+COMMIT;
+CREATE VIEW rich AS SELECT * FROM accounts WHERE balance > (SELECT avg(balance) FROM accounts);
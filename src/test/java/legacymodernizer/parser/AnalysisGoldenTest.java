@@ -0,0 +1,243 @@
+package legacymodernizer.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import legacymodernizer.parser.antlr.NodeTree;
+import legacymodernizer.parser.service.parsing.AnalysisFormat;
+import legacymodernizer.parser.service.parsing.DbmsParserStrategy;
+import legacymodernizer.parser.service.parsing.DmlPostgreSqlParserStrategy;
+import legacymodernizer.parser.service.parsing.ParseMetrics;
+import legacymodernizer.parser.service.parsing.ParseTreePruningPolicy;
+import legacymodernizer.parser.service.parsing.ParserPoolRegistry;
+import legacymodernizer.parser.service.parsing.ParsingExecutor;
+import legacymodernizer.parser.service.parsing.PlSqlParserStrategy;
+import legacymodernizer.parser.service.parsing.PlpgsqlBodyParser;
+import legacymodernizer.parser.service.parsing.PostgreSqlParserStrategy;
+import legacymodernizer.parser.service.parsing.SplitParser;
+import legacymodernizer.parser.service.parsing.StreamingOutputPolicy;
+import legacymodernizer.parser.service.parsing.TwoStageParser;
+
+/**
+ * 워밍업 코퍼스 분석 결과 골든 테스트
+ * - src/main/resources/warmup/{전략 코퍼스 디렉터리}/*.sql 을 전략별로 파싱하여 src/test/resources/golden/{전략}/{파일명}.json 과 비교
+ * - 같은 입력을 일반/가지치기/분할/스트리밍 경로로 각각 파싱해도 결과 JSON이 바이트 단위로 같아야 함
+ * - 결과가 의도적으로 바뀌는 변경은 해당 전략의 분석 버전을 올리고 골든을 다시 생성:
+ *   mvn test -Dtest=AnalysisGoldenTest -Dgolden.update=true
+ */
+public class AnalysisGoldenTest {
+
+    private static final Path CORPUS_DIR = Paths.get("src/main/resources/warmup");
+    private static final Path GOLDEN_DIR = Paths.get("src/test/resources/golden");
+    private static final boolean UPDATE = Boolean.getBoolean("golden.update");
+
+    /** 불일치 위치 앞뒤로 보여줄 글자 수 */
+    private static final int CONTEXT_CHARS = 80;
+
+    @TempDir
+    Path outputDir;
+
+    private final List<ParsingExecutor> executors = new ArrayList<>();
+
+    /**
+     * 파싱 경로
+     */
+    enum Route {
+        /** 가지치기/분할/스트리밍 모두 끔 */
+        PLAIN(false, false, 0),
+        /** 파싱 중 파스 트리 가지치기 (기본 설정) */
+        PRUNED(true, false, 0),
+        /** 최상위 단위 분할 병렬 파싱 (모든 파일을 분할 대상으로) */
+        SPLIT(true, true, 0),
+        /** 최상위 단위 스트리밍 출력 (모든 파일을 스트리밍 대상으로) */
+        STREAMED(true, false, 1);
+
+        final boolean prune;
+        final boolean split;
+        final long streamingMinTokens;
+
+        Route(boolean prune, boolean split, long streamingMinTokens) {
+            this.prune = prune;
+            this.split = split;
+            this.streamingMinTokens = streamingMinTokens;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        executors.forEach(ParsingExecutor::shutdown);
+    }
+
+    // ========================================
+    // 테스트 케이스
+    // ========================================
+
+    /**
+     * 경로별 분석 결과가 골든과 같은지 확인
+     * - 분할/스트리밍 경로는 실제로 그 경로를 탔는지도 확인 (조용히 순차 파싱으로 돌아가면 비교가 무의미)
+     */
+    @ParameterizedTest
+    @EnumSource(Route.class)
+    void corpusMatchesGolden(Route route) throws Exception {
+        CountingSplitParser splitParser = new CountingSplitParser(executor(4), route.split);
+        CountingStreamingOutputPolicy streamingPolicy = new CountingStreamingOutputPolicy(route.streamingMinTokens);
+        List<DbmsParserStrategy> strategies = strategies(route, splitParser, streamingPolicy);
+
+        int files = 0;
+        for (DbmsParserStrategy strategy : strategies) {
+            String type = strategy.getSupportedDbmsType();
+            for (File source : corpus(strategy)) {
+                String name = source.getName().replaceFirst("\\.sql$", "") + ".json";
+                Path actual = outputDir.resolve(type + "_" + name);
+                strategy.parseFile(source, actual.toString(), AnalysisFormat.JSON);
+                files++;
+
+                Path golden = GOLDEN_DIR.resolve(type).resolve(name);
+                if (UPDATE && route == Route.PLAIN) {
+                    Files.createDirectories(golden.getParent());
+                    Files.copy(actual, golden, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+                    continue;
+                }
+                assertTrue(Files.exists(golden), "골든 파일이 없습니다 (-Dgolden.update=true로 생성): " + golden);
+                assertSameContent(golden, actual, route + " " + type + "/" + source.getName());
+            }
+            if (route.split) {
+                assertTrue(splitParser.splitCount(type) > 0, route + " " + type + ": 분할 파싱된 파일이 없습니다");
+            }
+        }
+        assertTrue(files > 0, "워밍업 코퍼스가 비어 있습니다: " + CORPUS_DIR.toAbsolutePath());
+        if (route.streamingMinTokens > 0) {
+            assertEquals(files, streamingPolicy.accepted.get(), route + ": 스트리밍하지 않은 파일이 있습니다");
+        } else {
+            assertEquals(0, streamingPolicy.accepted.get(), route + ": 스트리밍 대상이 아닌데 스트리밍했습니다");
+        }
+    }
+
+    // ========================================
+    // 전략 구성
+    // ========================================
+
+    private List<DbmsParserStrategy> strategies(Route route, SplitParser splitParser, StreamingOutputPolicy streamingPolicy) {
+        TwoStageParser twoStageParser = new TwoStageParser(true);
+        ParseMetrics parseMetrics = new ParseMetrics(new SimpleMeterRegistry());
+        ParserPoolRegistry parserPoolRegistry = new ParserPoolRegistry(executor(2));
+        ParseTreePruningPolicy pruningPolicy = new ParseTreePruningPolicy(route.prune);
+        PlpgsqlBodyParser bodyParser = new PlpgsqlBodyParser(executor(2), parserPoolRegistry, twoStageParser);
+        return List.of(
+                new PlSqlParserStrategy(null, twoStageParser, parserPoolRegistry, parseMetrics,
+                        splitParser, pruningPolicy, streamingPolicy),
+                new PostgreSqlParserStrategy(null, twoStageParser, parserPoolRegistry, parseMetrics,
+                        splitParser, bodyParser, pruningPolicy, streamingPolicy),
+                new DmlPostgreSqlParserStrategy(null, twoStageParser, parserPoolRegistry, parseMetrics,
+                        splitParser, pruningPolicy, streamingPolicy));
+    }
+
+    private ParsingExecutor executor(int poolSize) {
+        ParsingExecutor executor = new ParsingExecutor(poolSize, false);
+        executors.add(executor);
+        return executor;
+    }
+
+    private static File[] corpus(DbmsParserStrategy strategy) {
+        File[] files = CORPUS_DIR.resolve(strategy.getWarmupCorpusDirectory()).toFile()
+                .listFiles((dir, name) -> name.endsWith(".sql"));
+        assertNotNull(files, "코퍼스 디렉터리가 없습니다: " + strategy.getWarmupCorpusDirectory());
+        Arrays.sort(files);
+        return files;
+    }
+
+    // ========================================
+    // 비교
+    // ========================================
+
+    /**
+     * 두 파일이 같은지 확인 (한 줄 JSON이므로 첫 불일치 위치 주변만 보여줌)
+     */
+    private static void assertSameContent(Path golden, Path actual, String label) throws Exception {
+        String expected = Files.readString(golden, StandardCharsets.UTF_8);
+        String result = Files.readString(actual, StandardCharsets.UTF_8);
+        if (expected.equals(result)) {
+            return;
+        }
+        int at = 0;
+        int limit = Math.min(expected.length(), result.length());
+        while (at < limit && expected.charAt(at) == result.charAt(at)) {
+            at++;
+        }
+        int from = Math.max(0, at - CONTEXT_CHARS);
+        fail(label + ": 골든과 다릅니다 (위치 " + at + ")\n"
+                + "  골든: ..." + expected.substring(from, Math.min(expected.length(), at + CONTEXT_CHARS)) + "\n"
+                + "  결과: ..." + result.substring(from, Math.min(result.length(), at + CONTEXT_CHARS)));
+    }
+
+    // ========================================
+    // 경로 확인용 정책
+    // ========================================
+
+    /**
+     * 분할 파싱이 실제로 구간을 나눠 결과를 낸 횟수를 전략별로 집계
+     * - 구간 기준을 1토큰으로 낮춰 작은 코퍼스 파일도 최상위 단위마다 나뉘도록 함
+     */
+    static final class CountingSplitParser extends SplitParser {
+
+        private final Map<String, AtomicInteger> splits = new ConcurrentHashMap<>();
+
+        CountingSplitParser(ParsingExecutor parsingExecutor, boolean enabled) {
+            super(parsingExecutor, enabled, 1, 1);
+        }
+
+        @Override
+        public NodeTree parse(String strategyType, String sourceName, CommonTokenStream tokens,
+                              int openParen, int closeParen, Boundary boundary, ChunkParser chunkParser) {
+            NodeTree root = super.parse(strategyType, sourceName, tokens, openParen, closeParen, boundary, chunkParser);
+            if (root != null) {
+                splits.computeIfAbsent(strategyType, key -> new AtomicInteger()).incrementAndGet();
+            }
+            return root;
+        }
+
+        int splitCount(String strategyType) {
+            AtomicInteger count = splits.get(strategyType);
+            return count == null ? 0 : count.get();
+        }
+    }
+
+    /**
+     * 스트리밍 출력을 허용한 횟수 집계
+     */
+    static final class CountingStreamingOutputPolicy extends StreamingOutputPolicy {
+
+        private final AtomicInteger accepted = new AtomicInteger();
+
+        CountingStreamingOutputPolicy(long minTokens) {
+            super(minTokens);
+        }
+
+        @Override
+        public boolean accepts(AnalysisFormat format, int tokens) {
+            boolean accepts = super.accepts(format, tokens);
+            if (accepts) {
+                accepted.incrementAndGet();
+            }
+            return accepts;
+        }
+    }
+}
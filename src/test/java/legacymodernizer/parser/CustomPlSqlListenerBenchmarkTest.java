@@ -0,0 +1,137 @@
+package legacymodernizer.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import legacymodernizer.parser.antlr.CaseChangingCharStream;
+import legacymodernizer.parser.antlr.CustomPlSqlListener;
+import legacymodernizer.parser.antlr.plsql.PlSqlLexer;
+import legacymodernizer.parser.antlr.plsql.PlSqlParser;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CustomPlSqlListener 순회 시간 회귀 벤치마크
+ * - 중첩 BEGIN-END 블록/UNION 체인 수를 2배씩 늘려가며 순회 시간이 선형으로 증가하는지 확인
+ * - 실행 환경 편차가 크므로 기본 비활성화: mvn test -Dbenchmark=true -Dtest=CustomPlSqlListenerBenchmarkTest
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class CustomPlSqlListenerBenchmarkTest {
+
+    private static final int[] SIZES = { 25, 50, 100, 200 };
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURE_ROUNDS = 31;
+
+    /** 크기 2배당 허용 시간 증가율 (선형이면 약 2배, 이전 getText 방식은 약 4배) */
+    private static final double MAX_GROWTH_PER_DOUBLING = 3.0;
+
+    @Test
+    void listenerWalkIsLinearInFileSize() {
+        List<ParsedFile> inputs = new ArrayList<>();
+        for (int size : SIZES) {
+            inputs.add(parse(nestedBlocks(size) + "\n" + unionChain(size)));
+        }
+        // JIT 워밍업은 모든 크기에 대해 먼저 수행 (작은 입력이 콜드 상태로 측정되지 않도록)
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            inputs.forEach(CustomPlSqlListenerBenchmarkTest::walk);
+        }
+
+        List<Double> perUnitNanos = new ArrayList<>();
+        double previous = -1;
+        for (int n = 0; n < SIZES.length; n++) {
+            int size = SIZES[n];
+            ParsedFile parsed = inputs.get(n);
+            long[] samples = new long[MEASURE_ROUNDS];
+            for (int i = 0; i < MEASURE_ROUNDS; i++) {
+                long start = System.nanoTime();
+                walk(parsed);
+                samples[i] = System.nanoTime() - start;
+            }
+            // GC/스케줄링 잡음을 줄이기 위해 최솟값 사용
+            double best = Arrays.stream(samples).min().getAsLong();
+            perUnitNanos.add(best / size);
+            log.info("[listener-benchmark] size={} tokens={} walk={}ms",
+                    size, parsed.tokens.size(), String.format("%.3f", best / 1_000_000));
+
+            if (previous > 0) {
+                double growth = best / previous;
+                assertTrue(growth < MAX_GROWTH_PER_DOUBLING,
+                        "순회 시간이 선형보다 빠르게 증가합니다: size=" + size + ", 증가율=" + growth
+                                + ", ns/unit=" + perUnitNanos);
+            }
+            previous = best;
+        }
+        log.info("[listener-benchmark] ns/unit = {}", perUnitNanos);
+    }
+
+    // ========================================
+    // 입력 생성
+    // ========================================
+
+    /**
+     * depth 단계로 중첩된 BEGIN-END 블록을 가진 프로시저
+     */
+    private static String nestedBlocks(int depth) {
+        StringBuilder sb = new StringBuilder("CREATE OR REPLACE PROCEDURE bench_nested IS\nBEGIN\n");
+        for (int i = 0; i < depth; i++) {
+            sb.append("  BEGIN\n    UPDATE t SET c = c + 1 WHERE id = ").append(i).append(";\n");
+        }
+        for (int i = 0; i < depth; i++) {
+            sb.append("  END;\n");
+        }
+        sb.append("END bench_nested;\n/\n");
+        return sb.toString();
+    }
+
+    /**
+     * count개의 UNION ALL로 연결된 SELECT를 가진 프로시저
+     */
+    private static String unionChain(int count) {
+        StringBuilder sb = new StringBuilder("CREATE OR REPLACE PROCEDURE bench_union IS\nBEGIN\n  INSERT INTO t\n  SELECT 0 FROM dual\n");
+        for (int i = 1; i <= count; i++) {
+            sb.append("  UNION ALL SELECT ").append(i).append(" FROM dual\n");
+        }
+        sb.append("  ;\nEND bench_union;\n/\n");
+        return sb.toString();
+    }
+
+    // ========================================
+    // 파싱/순회
+    // ========================================
+
+    private static ParsedFile parse(String source) {
+        PlSqlLexer lexer = new PlSqlLexer(new CaseChangingCharStream(CharStreams.fromString(source), true));
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        PlSqlParser parser = new PlSqlParser(tokens);
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        ParserRuleContext tree = parser.sql_script();
+        assertEquals(0, parser.getNumberOfSyntaxErrors(), "벤치마크 입력 파싱 오류");
+        return new ParsedFile(tokens, tree);
+    }
+
+    private static void walk(ParsedFile parsed) {
+        CustomPlSqlListener listener = new CustomPlSqlListener(parsed.tokens);
+        listener.walk(parsed.tree);
+        assertNotNull(listener.getTree());
+    }
+
+    private static final class ParsedFile {
+        private final CommonTokenStream tokens;
+        private final ParserRuleContext tree;
+
+        private ParsedFile(CommonTokenStream tokens, ParserRuleContext tree) {
+            this.tokens = tokens;
+            this.tree = tree;
+        }
+    }
+}